@@ -31,6 +31,11 @@ public class MidgardCore {
     private static PlaceholderRegistry placeholderRegistry;
     private static NMSHandler nmsHandler;
     private static ModuleManager moduleManager;
+    private static me.ray.midgard.core.effect.EffectManager effectManager;
+    private static me.ray.midgard.core.utils.CooldownManager cooldownManager;
+    private static me.ray.midgard.core.spatial.SpatialIndex spatialIndex;
+    private static me.ray.midgard.core.database.DatabaseManager databaseManager;
+    private static me.ray.midgard.core.attribute.StatUpdateScheduler statUpdateScheduler;
     
     private static boolean loaded = false;
 
@@ -65,7 +70,9 @@ public class MidgardCore {
             // Initialize Region Provider
             if (plugin.getServer().getPluginManager().isPluginEnabled("WorldGuard")) {
                 try {
-                    RegionManager.getInstance().setProvider(new WorldGuardIntegration());
+                    WorldGuardIntegration worldGuard = new WorldGuardIntegration();
+                    plugin.getServer().getPluginManager().registerEvents(worldGuard, plugin);
+                    RegionManager.getInstance().setProvider(worldGuard);
                     plugin.getLogger().info("Integração com WorldGuard habilitada.");
                 } catch (Throwable e) {
                      plugin.getLogger().warning("Falha ao integrar com WorldGuard: " + e.getMessage());
@@ -110,7 +117,72 @@ public class MidgardCore {
     public static ModuleManager getModuleManager() {
         return moduleManager;
     }
+
+    public static void setEffectManager(me.ray.midgard.core.effect.EffectManager manager) {
+        effectManager = manager;
+    }
+
+    /**
+     * Obtém o motor de efeitos de status (jogadores e entidades).
+     *
+     * @return Gerenciador de efeitos.
+     */
+    public static me.ray.midgard.core.effect.EffectManager getEffectManager() {
+        return effectManager;
+    }
+
+    public static void setCooldownManager(me.ray.midgard.core.utils.CooldownManager manager) {
+        cooldownManager = manager;
+    }
+
+    /**
+     * Obtém o serviço de cooldowns compartilhado.
+     *
+     * @return Gerenciador de cooldowns.
+     */
+    public static me.ray.midgard.core.utils.CooldownManager getCooldownManager() {
+        return cooldownManager;
+    }
+
+    public static void setSpatialIndex(me.ray.midgard.core.spatial.SpatialIndex index) {
+        spatialIndex = index;
+    }
+
+    /**
+     * Obtém o índice espacial de jogadores e mobs rastreados.
+     *
+     * @return Índice espacial.
+     */
+    public static me.ray.midgard.core.spatial.SpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
     
+    public static void setDatabaseManager(me.ray.midgard.core.database.DatabaseManager manager) {
+        databaseManager = manager;
+    }
+
+    /**
+     * Obtém o gerenciador de banco de dados compartilhado.
+     *
+     * @return Gerenciador de banco de dados.
+     */
+    public static me.ray.midgard.core.database.DatabaseManager getDatabaseManager() {
+        return databaseManager;
+    }
+
+    public static void setStatUpdateScheduler(me.ray.midgard.core.attribute.StatUpdateScheduler scheduler) {
+        statUpdateScheduler = scheduler;
+    }
+
+    /**
+     * Obtém o agendador de recálculo de atributos por fim de tick.
+     *
+     * @return Agendador de recálculo.
+     */
+    public static me.ray.midgard.core.attribute.StatUpdateScheduler getStatUpdateScheduler() {
+        return statUpdateScheduler;
+    }
+
     /**
      * Define o registro de comandos administrativos.
      * 
@@ -194,6 +266,11 @@ public class MidgardCore {
         languageManager = null;
         commandManager = null;
         lootManager = null;
+        effectManager = null;
+        cooldownManager = null;
+        spatialIndex = null;
+        databaseManager = null;
+        statUpdateScheduler = null;
         loaded = false;
     }
 }
@@ -1,6 +1,7 @@
 package me.ray.midgard.core.attribute;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,6 +31,10 @@ public class AttributeInstance {
         this.dirty = true;
     }
 
+    public List<AttributeModifier> getModifiers() {
+        return Collections.unmodifiableList(modifiers);
+    }
+
     public void addModifier(AttributeModifier modifier) {
         modifiers.add(modifier);
         dirty = true;
@@ -0,0 +1,138 @@
+package me.ray.midgard.core.attribute;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import me.ray.midgard.core.debug.MidgardLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Agrupa os recálculos de atributos de cada jogador no fim do tick.
+ * <p>
+ * Eventos marcam a fase que mudou com {@link #markDirty(UUID, Phase)}; marcar
+ * uma fase marca também as seguintes, já que elas dependem do resultado. No
+ * {@link ServerTickEndEvent} cada jogador marcado passa uma única vez pelas fases
+ * na ordem de {@link Phase}, não importa quantos eventos ocorreram no tick.
+ * <p>
+ * Os módulos registram o trabalho de cada fase com
+ * {@link #register(Phase, Consumer)}. Uso exclusivo da thread principal.
+ */
+public class StatUpdateScheduler implements Listener {
+
+    /**
+     * Fases de recálculo, na ordem em que são executadas.
+     */
+    public enum Phase {
+        /** Atributos base da classe e pontos distribuídos. */
+        CLASS,
+        /** Modificadores dos itens equipados. */
+        EQUIPMENT,
+        /** Escalonamento de atributos primários para secundários. */
+        SCALING,
+        /** Sincronização da vida visual com a vida do RPG. */
+        HEALTH
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final Map<Phase, List<Consumer<Player>>> handlers = new EnumMap<>(Phase.class);
+    private final Map<UUID, EnumSet<Phase>> dirty = new LinkedHashMap<>();
+
+    // Jogador sendo processado no momento e as fases pendentes dele
+    private UUID flushing;
+    private EnumSet<Phase> flushingPhases;
+    private Phase flushingPhase;
+
+    public StatUpdateScheduler(JavaPlugin plugin) {
+        for (Phase phase : PHASES) {
+            handlers.put(phase, new ArrayList<>());
+        }
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    public void register(Phase phase, Consumer<Player> handler) {
+        handlers.get(phase).add(handler);
+    }
+
+    public void unregister(Phase phase, Consumer<Player> handler) {
+        handlers.get(phase).remove(handler);
+    }
+
+    public void markDirty(Player player, Phase phase) {
+        markDirty(player.getUniqueId(), phase);
+    }
+
+    /**
+     * Agenda o recálculo da fase (e das seguintes) para o fim do tick.
+     */
+    public void markDirty(UUID uuid, Phase phase) {
+        // Marcado durante o próprio processamento: fases à frente entram nesta passada
+        if (uuid.equals(flushing) && phase.ordinal() > flushingPhase.ordinal()) {
+            flushingPhases.addAll(EnumSet.range(phase, Phase.HEALTH));
+            return;
+        }
+        dirty.computeIfAbsent(uuid, id -> EnumSet.noneOf(Phase.class)).addAll(EnumSet.range(phase, Phase.HEALTH));
+    }
+
+    /**
+     * Processa agora os recálculos pendentes de todos os jogadores.
+     */
+    public void flush() {
+        if (dirty.isEmpty()) return;
+
+        List<Map.Entry<UUID, EnumSet<Phase>>> batch = new ArrayList<>(dirty.entrySet());
+        dirty.clear();
+
+        for (Map.Entry<UUID, EnumSet<Phase>> entry : batch) {
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null) continue;
+
+            flushing = entry.getKey();
+            flushingPhases = entry.getValue();
+            try {
+                for (Phase phase : PHASES) {
+                    if (!flushingPhases.contains(phase)) continue;
+                    flushingPhase = phase;
+                    run(player, phase);
+                }
+            } finally {
+                flushing = null;
+                flushingPhases = null;
+                flushingPhase = null;
+            }
+        }
+    }
+
+    private void run(Player player, Phase phase) {
+        for (Consumer<Player> handler : handlers.get(phase)) {
+            try {
+                handler.accept(player);
+            } catch (Exception e) {
+                MidgardLogger.error("Erro ao recalcular atributos (" + phase + ") de " + player.getName(), e);
+            }
+        }
+    }
+
+    @EventHandler
+    public void onTickEnd(ServerTickEndEvent event) {
+        flush();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        dirty.remove(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,81 @@
+package me.ray.midgard.core.cooldown;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interna chaves de cooldown ({@code "spell:fireball"}) em IDs inteiros densos.
+ * <p>
+ * Os IDs indexam diretamente os arrays de {@link PlayerCooldowns}; resolva o ID
+ * uma vez (no load da spell/habilidade) e use-o no caminho quente. IDs valem só
+ * durante a execução do servidor; a persistência usa o nome da chave.
+ */
+public final class CooldownRegistry {
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[64];
+    private static volatile boolean[] persistent = new boolean[64];
+    private static int size;
+
+    private CooldownRegistry() {
+    }
+
+    /**
+     * Obtém (ou cria) o ID de uma chave não persistente.
+     */
+    public static int intern(String key) {
+        return intern(key, false);
+    }
+
+    /**
+     * Obtém (ou cria) o ID de uma chave.
+     *
+     * @param key Chave do cooldown.
+     * @param persist Se o cooldown deve ser salvo no perfil do jogador.
+     */
+    public static int intern(String key, boolean persist) {
+        Integer id = IDS.get(key);
+        if (id != null && (!persist || persistent[id])) return id;
+        return register(key, persist);
+    }
+
+    private static synchronized int register(String key, boolean persist) {
+        Integer existing = IDS.get(key);
+        if (existing != null) {
+            if (persist) persistent[existing] = true;
+            return existing;
+        }
+
+        int id = size;
+        if (id == names.length) {
+            persistent = Arrays.copyOf(persistent, id * 2);
+            names = Arrays.copyOf(names, id * 2);
+        }
+        names[id] = key;
+        persistent[id] = persist;
+        size = id + 1;
+        IDS.put(key, id);
+        return id;
+    }
+
+    /**
+     * @return ID da chave, ou -1 se nunca foi internada.
+     */
+    public static int find(String key) {
+        Integer id = IDS.get(key);
+        return id != null ? id : -1;
+    }
+
+    public static synchronized int size() {
+        return size;
+    }
+
+    public static String getName(int id) {
+        return names[id];
+    }
+
+    public static boolean isPersistent(int id) {
+        return persistent[id];
+    }
+}
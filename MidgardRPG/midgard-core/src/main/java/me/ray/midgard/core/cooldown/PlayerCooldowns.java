@@ -0,0 +1,132 @@
+package me.ray.midgard.core.cooldown;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import me.ray.midgard.core.profile.ModuleData;
+import org.bukkit.Bukkit;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Cooldowns de um jogador em um array primitivo indexado pelo ID interno.
+ * <p>
+ * Cada posição guarda o tick do servidor em que o cooldown termina. A verificação
+ * é um acesso a array e duas comparações, sem hash nem boxing. Escritas ocorrem na
+ * main thread; leituras assíncronas veem o array publicado pelo campo volátil.
+ * <p>
+ * Quando armazenado no {@link me.ray.midgard.core.profile.MidgardProfile}, os
+ * cooldowns de chaves persistentes são salvos como horário absoluto (epoch ms),
+ * de modo que o tempo continua correndo com o jogador offline.
+ */
+@JsonAdapter(PlayerCooldowns.Adapter.class)
+public final class PlayerCooldowns implements ModuleData {
+
+    private static final int MILLIS_PER_TICK = 50;
+
+    private volatile int[] expires = new int[16];
+
+    /**
+     * @param id ID de {@link CooldownRegistry}.
+     * @param now Tick atual ({@link Bukkit#getCurrentTick()}).
+     */
+    public boolean isActive(int id, int now) {
+        int[] e = expires;
+        return id < e.length && e[id] - now > 0;
+    }
+
+    public boolean isActive(int id) {
+        return isActive(id, Bukkit.getCurrentTick());
+    }
+
+    /**
+     * @return Ticks restantes, ou 0.
+     */
+    public int getRemainingTicks(int id, int now) {
+        int[] e = expires;
+        return id < e.length ? Math.max(0, e[id] - now) : 0;
+    }
+
+    public int getRemainingTicks(int id) {
+        return getRemainingTicks(id, Bukkit.getCurrentTick());
+    }
+
+    public long getRemainingMillis(int id) {
+        return (long) getRemainingTicks(id) * MILLIS_PER_TICK;
+    }
+
+    /**
+     * Inicia um cooldown de {@code ticks} a partir de agora.
+     */
+    public void set(int id, int ticks) {
+        setExpiry(id, Bukkit.getCurrentTick() + Math.max(0, ticks));
+    }
+
+    public void clear(int id) {
+        int[] e = expires;
+        if (id < e.length) e[id] = 0;
+    }
+
+    private void setExpiry(int id, int expireTick) {
+        int[] e = expires;
+        if (id >= e.length) {
+            synchronized (this) {
+                e = expires;
+                if (id >= e.length) {
+                    e = Arrays.copyOf(e, Math.max(id + 1, e.length * 2));
+                    expires = e;
+                }
+            }
+        }
+        e[id] = expireTick;
+    }
+
+    /**
+     * Converte segundos em ticks, arredondando para cima.
+     */
+    public static int toTicks(double seconds) {
+        return (int) Math.ceil(seconds * 20.0);
+    }
+
+    /**
+     * Importa um cooldown legado salvo como epoch ms de término.
+     */
+    public void setExpiryMillis(int id, long expiresAtMillis) {
+        long remaining = expiresAtMillis - System.currentTimeMillis();
+        if (remaining > 0) {
+            set(id, (int) Math.min(Integer.MAX_VALUE / 2, (remaining + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK));
+        }
+    }
+
+    public static class Adapter extends TypeAdapter<PlayerCooldowns> {
+        @Override
+        public void write(JsonWriter out, PlayerCooldowns value) throws IOException {
+            int now = Bukkit.getCurrentTick();
+            long nowMillis = System.currentTimeMillis();
+            int[] e = value.expires;
+
+            out.beginObject();
+            for (int id = 0, count = Math.min(e.length, CooldownRegistry.size()); id < count; id++) {
+                int remaining = e[id] - now;
+                if (remaining <= 0 || !CooldownRegistry.isPersistent(id)) continue;
+                out.name(CooldownRegistry.getName(id)).value(nowMillis + (long) remaining * MILLIS_PER_TICK);
+            }
+            out.endObject();
+        }
+
+        @Override
+        public PlayerCooldowns read(JsonReader in) throws IOException {
+            PlayerCooldowns data = new PlayerCooldowns();
+            in.beginObject();
+            while (in.hasNext()) {
+                String key = in.nextName();
+                long expiresAt = in.nextLong();
+                data.setExpiryMillis(CooldownRegistry.intern(key, true), expiresAt);
+            }
+            in.endObject();
+            return data;
+        }
+    }
+}
@@ -3,9 +3,7 @@ package me.ray.midgard.core.effect;
 import me.ray.midgard.core.attribute.AttributeInstance;
 import me.ray.midgard.core.attribute.AttributeModifier;
 import me.ray.midgard.core.attribute.CoreAttributeData;
-import me.ray.midgard.core.profile.MidgardProfile;
-import me.ray.midgard.core.script.ScriptEngine;
-import org.bukkit.entity.Player;
+import org.bukkit.Bukkit;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,7 +14,12 @@ public class ActiveEffect {
     private final StatusEffect effect;
     private final UUID applierId;
     private long remainingDuration;
-    private long ticksSinceLastTick;
+
+    // Scheduling state (server ticks). Only valid while scheduled.
+    private boolean scheduled;
+    private long expireTick;
+    private long nextPulseTick;
+    private int generation;
     
     private final List<AppliedModifier> appliedModifiers = new ArrayList<>();
     private transient boolean initialized = false;
@@ -27,22 +30,19 @@ public class ActiveEffect {
         this.applierId = applierId;
     }
 
-    public void start(MidgardProfile profile) {
-        Player player = profile.getPlayer();
-        if (player != null) {
-            ScriptEngine.executeActions(player, effect.getOnStartActions());
-        }
-        applyModifiers(profile);
+    public void start(EffectTarget target) {
+        effect.getCompiledOnStart().execute(target.getEntity());
+        applyModifiers(target);
         this.initialized = true;
     }
     
-    public void resume(MidgardProfile profile) {
-        applyModifiers(profile);
+    public void resume(EffectTarget target) {
+        applyModifiers(target);
         this.initialized = true;
     }
 
-    private void applyModifiers(MidgardProfile profile) {
-        CoreAttributeData data = profile.getData(CoreAttributeData.class);
+    private void applyModifiers(EffectTarget target) {
+        CoreAttributeData data = target.getAttributes();
         if (data != null) {
             for (StatusEffect.EffectModifier em : effect.getAttributeModifiers()) {
                 AttributeInstance instance = data.getInstance(em.getAttributeId());
@@ -60,35 +60,82 @@ public class ActiveEffect {
         }
     }
 
-    public boolean tick(MidgardProfile profile) {
+    /**
+     * Agenda o efeito a partir do tick atual usando a duração restante.
+     * Invalida qualquer agendamento anterior.
+     *
+     * @return Geração do agendamento, usada para descartar entradas obsoletas.
+     */
+    int schedule(long now) {
+        long interval = effect.getTickInterval();
+        this.expireTick = now + remainingDuration;
+        this.nextPulseTick = interval > 0 ? now + interval : Long.MAX_VALUE;
+        this.scheduled = true;
+        return ++generation;
+    }
+
+    /**
+     * Remove o efeito do agendador, congelando a duração restante.
+     */
+    void unschedule(long now) {
+        if (!scheduled) return;
+        this.remainingDuration = Math.max(0, expireTick - now);
+        this.scheduled = false;
+        generation++;
+    }
+
+    /**
+     * Redefine a duração restante e reagenda o efeito.
+     */
+    int reschedule(long duration, long now) {
+        long interval = effect.getTickInterval();
+        long nextPulse = nextPulseTick;
+        this.remainingDuration = duration;
+        int gen = schedule(now);
+        // Preserve the pulse phase so refreshing does not delay the next tick
+        if (interval > 0 && nextPulse != Long.MAX_VALUE && nextPulse > now) {
+            this.nextPulseTick = nextPulse;
+        }
+        return gen;
+    }
+
+    /**
+     * Processa o efeito no tick em que ele está devido.
+     *
+     * @return true se o efeito expirou.
+     */
+    boolean runDue(EffectTarget target, long now) {
         if (!initialized) {
-            resume(profile);
+            resume(target);
         }
-        
-        remainingDuration--;
-        ticksSinceLastTick++;
-
-        if (effect.getTickInterval() > 0 && ticksSinceLastTick >= effect.getTickInterval()) {
-            ticksSinceLastTick = 0;
-            Player player = profile.getPlayer();
-            if (player != null) {
-                ScriptEngine.executeActions(player, effect.getOnTickActions());
-            }
+
+        if (nextPulseTick <= now && nextPulseTick <= expireTick) {
+            nextPulseTick += effect.getTickInterval();
+            effect.getCompiledOnTick().execute(target.getEntity());
         }
 
-        return remainingDuration <= 0;
+        return now >= expireTick;
     }
 
-    public void end(MidgardProfile profile) {
-        Player player = profile.getPlayer();
-        if (player != null) {
-            ScriptEngine.executeActions(player, effect.getOnEndActions());
-        }
-        removeModifiers(profile);
+    long getNextDueTick() {
+        return Math.min(nextPulseTick, expireTick);
+    }
+
+    boolean isScheduled() {
+        return scheduled;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    public void end(EffectTarget target) {
+        effect.getCompiledOnEnd().execute(target.getEntity());
+        removeModifiers(target);
     }
     
-    public void removeModifiers(MidgardProfile profile) {
-        CoreAttributeData data = profile.getData(CoreAttributeData.class);
+    public void removeModifiers(EffectTarget target) {
+        CoreAttributeData data = target.getAttributes();
         if (data != null) {
             for (AppliedModifier am : appliedModifiers) {
                 AttributeInstance instance = data.getInstance(am.attributeId);
@@ -105,6 +152,9 @@ public class ActiveEffect {
     }
     
     public long getRemainingDuration() {
+        if (scheduled) {
+            return Math.max(0, expireTick - Bukkit.getCurrentTick());
+        }
         return remainingDuration;
     }
     
@@ -1,49 +1,316 @@
 package me.ray.midgard.core.effect;
 
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import me.ray.midgard.core.attribute.AttributeInstance;
+import me.ray.midgard.core.attribute.AttributeModifier;
+import me.ray.midgard.core.attribute.CoreAttributeData;
 import me.ray.midgard.core.profile.MidgardProfile;
 import me.ray.midgard.core.profile.ProfileManager;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
-public class EffectManager {
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Motor de efeitos de status orientado a eventos.
+ * <p>
+ * Cada efeito ativo é agendado para o próximo tick em que algo acontece
+ * (pulso de {@code tickInterval} ou expiração). O timer só consulta o topo
+ * da fila, então ticks sem eventos custam O(1) independente do número de efeitos.
+ * Reagendamentos invalidam entradas antigas por geração, sem remoção da fila.
+ * <p>
+ * Jogadores usam o {@link EffectData} do perfil; demais {@link LivingEntity}
+ * usam um {@link EntityEffectData} em memória, indexado por UUID e descartado
+ * quando a entidade sai do mundo (morte, remoção, descarregamento do chunk) ou
+ * quando o timer encontra o alvo inválido. Ambos compartilham a mesma fila.
+ * <p>
+ * Efeitos salvos no perfil são agendados quando o perfil do jogador está
+ * disponível: no join, ou, para jogadores já online num reload (perfil ainda
+ * carregando em segundo plano), no primeiro tick ou acesso após a carga.
+ */
+public class EffectManager implements Listener {
 
     private final JavaPlugin plugin;
     private final ProfileManager profileManager;
+    private final PriorityQueue<ScheduledEffect> queue = new PriorityQueue<>();
+    private final Map<UUID, EntityEffectData> entityEffects = new HashMap<>();
+    // Jogadores online cujo perfil ainda não tinha carregado quando tentamos retomar os efeitos
+    private final Set<UUID> pendingResume = new HashSet<>();
+    private long sequence;
 
     public EffectManager(JavaPlugin plugin, ProfileManager profileManager) {
         this.plugin = plugin;
         this.profileManager = profileManager;
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (!scheduleLoaded(player)) pendingResume.add(player.getUniqueId());
+        }
         startTask();
     }
 
     private void startTask() {
-        Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                MidgardProfile profile = profileManager.getProfile(player.getUniqueId());
-                if (profile == null) continue;
-                
-                EffectData data = profile.getData(EffectData.class);
-                if (data == null || data.getActiveEffects().isEmpty()) continue;
-                
-                for (ActiveEffect effect : data.getActiveEffects()) {
-                    boolean expired = effect.tick(profile);
-                    if (expired) {
-                        effect.end(profile);
-                        data.removeEffect(effect);
+        Bukkit.getScheduler().runTaskTimer(plugin, this::processDue, 1L, 1L);
+    }
+
+    private void processDue() {
+        if (!pendingResume.isEmpty()) resumePending();
+
+        long now = Bukkit.getCurrentTick();
+        ScheduledEffect next;
+        while ((next = queue.peek()) != null && next.dueTick() <= now) {
+            queue.poll();
+            ActiveEffect effect = next.effect();
+            if (!effect.isScheduled() || effect.getGeneration() != next.generation()) continue;
+
+            EffectTarget target = next.target();
+            if (!target.isValid()) {
+                effect.unschedule(now);
+                // Mob removido sem evento conhecido: descarta a entrada
+                if (target instanceof EntityEffectData data) evict(data);
+                continue;
+            }
+
+            if (effect.runDue(target, now)) {
+                removeEffect(target, effect, now);
+            } else {
+                enqueue(target, effect, effect.getGeneration());
+            }
+        }
+    }
+
+    private void enqueue(EffectTarget target, ActiveEffect effect, int generation) {
+        queue.add(new ScheduledEffect(effect.getNextDueTick(), sequence++, target, effect, generation));
+    }
+
+    public void applyEffect(Player player, StatusEffect effect, long duration) {
+        applyEffect(player, effect, duration, player.getUniqueId());
+    }
+
+    /**
+     * Aplica um efeito respeitando o {@link StatusEffect.StackMode} configurado.
+     *
+     * @param entity Alvo (jogador ou qualquer entidade viva).
+     * @param effect Efeito.
+     * @param duration Duração em ticks.
+     * @param applierId Quem aplicou o efeito.
+     */
+    public void applyEffect(LivingEntity entity, StatusEffect effect, long duration, UUID applierId) {
+        EffectTarget target = getTarget(entity, true);
+        if (target == null) return;
+
+        long now = Bukkit.getCurrentTick();
+        List<ActiveEffect> existing = target.getEffects(effect.getId());
+
+        switch (effect.getStackMode()) {
+            case REFRESH:
+                if (!existing.isEmpty()) {
+                    ActiveEffect current = existing.get(0);
+                    long newDuration = Math.max(current.getRemainingDuration(), duration);
+                    enqueue(target, current, current.reschedule(newDuration, now));
+                    return;
+                }
+                break;
+            case EXTEND:
+                if (!existing.isEmpty()) {
+                    ActiveEffect current = existing.get(0);
+                    enqueue(target, current, current.reschedule(current.getRemainingDuration() + duration, now));
+                    return;
+                }
+                break;
+            case STACK:
+                if (existing.size() >= effect.getMaxStacks()) {
+                    ActiveEffect oldest = existing.get(0);
+                    for (ActiveEffect candidate : existing) {
+                        if (candidate.getRemainingDuration() < oldest.getRemainingDuration()) oldest = candidate;
                     }
+                    removeEffect(target, oldest, now);
                 }
+                break;
+        }
+
+        ActiveEffect active = new ActiveEffect(effect, duration, applierId);
+        target.addEffect(active);
+        active.start(target);
+        enqueue(target, active, active.schedule(now));
+    }
+
+    /**
+     * Remove todas as instâncias de um efeito da entidade, executando as ações de fim.
+     */
+    public void removeEffect(LivingEntity entity, String effectId) {
+        EffectTarget target = getTarget(entity, false);
+        if (target == null) return;
+
+        long now = Bukkit.getCurrentTick();
+        for (ActiveEffect effect : target.getEffects(effectId)) {
+            removeEffect(target, effect, now);
+        }
+    }
+
+    public boolean hasEffect(LivingEntity entity, String effectId) {
+        EffectTarget target = getTarget(entity, false);
+        if (target == null) return false;
+        for (ActiveEffect effect : target.getActiveEffects()) {
+            if (effect.getEffect().getId().equals(effectId)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Soma os modificadores de efeitos ativos de um mob aos atributos informados.
+     * Usado quando os atributos de mobs são montados temporariamente (ex.: cálculo de dano).
+     */
+    public void applyEntityModifiers(LivingEntity entity, CoreAttributeData into) {
+        EntityEffectData data = entityEffects.get(entity.getUniqueId());
+        if (data == null || data.getActiveEffects().isEmpty()) return;
+
+        for (Map.Entry<String, AttributeInstance> entry : data.getAttributes().getInstances().entrySet()) {
+            List<AttributeModifier> modifiers = entry.getValue().getModifiers();
+            if (modifiers.isEmpty()) continue;
+            AttributeInstance instance = into.getInstance(entry.getKey());
+            if (instance == null) continue;
+            for (AttributeModifier modifier : modifiers) {
+                instance.addModifier(modifier);
             }
-        }, 1L, 1L);
+        }
     }
-    
-    public void applyEffect(Player player, StatusEffect effect, long duration) {
+
+    private EffectTarget getTarget(LivingEntity entity, boolean create) {
+        if (entity instanceof Player player) {
+            // Perfil carregou depois do reload e o timer ainda não passou: retoma antes de mexer nos efeitos
+            if (!pendingResume.isEmpty() && pendingResume.contains(player.getUniqueId()) && scheduleLoaded(player)) {
+                pendingResume.remove(player.getUniqueId());
+            }
+            MidgardProfile profile = profileManager.getProfile(player.getUniqueId());
+            if (profile == null) return null;
+            EffectData data = create ? profile.getOrCreateData(EffectData.class) : profile.getData(EffectData.class);
+            return data != null ? new PlayerEffectTarget(profile, data) : null;
+        }
+        if (create) {
+            if (!entity.isValid()) return null;
+            return entityEffects.computeIfAbsent(entity.getUniqueId(), id -> new EntityEffectData(entity));
+        }
+        return entityEffects.get(entity.getUniqueId());
+    }
+
+    private void removeEffect(EffectTarget target, ActiveEffect effect, long now) {
+        effect.unschedule(now);
+        effect.end(target);
+        target.removeEffect(effect);
+        if (target instanceof EntityEffectData data && data.getActiveEffects().isEmpty()) {
+            entityEffects.remove(data.getEntityId(), data);
+        }
+    }
+
+    private void evict(Entity entity) {
+        EntityEffectData data = entityEffects.get(entity.getUniqueId());
+        if (data != null) evict(data);
+    }
+
+    private void evict(EntityEffectData data) {
+        entityEffects.remove(data.getEntityId(), data);
+        long now = Bukkit.getCurrentTick();
+        for (ActiveEffect effect : data.getActiveEffects()) {
+            effect.unschedule(now);
+        }
+        data.evict();
+    }
+
+    /**
+     * Retoma os efeitos salvos no perfil do jogador.
+     *
+     * @return false se o perfil ainda não está carregado.
+     */
+    private boolean scheduleLoaded(Player player) {
         MidgardProfile profile = profileManager.getProfile(player.getUniqueId());
+        if (profile == null) return false;
+        EffectData data = profile.getData(EffectData.class);
+        if (data == null || data.getActiveEffects().isEmpty()) return true;
+
+        EffectTarget target = new PlayerEffectTarget(profile, data);
+        long now = Bukkit.getCurrentTick();
+        for (ActiveEffect effect : data.getActiveEffects()) {
+            if (effect.isScheduled()) continue;
+            effect.resume(target);
+            enqueue(target, effect, effect.schedule(now));
+        }
+        return true;
+    }
+
+    private void resumePending() {
+        Iterator<UUID> iterator = pendingResume.iterator();
+        while (iterator.hasNext()) {
+            Player player = Bukkit.getPlayer(iterator.next());
+            if (player == null || scheduleLoaded(player)) iterator.remove();
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        pendingResume.remove(event.getPlayer().getUniqueId());
+        scheduleLoaded(event.getPlayer());
+    }
+
+    // LOWEST: freeze remaining durations before ProfileManager serializes the profile
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onQuit(PlayerQuitEvent event) {
+        pendingResume.remove(event.getPlayer().getUniqueId());
+        MidgardProfile profile = profileManager.getProfile(event.getPlayer().getUniqueId());
         if (profile == null) return;
-        
-        EffectData data = profile.getOrCreateData(EffectData.class);
-        ActiveEffect active = new ActiveEffect(effect, duration, player.getUniqueId());
-        data.addEffect(active);
-        active.start(profile);
+        EffectData data = profile.getData(EffectData.class);
+        if (data == null) return;
+
+        long now = Bukkit.getCurrentTick();
+        for (ActiveEffect effect : data.getActiveEffects()) {
+            effect.unschedule(now);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        if (entityEffects.isEmpty() || event.getEntity() instanceof Player) return;
+        evict(event.getEntity());
+    }
+
+    // Cobre remove() de plugins, despawn e troca de mundo
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+        if (entityEffects.isEmpty() || event.getEntity() instanceof Player) return;
+        evict(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        if (entityEffects.isEmpty()) return;
+        for (Entity entity : event.getEntities()) {
+            evict(entity);
+        }
+    }
+
+    private record ScheduledEffect(long dueTick, long sequence, EffectTarget target, ActiveEffect effect, int generation)
+            implements Comparable<ScheduledEffect> {
+
+        @Override
+        public int compareTo(ScheduledEffect other) {
+            int cmp = Long.compare(dueTick, other.dueTick);
+            return cmp != 0 ? cmp : Long.compare(sequence, other.sequence);
+        }
     }
 }
@@ -11,6 +11,12 @@ public class EffectRegistry extends Registry<String, StatusEffect> {
     }
 
     private EffectRegistry() {}
+
+    @Override
+    public void register(String key, StatusEffect value) {
+        value.compile();
+        super.register(key, value);
+    }
     
     public StatusEffect getEffect(String id) {
         return get(id).orElse(null);
@@ -0,0 +1,47 @@
+package me.ray.midgard.core.effect;
+
+import me.ray.midgard.core.attribute.CoreAttributeData;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Portador de efeitos de status: um jogador (via perfil) ou qualquer {@link LivingEntity}.
+ */
+public interface EffectTarget {
+
+    /**
+     * @return Entidade viva associada, ou null se não estiver carregada/online.
+     */
+    LivingEntity getEntity();
+
+    /**
+     * @return Atributos onde os modificadores dos efeitos são aplicados, ou null.
+     */
+    CoreAttributeData getAttributes();
+
+    List<ActiveEffect> getActiveEffects();
+
+    void addEffect(ActiveEffect effect);
+
+    void removeEffect(ActiveEffect effect);
+
+    /**
+     * @return false quando o alvo saiu/foi descarregado e seus efeitos não devem mais ser processados.
+     */
+    boolean isValid();
+
+    /**
+     * Retorna as instâncias ativas de um efeito.
+     */
+    default List<ActiveEffect> getEffects(String effectId) {
+        List<ActiveEffect> result = new ArrayList<>(2);
+        for (ActiveEffect effect : getActiveEffects()) {
+            if (effect.getEffect().getId().equals(effectId)) {
+                result.add(effect);
+            }
+        }
+        return result;
+    }
+}
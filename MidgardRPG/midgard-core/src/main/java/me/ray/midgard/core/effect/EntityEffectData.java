@@ -0,0 +1,65 @@
+package me.ray.midgard.core.effect;
+
+import me.ray.midgard.core.attribute.CoreAttributeData;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Efeitos ativos de uma entidade não-jogador.
+ * <p>
+ * Mantido apenas em memória pelo {@link EffectManager} e descartado quando a
+ * entidade sai do mundo (morte, remoção, chunk descarregado). Os modificadores de atributo ficam
+ * em um {@link CoreAttributeData} próprio, somado aos atributos do mob no cálculo de dano.
+ */
+public class EntityEffectData implements EffectTarget {
+
+    private final LivingEntity entity;
+    private final CoreAttributeData attributes = new CoreAttributeData();
+    private final List<ActiveEffect> activeEffects = new ArrayList<>(2);
+    private boolean evicted;
+
+    EntityEffectData(LivingEntity entity) {
+        this.entity = entity;
+    }
+
+    public UUID getEntityId() {
+        return entity.getUniqueId();
+    }
+
+    @Override
+    public LivingEntity getEntity() {
+        return evicted ? null : entity;
+    }
+
+    @Override
+    public CoreAttributeData getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public List<ActiveEffect> getActiveEffects() {
+        return activeEffects;
+    }
+
+    @Override
+    public void addEffect(ActiveEffect effect) {
+        activeEffects.add(effect);
+    }
+
+    @Override
+    public void removeEffect(ActiveEffect effect) {
+        activeEffects.remove(effect);
+    }
+
+    @Override
+    public boolean isValid() {
+        return !evicted && entity.isValid();
+    }
+
+    void evict() {
+        this.evicted = true;
+    }
+}
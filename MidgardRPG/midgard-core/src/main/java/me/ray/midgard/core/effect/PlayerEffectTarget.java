@@ -0,0 +1,43 @@
+package me.ray.midgard.core.effect;
+
+import me.ray.midgard.core.attribute.CoreAttributeData;
+import me.ray.midgard.core.profile.MidgardProfile;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.List;
+
+/**
+ * Adapta o {@link EffectData} persistido no perfil de um jogador para {@link EffectTarget}.
+ */
+record PlayerEffectTarget(MidgardProfile profile, EffectData data) implements EffectTarget {
+
+    @Override
+    public LivingEntity getEntity() {
+        return profile.getPlayer();
+    }
+
+    @Override
+    public CoreAttributeData getAttributes() {
+        return profile.getData(CoreAttributeData.class);
+    }
+
+    @Override
+    public List<ActiveEffect> getActiveEffects() {
+        return data.getActiveEffects();
+    }
+
+    @Override
+    public void addEffect(ActiveEffect effect) {
+        data.addEffect(effect);
+    }
+
+    @Override
+    public void removeEffect(ActiveEffect effect) {
+        data.removeEffect(effect);
+    }
+
+    @Override
+    public boolean isValid() {
+        return profile.isOnline();
+    }
+}
@@ -1,6 +1,11 @@
 package me.ray.midgard.core.effect;
 
 import me.ray.midgard.core.attribute.AttributeModifier;
+import me.ray.midgard.core.attribute.AttributeOperation;
+import me.ray.midgard.core.debug.MidgardLogger;
+import me.ray.midgard.core.script.CompiledScript;
+import me.ray.midgard.core.script.ScriptEngine;
+import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +17,9 @@ public class StatusEffect {
     private EffectType type;
     private long defaultDuration; // in ticks
     private long tickInterval; // in ticks
+    // Padrão: instâncias independentes sem limite, como antes do StackMode existir
+    private StackMode stackMode = StackMode.STACK;
+    private int maxStacks = Integer.MAX_VALUE;
     
     private final List<EffectModifier> attributeModifiers = new ArrayList<>();
     
@@ -20,11 +28,71 @@ public class StatusEffect {
     private final List<String> onTickActions = new ArrayList<>();
     private final List<String> onEndActions = new ArrayList<>();
 
+    // Compiled once on load (see compile()); ActiveEffect only executes these
+    private volatile CompiledScript compiledOnStart;
+    private volatile CompiledScript compiledOnTick;
+    private volatile CompiledScript compiledOnEnd;
+
     public StatusEffect(String id, EffectType type) {
         this.id = id;
         this.type = type;
     }
 
+    /**
+     * Lê um efeito da configuração:
+     * <pre>
+     * display-name: "Veneno"
+     * type: DEBUFF
+     * duration: 200
+     * tick-interval: 20
+     * stack-mode: REFRESH   # REFRESH, EXTEND ou STACK (padrão)
+     * max-stacks: 3         # só para STACK; sem limite por padrão
+     * modifiers:
+     *   speed: { amount: -0.2, operation: MULTIPLY_PERCENTAGE_ADDITIVE }
+     * on-start: [...]
+     * on-tick: [...]
+     * on-end: [...]
+     * </pre>
+     *
+     * @param id ID do efeito.
+     * @param section Seção do efeito.
+     * @return Efeito configurado (ainda não registrado).
+     */
+    public static StatusEffect fromConfig(String id, ConfigurationSection section) {
+        StatusEffect effect = new StatusEffect(id, parseEnum(EffectType.class, section.getString("type"), EffectType.NEUTRAL, id, "type"));
+        effect.setDisplayName(section.getString("display-name", id));
+        effect.setDefaultDuration(section.getLong("duration", 0));
+        effect.setTickInterval(section.getLong("tick-interval", 0));
+        effect.setStackMode(parseEnum(StackMode.class, section.getString("stack-mode"), StackMode.STACK, id, "stack-mode"));
+        effect.setMaxStacks(section.getInt("max-stacks", Integer.MAX_VALUE));
+
+        ConfigurationSection modifiers = section.getConfigurationSection("modifiers");
+        if (modifiers != null) {
+            for (String attributeId : modifiers.getKeys(false)) {
+                ConfigurationSection modifier = modifiers.getConfigurationSection(attributeId);
+                if (modifier == null) continue;
+                AttributeOperation operation = parseEnum(AttributeOperation.class, modifier.getString("operation"),
+                        AttributeOperation.ADD_NUMBER, id, "modifiers." + attributeId + ".operation");
+                effect.addAttributeModifier(attributeId, new AttributeModifier(id, modifier.getDouble("amount"), operation));
+            }
+        }
+
+        effect.getOnStartActions().addAll(section.getStringList("on-start"));
+        effect.getOnTickActions().addAll(section.getStringList("on-tick"));
+        effect.getOnEndActions().addAll(section.getStringList("on-end"));
+        return effect;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, E fallback, String id, String key) {
+        if (value == null) return fallback;
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            MidgardLogger.warn("Valor inválido para '" + key + "' no efeito " + id + ": " + value + " (usando " + fallback + ")");
+            return fallback;
+        }
+    }
+
     public String getId() {
         return id;
     }
@@ -57,6 +125,22 @@ public class StatusEffect {
         this.tickInterval = tickInterval;
     }
 
+    public StackMode getStackMode() {
+        return stackMode;
+    }
+
+    public void setStackMode(StackMode stackMode) {
+        this.stackMode = stackMode;
+    }
+
+    public int getMaxStacks() {
+        return maxStacks;
+    }
+
+    public void setMaxStacks(int maxStacks) {
+        this.maxStacks = Math.max(1, maxStacks);
+    }
+
     public List<EffectModifier> getAttributeModifiers() {
         return attributeModifiers;
     }
@@ -94,7 +178,45 @@ public class StatusEffect {
     public List<String> getOnEndActions() {
         return onEndActions;
     }
+
+    /**
+     * Compila os scripts de início, tick e fim deste efeito.
+     * Chamado automaticamente pelo {@link EffectRegistry} no registro;
+     * deve ser chamado novamente se as listas de ações forem alteradas depois disso.
+     */
+    public void compile() {
+        this.compiledOnStart = ScriptEngine.compile(onStartActions);
+        this.compiledOnTick = ScriptEngine.compile(onTickActions);
+        this.compiledOnEnd = ScriptEngine.compile(onEndActions);
+    }
+
+    public CompiledScript getCompiledOnStart() {
+        if (compiledOnStart == null) compile();
+        return compiledOnStart;
+    }
+
+    public CompiledScript getCompiledOnTick() {
+        if (compiledOnTick == null) compile();
+        return compiledOnTick;
+    }
+
+    public CompiledScript getCompiledOnEnd() {
+        if (compiledOnEnd == null) compile();
+        return compiledOnEnd;
+    }
     
+    /**
+     * Comportamento ao reaplicar um efeito que o alvo já possui.
+     */
+    public enum StackMode {
+        /** Reinicia a duração (mantém a maior entre a restante e a nova). */
+        REFRESH,
+        /** Soma a nova duração à restante. */
+        EXTEND,
+        /** Cria instâncias independentes até {@code maxStacks} (sem limite por padrão); a mais antiga é substituída. */
+        STACK
+    }
+
     public enum EffectType {
         BUFF,
         DEBUFF,
@@ -38,6 +38,8 @@ public class LanguageManager {
     private final Map<String, String> messages = new ConcurrentHashMap<>();
     private final Map<String, List<String>> messageLists = new ConcurrentHashMap<>();
     private final Map<String, Component> componentCache = new ConcurrentHashMap<>();
+    // Raw text -> compiled template (keyed by text so fallbacks and MessageKey share entries)
+    private final Map<String, MessageTemplate> templateCache = new ConcurrentHashMap<>();
     
     // Rastreamento de origem das chaves
     private final Map<String, String> keySourceFiles = new ConcurrentHashMap<>();
@@ -80,6 +82,7 @@ public class LanguageManager {
         messages.clear();
         messageLists.clear();
         componentCache.clear();
+        templateCache.clear();
         keySourceFiles.clear();
 
         MidgardLogger.info("Carregando sistema de mensagens avançado...");
@@ -634,20 +637,7 @@ public class LanguageManager {
      */
     public Component getMessage(String key, String... placeholders) {
         if (key == null) return Component.text("Internal Error: Null Key");
-        String raw = getRawMessage(key);
-        
-        if (placeholders != null) {
-            for (int i = 0; i < placeholders.length; i += 2) {
-                if (i + 1 < placeholders.length) {
-                    String placeholder = placeholders[i];
-                    String value = placeholders[i + 1];
-                    if (placeholder != null && value != null) {
-                        raw = raw.replace(placeholder, value);
-                    }
-                }
-            }
-        }
-        return MessageUtils.parse(raw);
+        return getTemplate(getRawMessage(key)).renderPairs(placeholders);
     }
 
     /**
@@ -689,11 +679,7 @@ public class LanguageManager {
      * @return Componente de texto formatado.
      */
     public Component getMessage(String key, Map<String, String> placeholders) {
-        String raw = getRawMessage(key);
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            raw = raw.replace("%" + entry.getKey() + "%", entry.getValue());
-        }
-        return MessageUtils.parse(raw);
+        return getTemplate(getRawMessage(key)).render(placeholders);
     }
     
     // ============================================
@@ -708,7 +694,7 @@ public class LanguageManager {
      */
     public Component getMessage(MessageKey messageKey) {
         if (messageKey == null) return Component.text("Internal Error: Null MessageKey");
-        return MessageUtils.parse(getRawMessage(messageKey));
+        return getTemplate(getRawMessage(messageKey)).render();
     }
     
     /**
@@ -721,10 +707,7 @@ public class LanguageManager {
     public Component getMessage(MessageKey messageKey, Placeholder... placeholders) {
         if (messageKey == null) return Component.text("Internal Error: Null MessageKey");
         
-        String raw = getRawMessage(messageKey);
-        raw = Placeholder.applyAll(raw, placeholders);
-        
-        return MessageUtils.parse(raw);
+        return getTemplate(getRawMessage(messageKey)).render(placeholders);
     }
     
     /**
@@ -737,12 +720,7 @@ public class LanguageManager {
     public Component getMessage(MessageKey messageKey, Map<String, String> placeholders) {
         if (messageKey == null) return Component.text("Internal Error: Null MessageKey");
         
-        String raw = getRawMessage(messageKey);
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            raw = raw.replace("%" + entry.getKey() + "%", entry.getValue());
-        }
-        
-        return MessageUtils.parse(raw);
+        return getTemplate(getRawMessage(messageKey)).render(placeholders);
     }
     
     // ============================================
@@ -835,5 +813,16 @@ public class LanguageManager {
      */
     public void clearCache() {
         componentCache.clear();
+        templateCache.clear();
+    }
+
+    /**
+     * Obtém o template compilado para o texto bruto, compilando na primeira vez.
+     *
+     * @param raw Texto bruto da mensagem.
+     * @return Template com slots de placeholder.
+     */
+    public MessageTemplate getTemplate(String raw) {
+        return templateCache.computeIfAbsent(raw, MessageTemplate::compile);
     }
 }
@@ -0,0 +1,241 @@
+package me.ray.midgard.core.i18n;
+
+import me.ray.midgard.core.text.MessageUtils;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mensagem de idioma compilada com slots de placeholder.
+ * <p>
+ * O texto bruto é analisado pelo MiniMessage uma única vez; cada {@code %chave%}
+ * vira um componente marcador na árvore. A renderização apenas troca os
+ * marcadores pelos valores, reconstruindo somente os nós no caminho até eles.
+ * Valores sem formatação viram {@link Component#text(String)} diretamente
+ * (já escapados); valores com tags usam o cache de {@link MessageUtils#parse(String)}.
+ * <p>
+ * Placeholders dentro de argumentos de tags (ex.: {@code <click:run_command:/tp %player%>})
+ * não podem ser marcados; nesses casos o template usa substituição de texto + parse.
+ */
+public final class MessageTemplate {
+
+    private static final char MARKER = '\uE000';
+    private static final String SLOT_TAG = "midgard_slot";
+
+    private final String raw;
+    private final String[] slotNames; // without '%'
+    private final Component compiled; // null = fallback to string replacement
+
+    private MessageTemplate(String raw, String[] slotNames, Component compiled) {
+        this.raw = raw;
+        this.slotNames = slotNames;
+        this.compiled = compiled;
+    }
+
+    public static MessageTemplate compile(String raw) {
+        List<String> names = new ArrayList<>();
+        StringBuilder tagged = new StringBuilder(raw.length() + 16);
+        boolean insideTag = false;
+        boolean canMark = true;
+
+        int i = 0;
+        while (i < raw.length()) {
+            char c = raw.charAt(i);
+            if (c == '<') insideTag = true;
+            else if (c == '>') insideTag = false;
+
+            if (c == '%') {
+                int end = raw.indexOf('%', i + 1);
+                if (end > i + 1 && isPlaceholderName(raw, i + 1, end)) {
+                    String name = raw.substring(i + 1, end);
+                    int slot = names.indexOf(name);
+                    if (slot < 0) {
+                        names.add(name);
+                        slot = names.size() - 1;
+                    }
+                    if (insideTag) canMark = false;
+                    tagged.append('<').append(SLOT_TAG).append(':').append(slot).append('>');
+                    i = end + 1;
+                    continue;
+                }
+            }
+            tagged.append(c);
+            i++;
+        }
+
+        String[] slotNames = names.toArray(new String[0]);
+        if (slotNames.length == 0) {
+            return new MessageTemplate(raw, slotNames, MessageUtils.parse(raw));
+        }
+        if (!canMark) {
+            return new MessageTemplate(raw, slotNames, null);
+        }
+
+        TagResolver slots = TagResolver.resolver(SLOT_TAG, (args, ctx) -> {
+            int slot = args.popOr("slot index").asInt().orElse(0);
+            return Tag.selfClosingInserting(Component.text(new String(new char[]{MARKER, (char) slot})));
+        });
+        return new MessageTemplate(raw, slotNames, MessageUtils.parse(tagged.toString(), slots));
+    }
+
+    private static boolean isPlaceholderName(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.')) return false;
+        }
+        return true;
+    }
+
+    // ============================================
+    // RENDER
+    // ============================================
+
+    public Component render(Placeholder... placeholders) {
+        if (slotNames.length == 0) return compiled;
+        if (compiled == null) return MessageUtils.parse(Placeholder.applyAll(raw, placeholders));
+
+        Component[] values = new Component[slotNames.length];
+        if (placeholders != null) {
+            for (Placeholder p : placeholders) {
+                if (p == null) continue;
+                int slot = slotOf(p.getKey());
+                if (slot >= 0 && values[slot] == null) values[slot] = toComponent(p.getValue());
+            }
+        }
+        return render(values);
+    }
+
+    public Component render(Map<String, String> placeholders) {
+        if (slotNames.length == 0) return compiled;
+        if (compiled == null) {
+            String result = raw;
+            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+                result = result.replace("%" + entry.getKey() + "%", entry.getValue());
+            }
+            return MessageUtils.parse(result);
+        }
+
+        Component[] values = new Component[slotNames.length];
+        for (int i = 0; i < slotNames.length; i++) {
+            String value = placeholders.get(slotNames[i]);
+            if (value != null) values[i] = toComponent(value);
+        }
+        return render(values);
+    }
+
+    /**
+     * Renderiza a partir de pares token/valor no formato legado ({@code "%chave%", "valor", ...}).
+     */
+    public Component renderPairs(String... pairs) {
+        if (slotNames.length == 0 || pairs == null) return compiled != null ? compiled : MessageUtils.parse(raw);
+
+        Component[] values = compiled != null ? new Component[slotNames.length] : null;
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            String token = pairs[i];
+            String value = pairs[i + 1];
+            if (token == null || value == null) continue;
+
+            int slot = -1;
+            if (token.length() > 2 && token.charAt(0) == '%' && token.charAt(token.length() - 1) == '%') {
+                slot = slotOf(token.substring(1, token.length() - 1));
+            }
+            if (slot < 0 || values == null) {
+                // Arbitrary tokens: keep the original replace-then-parse behaviour
+                String result = raw;
+                for (int j = 0; j + 1 < pairs.length; j += 2) {
+                    if (pairs[j] != null && pairs[j + 1] != null) result = result.replace(pairs[j], pairs[j + 1]);
+                }
+                return MessageUtils.parse(result);
+            }
+            if (values[slot] == null) values[slot] = toComponent(value);
+        }
+        return render(values);
+    }
+
+    private Component render(Component[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) values[i] = Component.text("%" + slotNames[i] + "%");
+        }
+        return replaceMarkers(compiled, values);
+    }
+
+    private static Component replaceMarkers(Component node, Component[] values) {
+        List<Component> children = node.children();
+        List<Component> replaced = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component result = replaceMarkers(child, values);
+            if (result != child && replaced == null) {
+                replaced = new ArrayList<>(children.subList(0, i));
+            }
+            if (replaced != null) replaced.add(result);
+        }
+
+        if (node instanceof TextComponent text && text.content().indexOf(MARKER) >= 0) {
+            return expandMarkers(text, replaced != null ? replaced : children, values);
+        }
+        return replaced != null ? node.children(replaced) : node;
+    }
+
+    /**
+     * MiniMessage compacta texto adjacente com o mesmo estilo, então um marcador
+     * pode estar no meio do conteúdo. O texto é dividido e os valores viram filhos,
+     * herdando o estilo do nó como na substituição textual.
+     */
+    private static Component expandMarkers(TextComponent text, List<Component> children, Component[] values) {
+        String content = text.content();
+        List<Component> parts = new ArrayList<>(children.size() + 4);
+        String head = null;
+        int from = 0;
+        int i = content.indexOf(MARKER);
+        while (i >= 0 && i + 1 < content.length()) {
+            int slot = content.charAt(i + 1);
+            if (slot >= values.length) {
+                i = content.indexOf(MARKER, i + 1);
+                continue;
+            }
+            String literal = content.substring(from, i);
+            if (head == null) head = literal;
+            else if (!literal.isEmpty()) parts.add(Component.text(literal));
+            parts.add(values[slot]);
+            from = i + 2;
+            i = content.indexOf(MARKER, from);
+        }
+
+        if (head == null) return children == text.children() ? text : text.children(children);
+
+        if (from < content.length()) parts.add(Component.text(content.substring(from)));
+        parts.addAll(children);
+        return text.content(head).children(parts);
+    }
+
+    private static Component toComponent(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '<' || c == '&' || c == '§') {
+                return MessageUtils.parse(value);
+            }
+        }
+        return Component.text(value);
+    }
+
+    private int slotOf(String name) {
+        for (int i = 0; i < slotNames.length; i++) {
+            if (slotNames[i].equals(name)) return i;
+        }
+        return -1;
+    }
+
+    public boolean hasPlaceholders() {
+        return slotNames.length > 0;
+    }
+
+    public String getRaw() {
+        return raw;
+    }
+}
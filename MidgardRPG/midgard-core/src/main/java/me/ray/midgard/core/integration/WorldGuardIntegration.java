@@ -1,19 +1,51 @@
 package me.ray.midgard.core.integration;
 
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.protection.ApplicableRegionSet;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import com.sk89q.worldguard.protection.regions.RegionContainer;
 import com.sk89q.worldguard.protection.regions.RegionQuery;
+import com.sk89q.worldguard.protection.regions.RegionType;
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.core.region.ChunkRegions;
 import me.ray.midgard.core.region.RegionProvider;
+import me.ray.midgard.core.region.RegionShape;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.server.ServerCommandEvent;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-public class WorldGuardIntegration implements RegionProvider {
+public class WorldGuardIntegration implements RegionProvider, Listener {
+
+    private static final Set<String> REGION_COMMANDS = Set.of("rg", "region", "regions");
+    private static final String PROBE_ID = "__midgard_chunk_probe__";
+    // Intervalo da verificação de revisão dos RegionManagers
+    private static final long REVISION_CHECK_TICKS = 20L;
+
+    private volatile Consumer<World> changeListener;
+    private BukkitTask revisionTask;
+    // Mundo -> impressão digital das regiões na última verificação
+    private final Map<UUID, Long> revisions = new HashMap<>();
 
     public WorldGuardIntegration() {
     }
@@ -24,7 +56,7 @@ public class WorldGuardIntegration implements RegionProvider {
             RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
             RegionQuery query = container.createQuery();
             ApplicableRegionSet set = query.getApplicableRegions(BukkitAdapter.adapt(location));
-            
+
             return set.getRegions().stream()
                     .map(ProtectedRegion::getId)
                     .collect(Collectors.toSet());
@@ -33,4 +65,133 @@ public class WorldGuardIntegration implements RegionProvider {
             return new HashSet<>();
         }
     }
+
+    /**
+     * Consulta as regiões que cruzam a coluna do chunk. Cuboides que contêm a
+     * coluna inteira entram como cobertura; as demais são testadas por bloco
+     * com {@link ProtectedRegion#contains(int, int, int)}.
+     */
+    @Override
+    public ChunkRegions getChunkRegions(World world, int chunkX, int chunkZ) {
+        try {
+            RegionManager manager = WorldGuard.getInstance().getPlatform().getRegionContainer()
+                    .get(BukkitAdapter.adapt(world));
+            if (manager == null) return ChunkRegions.EMPTY;
+
+            int minX = chunkX << 4, maxX = minX + 15;
+            int minZ = chunkZ << 4, maxZ = minZ + 15;
+            int minY = world.getMinHeight(), maxY = world.getMaxHeight() - 1;
+            ProtectedCuboidRegion probe = new ProtectedCuboidRegion(PROBE_ID,
+                    BlockVector3.at(minX, minY, minZ), BlockVector3.at(maxX, maxY, maxZ));
+
+            Set<String> covering = new HashSet<>();
+            List<RegionShape> partial = new ArrayList<>();
+            for (ProtectedRegion region : manager.getApplicableRegions(probe)) {
+                if (region.getType() == RegionType.GLOBAL) continue;
+
+                BlockVector3 min = region.getMinimumPoint();
+                BlockVector3 max = region.getMaximumPoint();
+                if (region.getType() == RegionType.CUBOID
+                        && min.x() <= minX && max.x() >= maxX && min.z() <= minZ && max.z() >= maxZ
+                        && min.y() <= minY && max.y() >= maxY) {
+                    covering.add(region.getId());
+                } else {
+                    partial.add(new Shape(region));
+                }
+            }
+            return partial.isEmpty() ? ChunkRegions.uniform(covering) : new ChunkRegions(covering, partial);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    @Override
+    public void setChangeListener(Consumer<World> listener) {
+        this.changeListener = listener;
+        if (revisionTask != null) {
+            revisionTask.cancel();
+            revisionTask = null;
+        }
+        revisions.clear();
+        if (listener != null) {
+            revisionTask = Bukkit.getScheduler().runTaskTimer(MidgardCore.getPlugin(),
+                    this::checkRevisions, REVISION_CHECK_TICKS, REVISION_CHECK_TICKS);
+        }
+    }
+
+    /**
+     * O WorldGuard não emite eventos de alteração de região, então cada
+     * RegionManager é comparado com a última verificação por uma impressão
+     * digital (identidade e limites de cada região). Cobre alterações pela API
+     * ou por outros plugins; redefinir uma região troca o objeto, e adicionar ou
+     * remover muda o conjunto.
+     */
+    private void checkRevisions() {
+        Consumer<World> listener = changeListener;
+        if (listener == null) return;
+
+        RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
+        for (World world : Bukkit.getWorlds()) {
+            RegionManager manager = container.get(BukkitAdapter.adapt(world));
+            long revision = manager != null ? fingerprint(manager) : 0L;
+            Long previous = revisions.put(world.getUID(), revision);
+            if (previous != null && previous != revision) {
+                listener.accept(world);
+            }
+        }
+    }
+
+    private static long fingerprint(RegionManager manager) {
+        long fingerprint = manager.size();
+        for (ProtectedRegion region : manager.getRegions().values()) {
+            BlockVector3 min = region.getMinimumPoint();
+            BlockVector3 max = region.getMaximumPoint();
+            long h = System.identityHashCode(region);
+            h = h * 31 + min.hashCode();
+            h = h * 31 + max.hashCode();
+            // Soma de hashes misturados: independe da ordem do mapa
+            h *= 0x9E3779B97F4A7C15L;
+            fingerprint += h ^ (h >>> 32);
+        }
+        return fingerprint;
+    }
+
+    // Comandos /rg invalidam o cache já no tick seguinte (após a execução do
+    // comando), sem esperar a próxima verificação de revisão
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+        checkCommand(event.getMessage());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onServerCommand(ServerCommandEvent event) {
+        checkCommand(event.getCommand());
+    }
+
+    private void checkCommand(String command) {
+        String label = command.startsWith("/") ? command.substring(1) : command;
+        int space = label.indexOf(' ');
+        if (space >= 0) label = label.substring(0, space);
+        label = label.toLowerCase(Locale.ROOT);
+        if (label.startsWith("worldguard:")) label = label.substring("worldguard:".length());
+
+        Consumer<World> listener = changeListener;
+        if (listener != null && REGION_COMMANDS.contains(label)) {
+            Bukkit.getScheduler().runTask(MidgardCore.getPlugin(), () -> listener.accept(null));
+        }
+    }
+
+    private record Shape(ProtectedRegion region) implements RegionShape {
+
+        @Override
+        public String getId() {
+            return region.getId();
+        }
+
+        @Override
+        public boolean contains(int x, int y, int z) {
+            return region.contains(x, y, z);
+        }
+    }
 }
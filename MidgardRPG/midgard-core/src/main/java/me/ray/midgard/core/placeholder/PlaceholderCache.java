@@ -0,0 +1,153 @@
+package me.ray.midgard.core.placeholder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import me.clip.placeholderapi.PlaceholderAPI;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoização de placeholders do PlaceholderAPI por jogador.
+ * <p>
+ * Cada {@code %placeholder%} é resolvido individualmente e guardado por jogador
+ * com o tick em que foi calculado. Overlays que renderizam a mesma mensagem
+ * várias vezes no mesmo tick executam a expansão apenas uma vez.
+ * <ul>
+ *     <li>{@link Mode#TICK} (padrão): válido somente no tick em que foi resolvido.</li>
+ *     <li>{@link Mode#STATIC}: resolvido uma vez e mantido enquanto o jogador estiver ativo.</li>
+ *     <li>{@link Mode#VOLATILE}: nunca é cacheado (ex.: valores aleatórios).</li>
+ * </ul>
+ * Regras podem ser registradas para um placeholder completo ({@code player_name})
+ * ou para um identificador inteiro ({@code server}).
+ */
+public final class PlaceholderCache {
+
+    public enum Mode {
+        TICK,
+        STATIC,
+        VOLATILE
+    }
+
+    private record Entry(String value, int tick) {}
+
+    // Placeholder (sem %) ou identificador -> modo
+    private static final Map<String, Mode> RULES = new ConcurrentHashMap<>();
+
+    private static final Cache<UUID, Map<String, Entry>> PLAYERS = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(5))
+            .build();
+
+    static {
+        RULES.put("player_name", Mode.STATIC);
+        RULES.put("player_uuid", Mode.STATIC);
+    }
+
+    private PlaceholderCache() {
+    }
+
+    public static void markStatic(String placeholder) {
+        RULES.put(normalize(placeholder), Mode.STATIC);
+    }
+
+    public static void markVolatile(String placeholder) {
+        RULES.put(normalize(placeholder), Mode.VOLATILE);
+    }
+
+    public static void unmark(String placeholder) {
+        RULES.remove(normalize(placeholder));
+    }
+
+    /**
+     * Substitui os placeholders da mensagem usando o cache do jogador.
+     *
+     * @param player Jogador de contexto.
+     * @param message Texto com placeholders.
+     * @return Texto com os placeholders resolvidos.
+     */
+    public static String apply(Player player, String message) {
+        int start = message.indexOf('%');
+        if (start < 0) return message;
+
+        Map<String, Entry> cache = null;
+        int tick = Bukkit.getCurrentTick();
+
+        StringBuilder sb = null;
+        int copied = 0;
+        while (start >= 0) {
+            int end = message.indexOf('%', start + 1);
+            if (end < 0) break;
+
+            String token = message.substring(start + 1, end);
+            int underscore = token.indexOf('_');
+            if (underscore <= 0) {
+                // Not a PAPI placeholder (%identifier_params%); the closing % may open the next one
+                start = end;
+                continue;
+            }
+
+            if (cache == null) cache = PLAYERS.get(player.getUniqueId(), id -> new ConcurrentHashMap<>());
+            String value = resolve(player, cache, token, underscore, tick);
+
+            if (sb == null) sb = new StringBuilder(message.length() + 16);
+            sb.append(message, copied, start).append(value);
+            copied = end + 1;
+            start = message.indexOf('%', copied);
+        }
+
+        if (sb == null) return message;
+        sb.append(message, copied, message.length());
+        return sb.toString();
+    }
+
+    private static String resolve(Player player, Map<String, Entry> cache, String token, int underscore, int tick) {
+        Mode mode = modeOf(token, underscore);
+
+        if (mode != Mode.VOLATILE) {
+            Entry entry = cache.get(token);
+            if (entry != null && (mode == Mode.STATIC || entry.tick() == tick)) {
+                return entry.value();
+            }
+        }
+
+        String value = PlaceholderAPI.setPlaceholders(player, "%" + token + "%");
+        if (mode != Mode.VOLATILE) {
+            cache.put(token, new Entry(value, tick));
+        }
+        return value;
+    }
+
+    private static Mode modeOf(String token, int underscore) {
+        if (RULES.isEmpty()) return Mode.TICK;
+        Mode mode = RULES.get(token);
+        if (mode == null) mode = RULES.get(token.substring(0, underscore));
+        if (mode == null && !token.equals(token.toLowerCase(Locale.ROOT))) {
+            mode = RULES.get(token.toLowerCase(Locale.ROOT));
+        }
+        return mode != null ? mode : Mode.TICK;
+    }
+
+    private static String normalize(String placeholder) {
+        String key = placeholder;
+        if (key.length() > 1 && key.startsWith("%") && key.endsWith("%")) {
+            key = key.substring(1, key.length() - 1);
+        }
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Descarta os valores cacheados de um jogador (ex.: ao sair do servidor).
+     */
+    public static void invalidate(UUID playerId) {
+        PLAYERS.invalidate(playerId);
+    }
+
+    public static void clear() {
+        PLAYERS.invalidateAll();
+    }
+}
@@ -1,26 +1,153 @@
 package me.ray.midgard.core.placeholder;
 
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.core.debug.MidgardLogger;
+import me.ray.midgard.core.profile.MidgardProfile;
+import me.ray.midgard.core.profile.ProfileManager;
+import me.ray.midgard.core.utils.MathUtils;
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.DoubleFunction;
 
-public class PlaceholderRegistry extends PlaceholderExpansion {
+/**
+ * Expansão {@code %midgard_...%} do PlaceholderAPI.
+ * <p>
+ * Os handlers ficam numa trie de prefixos imutável, reconstruída a cada registro;
+ * uma requisição percorre os caracteres dos parâmetros uma vez (sem lowercase nem
+ * varredura do mapa) e usa o prefixo mais longo registrado. Leituras são seguras
+ * a partir de threads assíncronas (scoreboards, TAB).
+ * <p>
+ * Placeholders numéricos ({@link #registerNumeric}) são servidos de um snapshot
+ * por jogador: a requisição só lê um mapa imutável publicado num campo volatile.
+ * O snapshot é atualizado na thread principal no fim de cada tick, depois do
+ * {@link me.ray.midgard.core.attribute.StatUpdateScheduler}, para as chaves que
+ * o jogador já pediu; o texto só é refeito quando o valor muda, e um perfil novo
+ * (relogin, reload) refaz todas as chaves. A primeira requisição de uma chave
+ * ainda é calculada na hora e passa a ser acompanhada a partir daí.
+ */
+public class PlaceholderRegistry extends PlaceholderExpansion implements Listener {
+
+    /**
+     * Fonte de um placeholder numérico.
+     */
+    @FunctionalInterface
+    public interface NumericSource {
+        /**
+         * @return Valor atual, ou {@link Double#NaN} se indisponível.
+         */
+        double value(MidgardProfile profile, String params);
+    }
+
+    private record Numeric(NumericSource source, DoubleFunction<String> formatter, String fallback) {
+        String format(double value) {
+            return Double.isNaN(value) ? fallback : formatter.apply(value);
+        }
+    }
 
     @SuppressWarnings("unused")
     private final JavaPlugin plugin;
-    private final Map<String, BiFunction<OfflinePlayer, String, String>> placeholders = new HashMap<>();
+    private final Map<String, BiFunction<OfflinePlayer, String, String>> placeholders = new TreeMap<>();
+    private volatile Node root = Node.EMPTY;
+
+    private final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
 
     public PlaceholderRegistry(JavaPlugin plugin) {
         this.plugin = plugin;
+        Bukkit.getPluginManager().registerEvents(this, plugin);
     }
 
-    public void register(String identifier, BiFunction<OfflinePlayer, String, String> handler) {
+    public synchronized void register(String identifier, BiFunction<OfflinePlayer, String, String> handler) {
         placeholders.put(identifier.toLowerCase(), handler);
+        root = Node.build(placeholders);
+    }
+
+    /**
+     * Registra um placeholder numérico formatado com {@code #.##}.
+     *
+     * @param identifier Prefixo do placeholder.
+     * @param source Fonte do valor.
+     * @param fallback Texto quando o perfil não está carregado.
+     */
+    public void registerNumeric(String identifier, NumericSource source, String fallback) {
+        registerNumeric(identifier, source, MathUtils::formatDecimal, fallback);
+    }
+
+    /**
+     * Registra um placeholder numérico servido do snapshot do jogador.
+     *
+     * @param identifier Prefixo do placeholder.
+     * @param source Fonte do valor (lida na thread principal, exceto na primeira requisição).
+     * @param formatter Formatador (deve ser thread-safe).
+     * @param fallback Texto quando o perfil não está carregado ou o valor é NaN.
+     */
+    public void registerNumeric(String identifier, NumericSource source, DoubleFunction<String> formatter, String fallback) {
+        String id = identifier.toLowerCase();
+        Numeric numeric = new Numeric(source, formatter, fallback);
+        register(id, (player, params) -> {
+            String key = params.isEmpty() ? id : id + ':' + params;
+            Snapshot snapshot = snapshots.get(player.getUniqueId());
+            if (snapshot != null) {
+                String text = snapshot.texts.get(key);
+                if (text != null) return text;
+            }
+
+            ProfileManager profileManager = MidgardCore.getProfileManager();
+            MidgardProfile profile = profileManager != null ? profileManager.getProfile(player.getUniqueId()) : null;
+            if (profile == null) return fallback;
+
+            // Chave nova: calcula agora e entra nas atualizações de fim de tick
+            if (snapshot == null) {
+                snapshot = snapshots.computeIfAbsent(player.getUniqueId(), uuid -> new Snapshot());
+            }
+            snapshot.tracked.putIfAbsent(key, new Tracked(numeric, params));
+            return numeric.format(source.value(profile, params));
+        });
+    }
+
+    /**
+     * Atualiza os snapshots de todos os jogadores acompanhados. Roda depois do
+     * {@link me.ray.midgard.core.attribute.StatUpdateScheduler} (prioridade
+     * normal), então recálculos de atributos do tick já aparecem aqui.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(ServerTickEndEvent event) {
+        if (snapshots.isEmpty()) return;
+
+        ProfileManager profileManager = MidgardCore.getProfileManager();
+        if (profileManager == null) return;
+
+        for (Map.Entry<UUID, Snapshot> entry : snapshots.entrySet()) {
+            MidgardProfile profile = profileManager.getProfile(entry.getKey());
+            if (profile == null) {
+                snapshots.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            try {
+                entry.getValue().refresh(profile);
+            } catch (Exception e) {
+                MidgardLogger.error("Erro ao atualizar placeholders de " + entry.getKey(), e);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        snapshots.remove(event.getPlayer().getUniqueId());
     }
 
     @Override
@@ -37,7 +164,7 @@ public class PlaceholderRegistry extends PlaceholderExpansion {
     public @NotNull String getVersion() {
         return "1.0.0";
     }
-    
+
     @Override
     public boolean persist() {
         return true;
@@ -45,13 +172,130 @@ public class PlaceholderRegistry extends PlaceholderExpansion {
 
     @Override
     public String onRequest(OfflinePlayer player, @NotNull String params) {
-        for (Map.Entry<String, BiFunction<OfflinePlayer, String, String>> entry : placeholders.entrySet()) {
-            if (params.toLowerCase().startsWith(entry.getKey())) {
-                String rest = params.substring(entry.getKey().length());
-                if (rest.startsWith("_")) rest = rest.substring(1);
-                return entry.getValue().apply(player, rest);
+        Node node = root;
+        Node match = node.handler != null ? node : null;
+        int matchLength = 0;
+
+        for (int i = 0, length = params.length(); i < length; i++) {
+            node = node.child(Character.toLowerCase(params.charAt(i)));
+            if (node == null) break;
+            if (node.handler != null) {
+                match = node;
+                matchLength = i + 1;
+            }
+        }
+        if (match == null) return null;
+
+        String rest = params.substring(matchLength);
+        if (rest.startsWith("_")) rest = rest.substring(1);
+        return match.handler.apply(player, rest);
+    }
+
+    // ============================================
+    // SNAPSHOTS
+    // ============================================
+
+    private static final class Tracked {
+        final Numeric numeric;
+        final String params;
+        // Thread principal
+        double value;
+        boolean published;
+
+        Tracked(Numeric numeric, String params) {
+            this.numeric = numeric;
+            this.params = params;
+        }
+    }
+
+    /**
+     * Valores formatados de um jogador. {@link #texts} é imutável e trocado
+     * inteiro a cada atualização, então leituras assíncronas não precisam de trava.
+     */
+    private static final class Snapshot {
+        final Map<String, Tracked> tracked = new ConcurrentHashMap<>();
+        volatile Map<String, String> texts = Map.of();
+        // Thread principal
+        MidgardProfile profile;
+
+        void refresh(MidgardProfile current) {
+            boolean profileChanged = current != profile;
+            profile = current;
+
+            Map<String, String> next = null;
+            for (Map.Entry<String, Tracked> entry : tracked.entrySet()) {
+                Tracked t = entry.getValue();
+                double value = t.numeric.source().value(current, t.params);
+                if (t.published && !profileChanged && Double.compare(value, t.value) == 0) continue;
+
+                t.value = value;
+                t.published = true;
+                if (next == null) next = new HashMap<>(texts);
+                next.put(entry.getKey(), t.numeric.format(value));
+            }
+            if (next != null) texts = Map.copyOf(next);
+        }
+    }
+
+    // ============================================
+    // TRIE
+    // ============================================
+
+    private static final class Node {
+        static final Node EMPTY = new Node(new char[0], new Node[0], null);
+
+        final char[] labels; // sorted
+        final Node[] children;
+        final BiFunction<OfflinePlayer, String, String> handler;
+
+        Node(char[] labels, Node[] children, BiFunction<OfflinePlayer, String, String> handler) {
+            this.labels = labels;
+            this.children = children;
+            this.handler = handler;
+        }
+
+        Node child(char c) {
+            char[] l = labels;
+            int low = 0, high = l.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char label = l[mid];
+                if (label < c) low = mid + 1;
+                else if (label > c) high = mid - 1;
+                else return children[mid];
+            }
+            return null;
+        }
+
+        /**
+         * Constrói a trie a partir de chaves ordenadas (TreeMap).
+         */
+        static Node build(Map<String, BiFunction<OfflinePlayer, String, String>> entries) {
+            return build(new TreeMap<>(entries), 0);
+        }
+
+        private static Node build(TreeMap<String, BiFunction<OfflinePlayer, String, String>> entries, int depth) {
+            BiFunction<OfflinePlayer, String, String> handler = null;
+            TreeMap<Character, TreeMap<String, BiFunction<OfflinePlayer, String, String>>> groups = new TreeMap<>();
+
+            for (Map.Entry<String, BiFunction<OfflinePlayer, String, String>> entry : entries.entrySet()) {
+                String key = entry.getKey();
+                if (key.length() == depth) {
+                    handler = entry.getValue();
+                } else {
+                    groups.computeIfAbsent(key.charAt(depth), c -> new TreeMap<>()).put(key, entry.getValue());
+                }
+            }
+
+            char[] labels = new char[groups.size()];
+            Node[] children = new Node[groups.size()];
+            int i = 0;
+            for (Map.Entry<Character, TreeMap<String, BiFunction<OfflinePlayer, String, String>>> group : groups.entrySet()) {
+                labels[i] = group.getKey();
+                children[i] = build(group.getValue(), depth + 1);
+                i++;
             }
+            return new Node(labels, children, handler);
         }
-        return null;
     }
 }
@@ -3,6 +3,7 @@ package me.ray.midgard.core.profile;
 import me.ray.midgard.core.database.DatabaseManager;
 import me.ray.midgard.core.debug.DebugCategory;
 import me.ray.midgard.core.debug.MidgardLogger;
+import me.ray.midgard.core.placeholder.PlaceholderCache;
 import me.ray.midgard.core.redis.RedisManager;
 import me.ray.midgard.core.profile.data.VanillaData; // Import added
 import org.bukkit.Bukkit;
@@ -141,6 +142,7 @@ public class ProfileManager implements Listener {
 
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
+        PlaceholderCache.invalidate(event.getPlayer().getUniqueId());
         MidgardProfile profile = profiles.remove(event.getPlayer().getUniqueId());
         if (profile != null) {
             MidgardLogger.debug(DebugCategory.CORE, "Salvando perfil de %s ao sair...", event.getPlayer().getName());
@@ -0,0 +1,71 @@
+package me.ray.midgard.core.region;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Regiões que tocam um chunk (coluna inteira, da altura mínima à máxima).
+ * <p>
+ * {@code covering} são as regiões que contêm o chunk inteiro; {@code partial}
+ * as que o cruzam só em parte. Sem regiões parciais o chunk é uniforme e toda
+ * consulta dentro dele devolve o mesmo conjunto, sem testar coordenadas; isso
+ * inclui chunks fora de qualquer região ({@link #EMPTY}).
+ */
+public final class ChunkRegions {
+
+    public static final ChunkRegions EMPTY = new ChunkRegions(Set.of(), List.of());
+
+    private final Set<String> covering;
+    private final List<RegionShape> partial;
+
+    public ChunkRegions(Set<String> covering, List<RegionShape> partial) {
+        this.covering = Set.copyOf(covering);
+        this.partial = List.copyOf(partial);
+    }
+
+    public static ChunkRegions uniform(Set<String> covering) {
+        return covering.isEmpty() ? EMPTY : new ChunkRegions(covering, List.of());
+    }
+
+    /**
+     * Cópia com uma região a mais cobrindo o chunk inteiro, mantendo as parciais.
+     */
+    public ChunkRegions withCovering(String regionId) {
+        if (covering.contains(regionId)) return this;
+        Set<String> merged = new HashSet<>(covering);
+        merged.add(regionId);
+        return new ChunkRegions(merged, partial);
+    }
+
+    public boolean isUniform() {
+        return partial.isEmpty();
+    }
+
+    public Set<String> getCovering() {
+        return covering;
+    }
+
+    /**
+     * @return IDs das regiões no bloco (imutável).
+     */
+    public Set<String> resolve(int x, int y, int z) {
+        if (partial.isEmpty()) return covering;
+
+        Set<String> result = null;
+        for (RegionShape shape : partial) {
+            if (!shape.contains(x, y, z)) continue;
+            if (result == null) result = new HashSet<>(covering);
+            result.add(shape.getId());
+        }
+        return result != null ? Set.copyOf(result) : covering;
+    }
+
+    public boolean contains(int x, int y, int z, String regionId) {
+        if (covering.contains(regionId)) return true;
+        for (RegionShape shape : partial) {
+            if (shape.getId().equals(regionId) && shape.contains(x, y, z)) return true;
+        }
+        return false;
+    }
+}
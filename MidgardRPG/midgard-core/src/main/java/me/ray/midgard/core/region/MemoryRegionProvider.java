@@ -0,0 +1,142 @@
+package me.ray.midgard.core.region;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Provedor de regiões em memória, com regiões cúbicas definidas por código.
+ * <p>
+ * Útil em servidores sem WorldGuard e para testes. Toda alteração publica um
+ * novo snapshot imutável por mundo (leituras sem lock) e avisa o
+ * {@link RegionManager} para invalidar o cache do mundo afetado. Os IDs são
+ * normalizados para minúsculas, como no WorldGuard.
+ */
+public class MemoryRegionProvider implements RegionProvider {
+
+    /**
+     * Região cúbica com limites inclusivos.
+     */
+    public record Cuboid(String id, UUID worldId, int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+            implements RegionShape {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public boolean contains(int x, int y, int z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+    }
+
+    private final Map<String, Cuboid> regions = new LinkedHashMap<>();
+    private volatile Map<UUID, List<Cuboid>> byWorld = Map.of();
+    private volatile Consumer<World> changeListener;
+
+    /**
+     * Define (ou redefine) uma região entre dois cantos quaisquer.
+     */
+    public synchronized void define(String id, World world, int x1, int y1, int z1, int x2, int y2, int z2) {
+        String key = id.toLowerCase(Locale.ROOT);
+        Cuboid previous = regions.put(key, new Cuboid(key, world.getUID(),
+                Math.min(x1, x2), Math.min(y1, y2), Math.min(z1, z2),
+                Math.max(x1, x2), Math.max(y1, y2), Math.max(z1, z2)));
+        publish();
+        if (previous != null && !previous.worldId().equals(world.getUID())) {
+            notifyChange(null);
+        } else {
+            notifyChange(world);
+        }
+    }
+
+    public synchronized boolean remove(String id) {
+        Cuboid removed = regions.remove(id.toLowerCase(Locale.ROOT));
+        if (removed == null) return false;
+        publish();
+        notifyChange(Bukkit.getWorld(removed.worldId()));
+        return true;
+    }
+
+    public synchronized void clear() {
+        regions.clear();
+        publish();
+        notifyChange(null);
+    }
+
+    public synchronized Collection<Cuboid> getDefinedRegions() {
+        return List.copyOf(regions.values());
+    }
+
+    @Override
+    public Set<String> getRegions(Location location) {
+        World world = location.getWorld();
+        if (world == null) return Collections.emptySet();
+
+        int x = location.getBlockX(), y = location.getBlockY(), z = location.getBlockZ();
+        Set<String> result = new HashSet<>();
+        for (Cuboid cuboid : byWorld.getOrDefault(world.getUID(), List.of())) {
+            if (cuboid.contains(x, y, z)) result.add(cuboid.id());
+        }
+        return result;
+    }
+
+    @Override
+    public ChunkRegions getChunkRegions(World world, int chunkX, int chunkZ) {
+        List<Cuboid> cuboids = byWorld.getOrDefault(world.getUID(), List.of());
+        if (cuboids.isEmpty()) return ChunkRegions.EMPTY;
+
+        int minX = chunkX << 4, maxX = minX + 15;
+        int minZ = chunkZ << 4, maxZ = minZ + 15;
+        int minY = world.getMinHeight(), maxY = world.getMaxHeight() - 1;
+
+        Set<String> covering = new HashSet<>();
+        List<RegionShape> partial = new ArrayList<>();
+        for (Cuboid c : cuboids) {
+            if (c.maxX() < minX || c.minX() > maxX || c.maxZ() < minZ || c.minZ() > maxZ
+                    || c.maxY() < minY || c.minY() > maxY) {
+                continue;
+            }
+            if (c.minX() <= minX && c.maxX() >= maxX && c.minZ() <= minZ && c.maxZ() >= maxZ
+                    && c.minY() <= minY && c.maxY() >= maxY) {
+                covering.add(c.id());
+            } else {
+                partial.add(c);
+            }
+        }
+        return partial.isEmpty() ? ChunkRegions.uniform(covering) : new ChunkRegions(covering, partial);
+    }
+
+    @Override
+    public void setChangeListener(Consumer<World> listener) {
+        this.changeListener = listener;
+    }
+
+    private void publish() {
+        Map<UUID, List<Cuboid>> snapshot = new HashMap<>();
+        for (Cuboid cuboid : regions.values()) {
+            snapshot.computeIfAbsent(cuboid.worldId(), id -> new ArrayList<>()).add(cuboid);
+        }
+        snapshot.replaceAll((id, list) -> List.copyOf(list));
+        byWorld = Map.copyOf(snapshot);
+    }
+
+    private void notifyChange(World world) {
+        Consumer<World> listener = changeListener;
+        if (listener != null) listener.accept(world);
+    }
+}
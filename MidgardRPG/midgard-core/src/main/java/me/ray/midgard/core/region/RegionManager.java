@@ -1,18 +1,38 @@
 package me.ray.midgard.core.region;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.bukkit.Location;
+import org.bukkit.World;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Gerencia a integração com sistemas de regiões (como WorldGuard).
  * Permite verificar em quais regiões um jogador está.
+ * <p>
+ * Quando o provedor suporta {@link RegionProvider#getChunkRegions}, as regiões
+ * de cada chunk são cacheadas: chunks uniformes (dentro das mesmas regiões por
+ * inteiro, ou fora de todas) respondem sem tocar no provedor, e chunks com
+ * bordas testam só as regiões que os cruzam. O cache é invalidado pelo
+ * provedor ao mudar regiões e expira sozinho como rede de segurança.
  */
 public class RegionManager {
 
+    private static final Duration CACHE_TTL = Duration.ofSeconds(60);
+    private static final long CACHE_SIZE_PER_WORLD = 4096;
+    // Marca chunks para os quais o provedor não oferece consulta por chunk
+    private static final ChunkRegions UNSUPPORTED = new ChunkRegions(Set.of(), List.of());
+
     private static RegionManager instance;
     private RegionProvider provider;
+    private final Map<UUID, Cache<Long, ChunkRegions>> chunkCache = new ConcurrentHashMap<>();
 
     /**
      * Obtém a instância única do RegionManager.
@@ -28,7 +48,17 @@ public class RegionManager {
 
     private RegionManager() {
         // Default provider (empty)
-        this.provider = location -> Collections.emptySet();
+        setProvider(new RegionProvider() {
+            @Override
+            public Set<String> getRegions(Location location) {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public ChunkRegions getChunkRegions(World world, int chunkX, int chunkZ) {
+                return ChunkRegions.EMPTY;
+            }
+        });
     }
 
     /**
@@ -37,7 +67,19 @@ public class RegionManager {
      * @param provider Provedor de regiões.
      */
     public void setProvider(RegionProvider provider) {
+        if (this.provider != null) {
+            this.provider.setChangeListener(null);
+        }
         this.provider = provider;
+        provider.setChangeListener(world -> {
+            if (world == null) invalidate();
+            else invalidate(world);
+        });
+        invalidate();
+    }
+
+    public RegionProvider getProvider() {
+        return provider;
     }
 
     /**
@@ -47,7 +89,9 @@ public class RegionManager {
      * @return Conjunto de IDs das regiões.
      */
     public Set<String> getRegions(Location location) {
-        return provider.getRegions(location);
+        ChunkRegions chunk = getChunkRegions(location);
+        if (chunk == null) return provider.getRegions(location);
+        return chunk.resolve(location.getBlockX(), location.getBlockY(), location.getBlockZ());
     }
 
     /**
@@ -58,6 +102,58 @@ public class RegionManager {
      * @return true se estiver na região, false caso contrário.
      */
     public boolean isInRegion(Location location, String regionId) {
-        return provider.isInRegion(location, regionId);
+        ChunkRegions chunk = getChunkRegions(location);
+        if (chunk == null) return provider.isInRegion(location, regionId);
+        return chunk.contains(location.getBlockX(), location.getBlockY(), location.getBlockZ(), regionId);
+    }
+
+    /**
+     * Regiões do chunk da localização, do cache ou do provedor.
+     *
+     * @return Regiões do chunk, ou null se o provedor não suporta consulta por chunk.
+     */
+    public ChunkRegions getChunkRegions(Location location) {
+        World world = location.getWorld();
+        if (world == null) return null;
+
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+        Cache<Long, ChunkRegions> cache = chunkCache.computeIfAbsent(world.getUID(), id -> newCache());
+        long key = chunkKey(chunkX, chunkZ);
+
+        ChunkRegions regions = cache.getIfPresent(key);
+        if (regions == null) {
+            regions = provider.getChunkRegions(world, chunkX, chunkZ);
+            if (regions == null) regions = UNSUPPORTED;
+            cache.put(key, regions);
+        }
+        return regions != UNSUPPORTED ? regions : null;
+    }
+
+    /**
+     * Descarta o cache de todos os mundos.
+     */
+    public void invalidate() {
+        chunkCache.clear();
+    }
+
+    public void invalidate(World world) {
+        chunkCache.remove(world.getUID());
+    }
+
+    public void invalidateChunk(World world, int chunkX, int chunkZ) {
+        Cache<Long, ChunkRegions> cache = chunkCache.get(world.getUID());
+        if (cache != null) cache.invalidate(chunkKey(chunkX, chunkZ));
+    }
+
+    private static Cache<Long, ChunkRegions> newCache() {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(CACHE_TTL)
+                .maximumSize(CACHE_SIZE_PER_WORLD)
+                .build();
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
     }
 }
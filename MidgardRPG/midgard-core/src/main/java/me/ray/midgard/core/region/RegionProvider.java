@@ -1,9 +1,11 @@
 package me.ray.midgard.core.region;
 
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface RegionProvider {
 
@@ -25,4 +27,21 @@ public interface RegionProvider {
     default boolean isInRegion(Player player, String regionId) {
         return isInRegion(player.getLocation(), regionId);
     }
+
+    /**
+     * Describes the regions touching a chunk column, used by the chunk cache of
+     * {@link RegionManager}.
+     *
+     * @return Regions of the chunk, or null if this provider only supports point queries.
+     */
+    default ChunkRegions getChunkRegions(World world, int chunkX, int chunkZ) {
+        return null;
+    }
+
+    /**
+     * Registers the callback fired when regions change. The argument is the
+     * affected world, or null when any world may have changed.
+     */
+    default void setChangeListener(Consumer<World> listener) {
+    }
 }
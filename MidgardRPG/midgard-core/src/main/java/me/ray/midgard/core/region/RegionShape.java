@@ -0,0 +1,11 @@
+package me.ray.midgard.core.region;
+
+/**
+ * Região que cobre apenas parte de um chunk; testada bloco a bloco.
+ */
+public interface RegionShape {
+
+    String getId();
+
+    boolean contains(int x, int y, int z);
+}
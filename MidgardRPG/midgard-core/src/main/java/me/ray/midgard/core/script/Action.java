@@ -4,4 +4,13 @@ import org.bukkit.entity.Player;
 
 public interface Action {
     void execute(Player player);
+
+    /**
+     * Executa com o contexto do script (variáveis e atributos).
+     * Ações que não usam variáveis herdam este padrão, que ignora alvos que não são jogadores.
+     */
+    default void execute(ScriptContext context) {
+        Player player = context.getPlayer();
+        if (player != null) execute(player);
+    }
 }
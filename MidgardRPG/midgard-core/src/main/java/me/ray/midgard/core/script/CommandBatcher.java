@@ -0,0 +1,69 @@
+package me.ray.midgard.core.script;
+
+import me.ray.midgard.core.debug.MidgardLogger;
+import me.ray.midgard.core.utils.Task;
+import org.bukkit.Bukkit;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Despacha comandos de console disparados por scripts.
+ * <p>
+ * Na thread principal o comando roda na hora, como antes, para que ações
+ * seguintes do script vejam seus efeitos. Chamadas de outras threads são
+ * enfileiradas e despachadas por uma única tarefa síncrona, respeitando um
+ * limite por tick para que picos não travem a thread principal.
+ */
+public final class CommandBatcher {
+
+    private static final int MAX_PER_TICK = 200;
+
+    private static final Queue<String> PENDING = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean SCHEDULED = new AtomicBoolean(false);
+
+    private CommandBatcher() {}
+
+    public static void dispatch(String command) {
+        if (Bukkit.isPrimaryThread()) {
+            run(command);
+            return;
+        }
+        PENDING.add(command);
+        if (SCHEDULED.compareAndSet(false, true)) {
+            Task.sync(CommandBatcher::flush);
+        }
+    }
+
+    private static void flush() {
+        int dispatched = 0;
+        String command;
+        while (dispatched < MAX_PER_TICK && (command = PENDING.poll()) != null) {
+            run(command);
+            dispatched++;
+        }
+
+        if (PENDING.isEmpty()) {
+            SCHEDULED.set(false);
+            // Re-check: a command may have been queued between poll() and set(false)
+            if (!PENDING.isEmpty() && SCHEDULED.compareAndSet(false, true)) {
+                Task.sync(CommandBatcher::flush);
+            }
+        } else {
+            Task.syncLater(CommandBatcher::flush, 1L);
+        }
+    }
+
+    private static void run(String command) {
+        try {
+            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
+        } catch (Exception e) {
+            MidgardLogger.error("Erro ao executar comando de script: '" + command + "'", e);
+        }
+    }
+
+    public static int getPendingCount() {
+        return PENDING.size();
+    }
+}
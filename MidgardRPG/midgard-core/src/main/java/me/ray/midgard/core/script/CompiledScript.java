@@ -0,0 +1,67 @@
+package me.ray.midgard.core.script;
+
+import me.ray.midgard.core.debug.MidgardLogger;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.List;
+
+/**
+ * Script já analisado: ações e condições com argumentos pré-processados.
+ * Variáveis e placeholders são ligados a slots numéricos na compilação.
+ * <p>
+ * Criado uma única vez via {@link ScriptEngine#compile(List)} e reutilizado
+ * em toda execução, sem regex nem parsing de linhas no caminho quente.
+ * Instâncias são imutáveis e podem ser compartilhadas.
+ */
+public final class CompiledScript {
+
+    public static final CompiledScript EMPTY = new CompiledScript(List.of(), List.of(), 0);
+
+    private final List<Action> actions;
+    private final List<Condition> conditions;
+    private final int variableCount;
+
+    CompiledScript(List<Action> actions, List<Condition> conditions, int variableCount) {
+        this.actions = List.copyOf(actions);
+        this.conditions = List.copyOf(conditions);
+        this.variableCount = variableCount;
+    }
+
+    /**
+     * Executa as ações se todas as condições forem satisfeitas.
+     *
+     * @param entity Alvo (jogador ou mob).
+     * @return true se as ações foram executadas.
+     */
+    public boolean execute(LivingEntity entity) {
+        if (entity == null || actions.isEmpty()) return false;
+
+        ScriptContext context = new ScriptContext(entity, variableCount);
+        if (!conditions.isEmpty() && !ScriptEngine.check(context, conditions)) return false;
+
+        for (int i = 0, size = actions.size(); i < size && !context.isHalted(); i++) {
+            try {
+                actions.get(i).execute(context);
+            } catch (Exception e) {
+                MidgardLogger.error("Erro na execução de script compilado para " + entity.getName(), e);
+            }
+        }
+        return true;
+    }
+
+    public List<Action> getActions() {
+        return actions;
+    }
+
+    public List<Condition> getConditions() {
+        return conditions;
+    }
+
+    public int getVariableCount() {
+        return variableCount;
+    }
+
+    public boolean isEmpty() {
+        return actions.isEmpty();
+    }
+}
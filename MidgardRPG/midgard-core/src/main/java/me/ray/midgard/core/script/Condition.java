@@ -4,4 +4,13 @@ import org.bukkit.entity.Player;
 
 public interface Condition {
     boolean check(Player player);
+
+    /**
+     * Verifica com o contexto do script (variáveis e atributos).
+     * Condições que não usam variáveis herdam este padrão; o jogador é null
+     * quando o alvo é um mob.
+     */
+    default boolean check(ScriptContext context) {
+        return check(context.getPlayer());
+    }
 }
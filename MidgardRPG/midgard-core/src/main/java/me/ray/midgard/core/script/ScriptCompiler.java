@@ -0,0 +1,34 @@
+package me.ray.midgard.core.script;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tabela de símbolos usada durante a compilação de um script.
+ * Cada variável declarada com {@code [set]} recebe um slot fixo.
+ */
+public final class ScriptCompiler {
+
+    private final List<String> variables = new ArrayList<>();
+
+    /**
+     * @return Slot da variável, ou -1 se não declarada.
+     */
+    public int slotOf(String name) {
+        return variables.indexOf(name);
+    }
+
+    /**
+     * Declara uma variável (ou retorna o slot existente).
+     */
+    public int declare(String name) {
+        int slot = variables.indexOf(name);
+        if (slot >= 0) return slot;
+        variables.add(name);
+        return variables.size() - 1;
+    }
+
+    public int getVariableCount() {
+        return variables.size();
+    }
+}
@@ -0,0 +1,100 @@
+package me.ray.midgard.core.script;
+
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.core.attribute.AttributeInstance;
+import me.ray.midgard.core.attribute.CoreAttributeData;
+import me.ray.midgard.core.profile.MidgardProfile;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+/**
+ * Estado de uma execução de {@link CompiledScript}.
+ * <p>
+ * As variáveis do script são slots numéricos definidos na compilação;
+ * ações e expressões acessam-nos por índice, sem busca por nome.
+ * <p>
+ * O alvo pode ser qualquer {@link LivingEntity} (ex: efeitos em mobs). Nesse
+ * caso {@link #getPlayer()} é null e ações que dependem de jogador são ignoradas.
+ */
+public final class ScriptContext {
+
+    private static final double[] NO_VARIABLES = new double[0];
+
+    private final LivingEntity entity;
+    private final Player player;
+    private final double[] variables;
+    private double[] scratch = NO_VARIABLES;
+    private CoreAttributeData attributes;
+    private boolean attributesResolved;
+    private boolean halted;
+
+    public ScriptContext(LivingEntity entity, int variableCount) {
+        this.entity = entity;
+        this.player = entity instanceof Player p ? p : null;
+        this.variables = variableCount == 0 ? NO_VARIABLES : new double[variableCount];
+    }
+
+    /**
+     * @return Jogador alvo, ou null se o alvo não é um jogador.
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    public LivingEntity getEntity() {
+        return entity;
+    }
+
+    public double getVariable(int slot) {
+        return variables[slot];
+    }
+
+    public void setVariable(int slot, double value) {
+        variables[slot] = value;
+    }
+
+    /**
+     * Valor atual de um atributo Midgard do jogador (0 se indisponível).
+     */
+    public double getAttribute(String attributeId) {
+        CoreAttributeData data = getAttributes();
+        if (data == null) return 0.0;
+        AttributeInstance instance = data.getInstance(attributeId);
+        return instance != null ? instance.getValue() : 0.0;
+    }
+
+    /**
+     * Atributos do jogador, resolvidos uma vez por execução. Null para mobs.
+     */
+    public CoreAttributeData getAttributes() {
+        if (!attributesResolved) {
+            attributesResolved = true;
+            if (player != null && MidgardCore.getProfileManager() != null) {
+                MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
+                attributes = profile != null ? profile.getData(CoreAttributeData.class) : null;
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * Interrompe as ações restantes desta execução.
+     */
+    public void halt() {
+        this.halted = true;
+    }
+
+    public boolean isHalted() {
+        return halted;
+    }
+
+    /**
+     * Buffer reutilizável para slots de fórmulas durante a execução.
+     */
+    double[] scratch(int size) {
+        if (scratch.length < size) {
+            scratch = new double[size];
+        }
+        return scratch;
+    }
+}
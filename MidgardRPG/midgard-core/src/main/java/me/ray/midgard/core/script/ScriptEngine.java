@@ -1,9 +1,15 @@
 package me.ray.midgard.core.script;
 
+import me.ray.midgard.core.script.actions.AttributeAction;
 import me.ray.midgard.core.script.actions.ConsoleCommandAction;
+import me.ray.midgard.core.script.actions.DamageAction;
+import me.ray.midgard.core.script.actions.EffectAction;
+import me.ray.midgard.core.script.actions.GuardAction;
 import me.ray.midgard.core.script.actions.MessageAction;
+import me.ray.midgard.core.script.actions.SetVariableAction;
 import me.ray.midgard.core.script.actions.SoundAction;
 import me.ray.midgard.core.script.conditions.ChanceCondition;
+import me.ray.midgard.core.script.conditions.CompareCondition;
 import me.ray.midgard.core.script.conditions.PermissionCondition;
 import org.bukkit.entity.Player;
 
@@ -12,11 +18,27 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Compilador e executor de scripts de ação.
+ * <p>
+ * Ações: {@code [message] texto}, {@code [console] comando}, {@code [sound] som [vol] [pitch]},
+ * {@code [set] var = expressão}, {@code [attribute] id add|remove|set expressão},
+ * {@code [effect] id [ticks]}, {@code [damage] expressão}, {@code [if] a op b}.
+ * <p>
+ * Condições: {@code permission: nó}, {@code chance: 0.5}, {@code compare: a op b}.
+ * <p>
+ * Textos aceitam {@code %player%}, {@code %uuid%} e {@code {var}}; expressões aceitam
+ * variáveis do script e IDs de atributos do jogador.
+ */
 public class ScriptEngine {
 
     private static final Pattern ACTION_PATTERN = Pattern.compile("\\[(.*?)\\] (.*)");
 
     public static List<Action> parseActions(List<String> lines) {
+        return parseActions(lines, new ScriptCompiler());
+    }
+
+    public static List<Action> parseActions(List<String> lines, ScriptCompiler compiler) {
         List<Action> actions = new ArrayList<>();
         if (lines == null) return actions;
         
@@ -30,15 +52,43 @@ public class ScriptEngine {
                     switch (type) {
                         case "message":
                         case "msg":
-                            actions.add(new MessageAction(value));
+                            actions.add(new MessageAction(ScriptText.compile(value, compiler)));
                             break;
                         case "console":
                         case "cmd":
-                            actions.add(new ConsoleCommandAction(value));
+                            actions.add(new ConsoleCommandAction(ScriptText.compile(value, compiler)));
                             break;
                         case "sound":
                             actions.add(new SoundAction(value));
                             break;
+                        case "set":
+                        case "var": {
+                            String[] parts = value.split("=", 2);
+                            if (parts.length < 2) throw new IllegalArgumentException("esperado 'nome = expressão'");
+                            ScriptExpression expression = ScriptExpression.compile(parts[1], compiler);
+                            actions.add(new SetVariableAction(compiler.declare(parts[0].trim()), expression));
+                            break;
+                        }
+                        case "attribute":
+                        case "attr": {
+                            String[] parts = value.trim().split(" ", 3);
+                            if (parts.length < 3) throw new IllegalArgumentException("esperado 'id add|remove|set valor'");
+                            AttributeAction.Mode mode = AttributeAction.Mode.valueOf(parts[1].toUpperCase());
+                            actions.add(new AttributeAction(parts[0].toLowerCase(), mode, ScriptExpression.compile(parts[2], compiler)));
+                            break;
+                        }
+                        case "effect": {
+                            String[] parts = value.trim().split(" ", 2);
+                            ScriptExpression duration = parts.length > 1 ? ScriptExpression.compile(parts[1], compiler) : null;
+                            actions.add(new EffectAction(parts[0], duration));
+                            break;
+                        }
+                        case "damage":
+                            actions.add(new DamageAction(ScriptExpression.compile(value, compiler)));
+                            break;
+                        case "if":
+                            actions.add(new GuardAction(parseComparison(value, compiler)));
+                            break;
                         default:
                              // Unknown action, ignore or log
                              break;
@@ -51,19 +101,41 @@ public class ScriptEngine {
         return actions;
     }
 
+    /**
+     * Compila as linhas de ação uma única vez em um {@link CompiledScript} imutável.
+     */
+    public static CompiledScript compile(List<String> actionLines) {
+        return compile(actionLines, null);
+    }
+
+    /**
+     * Compila linhas de ação e de condição em um {@link CompiledScript} imutável.
+     * Condições e ações compartilham a mesma tabela de variáveis.
+     */
+    public static CompiledScript compile(List<String> actionLines, List<String> conditionLines) {
+        if ((actionLines == null || actionLines.isEmpty()) && (conditionLines == null || conditionLines.isEmpty())) {
+            return CompiledScript.EMPTY;
+        }
+        ScriptCompiler compiler = new ScriptCompiler();
+        List<Condition> conditions = parseConditions(conditionLines, compiler);
+        List<Action> actions = parseActions(actionLines, compiler);
+        return new CompiledScript(actions, conditions, compiler.getVariableCount());
+    }
+
+    /**
+     * Analisa e executa as linhas a cada chamada.
+     * Para scripts executados repetidamente, prefira {@link #compile(List)}.
+     */
     public static void executeActions(Player player, List<String> lines) {
         if (player == null || lines == null) return;
-        List<Action> actions = parseActions(lines);
-        for (Action action : actions) {
-            try {
-                action.execute(player);
-            } catch (Exception e) {
-                me.ray.midgard.core.debug.MidgardLogger.error("Erro na execução de script ação para " + player.getName(), e);
-            }
-        }
+        compile(lines).execute(player);
     }
 
     public static List<Condition> parseConditions(List<String> lines) {
+        return parseConditions(lines, new ScriptCompiler());
+    }
+
+    public static List<Condition> parseConditions(List<String> lines, ScriptCompiler compiler) {
         List<Condition> conditions = new ArrayList<>();
         if (lines == null) return conditions;
         
@@ -87,6 +159,10 @@ public class ScriptEngine {
                              me.ray.midgard.core.debug.MidgardLogger.warn("Valor inválido para condição de chance: " + value);
                         }
                         break;
+                    case "compare":
+                    case "if":
+                        conditions.add(parseComparison(value, compiler));
+                        break;
                 }
             } catch (Exception e) {
                 me.ray.midgard.core.debug.MidgardLogger.warn("Erro ao analisar linha de condição: '" + line + "'");
@@ -95,6 +171,21 @@ public class ScriptEngine {
         return conditions;
     }
 
+    private static CompareCondition parseComparison(String value, ScriptCompiler compiler) {
+        // Two-character operators are declared first so ">=" is not read as ">"
+        for (CompareCondition.Operator operator : CompareCondition.Operator.values()) {
+            String symbol = operator.getSymbol();
+            int index = value.indexOf(symbol);
+            if (index > 0) {
+                return new CompareCondition(
+                        ScriptExpression.compile(value.substring(0, index), compiler),
+                        operator,
+                        ScriptExpression.compile(value.substring(index + symbol.length()), compiler));
+            }
+        }
+        throw new IllegalArgumentException("Operador de comparação ausente: " + value);
+    }
+
     public static boolean check(Player player, List<Condition> conditions) {
         if (player == null || conditions == null) return false;
         try {
@@ -108,6 +199,18 @@ public class ScriptEngine {
         }
     }
 
+    static boolean check(ScriptContext context, List<Condition> conditions) {
+        try {
+            for (int i = 0, size = conditions.size(); i < size; i++) {
+                if (!conditions.get(i).check(context)) return false;
+            }
+            return true;
+        } catch (Exception e) {
+            me.ray.midgard.core.debug.MidgardLogger.error("Erro ao verificar condições para " + context.getEntity().getName(), e);
+            return false;
+        }
+    }
+
     public static void execute(Player player, List<Action> actions) {
         if (player == null || actions == null) return;
         for (Action action : actions) {
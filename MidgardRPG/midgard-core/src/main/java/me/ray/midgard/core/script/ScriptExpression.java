@@ -0,0 +1,54 @@
+package me.ray.midgard.core.script;
+
+import me.ray.midgard.core.utils.CompiledFormula;
+import me.ray.midgard.core.utils.FormulaUtils;
+
+/**
+ * Argumento numérico compilado de uma ação ou condição.
+ * <p>
+ * Identificadores da fórmula são ligados na compilação: variáveis do script
+ * viram slots do {@link ScriptContext}; os demais nomes são lidos como
+ * atributos Midgard do jogador. Constantes são resolvidas uma única vez.
+ */
+public final class ScriptExpression {
+
+    private final CompiledFormula formula;
+    private final int[] variableSlots; // -1 = attribute lookup
+    private final String[] attributeIds;
+    private final boolean constant;
+    private final double constantValue;
+
+    private ScriptExpression(CompiledFormula formula, int[] variableSlots, String[] attributeIds) {
+        this.formula = formula;
+        this.variableSlots = variableSlots;
+        this.attributeIds = attributeIds;
+        this.constant = formula.isConstant();
+        this.constantValue = constant ? formula.evaluate() : 0.0;
+    }
+
+    public static ScriptExpression compile(String raw, ScriptCompiler compiler) {
+        CompiledFormula formula = FormulaUtils.compile(raw.trim());
+        String[] names = formula.getVariables();
+        int[] slots = new int[names.length];
+        String[] attributes = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            slots[i] = compiler.slotOf(names[i]);
+            if (slots[i] < 0) attributes[i] = names[i].toLowerCase();
+        }
+        return new ScriptExpression(formula, slots, attributes);
+    }
+
+    public double evaluate(ScriptContext context) {
+        if (constant) return constantValue;
+        double[] values = context.scratch(variableSlots.length);
+        for (int i = 0; i < variableSlots.length; i++) {
+            int slot = variableSlots[i];
+            values[i] = slot >= 0 ? context.getVariable(slot) : context.getAttribute(attributeIds[i]);
+        }
+        return formula.evaluate(values);
+    }
+
+    public boolean isConstant() {
+        return constant;
+    }
+}
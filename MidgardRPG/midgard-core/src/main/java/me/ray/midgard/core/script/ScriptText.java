@@ -0,0 +1,117 @@
+package me.ray.midgard.core.script;
+
+import org.bukkit.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Texto com placeholders pré-analisados.
+ * <p>
+ * Suporta {@code %player%}, {@code %uuid%} (nome e UUID do alvo, jogador ou mob) e {@code {variavel}} para variáveis
+ * do script. O texto é dividido em literais e slots uma única vez; a renderização
+ * apenas concatena, sem buscas ou substituições.
+ */
+public final class ScriptText {
+
+    private static final int PLAYER_NAME = -1;
+    private static final int PLAYER_UUID = -2;
+
+    private final String raw;
+    private final String[] literals; // literals.length == slots.length + 1
+    private final int[] slots;
+
+    private ScriptText(String raw, String[] literals, int[] slots) {
+        this.raw = raw;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * Compila um texto sem variáveis de script (apenas placeholders do jogador).
+     */
+    public static ScriptText of(String raw) {
+        return compile(raw, null);
+    }
+
+    public static ScriptText compile(String raw, ScriptCompiler compiler) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        int i = 0;
+        while (i < raw.length()) {
+            char c = raw.charAt(i);
+            if (c == '%' && raw.startsWith("%player%", i)) {
+                literals.add(current.toString());
+                current.setLength(0);
+                slots.add(PLAYER_NAME);
+                i += 8;
+                continue;
+            }
+            if (c == '%' && raw.startsWith("%uuid%", i)) {
+                literals.add(current.toString());
+                current.setLength(0);
+                slots.add(PLAYER_UUID);
+                i += 6;
+                continue;
+            }
+            if (c == '{' && compiler != null) {
+                int end = raw.indexOf('}', i + 1);
+                if (end > i + 1) {
+                    int slot = compiler.slotOf(raw.substring(i + 1, end));
+                    if (slot >= 0) {
+                        literals.add(current.toString());
+                        current.setLength(0);
+                        slots.add(slot);
+                        i = end + 1;
+                        continue;
+                    }
+                }
+            }
+            current.append(c);
+            i++;
+        }
+        literals.add(current.toString());
+
+        int[] slotArray = new int[slots.size()];
+        for (int s = 0; s < slotArray.length; s++) slotArray[s] = slots.get(s);
+        return new ScriptText(raw, literals.toArray(new String[0]), slotArray);
+    }
+
+    public String render(ScriptContext context) {
+        if (slots.length == 0) return raw;
+
+        LivingEntity target = context.getEntity();
+        StringBuilder sb = new StringBuilder(raw.length() + 16);
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(literals[i]);
+            int slot = slots[i];
+            if (slot == PLAYER_NAME) {
+                sb.append(target.getName());
+            } else if (slot == PLAYER_UUID) {
+                sb.append(target.getUniqueId());
+            } else {
+                appendNumber(sb, context.getVariable(slot));
+            }
+        }
+        sb.append(literals[slots.length]);
+        return sb.toString();
+    }
+
+    private static void appendNumber(StringBuilder sb, double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            sb.append((long) value);
+        } else {
+            sb.append(Math.round(value * 100.0) / 100.0);
+        }
+    }
+
+    public boolean isConstant() {
+        return slots.length == 0;
+    }
+
+    public String getRaw() {
+        return raw;
+    }
+}
@@ -0,0 +1,51 @@
+package me.ray.midgard.core.script.actions;
+
+import me.ray.midgard.core.attribute.AttributeInstance;
+import me.ray.midgard.core.attribute.CoreAttributeData;
+import me.ray.midgard.core.debug.DebugCategory;
+import me.ray.midgard.core.debug.MidgardLogger;
+import me.ray.midgard.core.script.Action;
+import me.ray.midgard.core.script.ScriptContext;
+import me.ray.midgard.core.script.ScriptExpression;
+import org.bukkit.entity.Player;
+
+/**
+ * {@code [attribute] <id> <add|remove|set> <expressão>} — altera o valor base de um atributo.
+ */
+public class AttributeAction implements Action {
+
+    public enum Mode { ADD, REMOVE, SET }
+
+    private final String attributeId;
+    private final Mode mode;
+    private final ScriptExpression amount;
+
+    public AttributeAction(String attributeId, Mode mode, ScriptExpression amount) {
+        this.attributeId = attributeId;
+        this.mode = mode;
+        this.amount = amount;
+    }
+
+    @Override
+    public void execute(Player player) {
+        execute(new ScriptContext(player, 0));
+    }
+
+    @Override
+    public void execute(ScriptContext context) {
+        CoreAttributeData data = context.getAttributes();
+        if (data == null) return;
+        AttributeInstance instance = data.getInstance(attributeId);
+        if (instance == null) {
+            MidgardLogger.debug(DebugCategory.SCRIPT, "Atributo desconhecido em script: %s", attributeId);
+            return;
+        }
+
+        double value = amount.evaluate(context);
+        switch (mode) {
+            case ADD -> instance.setBaseValue(instance.getBaseValue() + value);
+            case REMOVE -> instance.setBaseValue(instance.getBaseValue() - value);
+            case SET -> instance.setBaseValue(value);
+        }
+    }
+}
@@ -1,20 +1,30 @@
 package me.ray.midgard.core.script.actions;
 
 import me.ray.midgard.core.script.Action;
-import org.bukkit.Bukkit;
+import me.ray.midgard.core.script.CommandBatcher;
+import me.ray.midgard.core.script.ScriptContext;
+import me.ray.midgard.core.script.ScriptText;
 import org.bukkit.entity.Player;
 
 public class ConsoleCommandAction implements Action {
 
-    private final String command;
+    private final ScriptText command;
 
     public ConsoleCommandAction(String command) {
+        this(ScriptText.of(command));
+    }
+
+    public ConsoleCommandAction(ScriptText command) {
         this.command = command;
     }
 
     @Override
     public void execute(Player player) {
-        String cmd = command.replace("%player%", player.getName());
-        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), cmd);
+        execute(new ScriptContext(player, 0));
+    }
+
+    @Override
+    public void execute(ScriptContext context) {
+        CommandBatcher.dispatch(command.render(context));
     }
 }
@@ -0,0 +1,32 @@
+package me.ray.midgard.core.script.actions;
+
+import me.ray.midgard.core.script.Action;
+import me.ray.midgard.core.script.ScriptContext;
+import me.ray.midgard.core.script.ScriptExpression;
+import org.bukkit.entity.Player;
+
+/**
+ * {@code [damage] <expressão>} — causa dano ao alvo.
+ * Passa pelo evento de dano normal, então mitigação e indicadores do combate se aplicam.
+ */
+public class DamageAction implements Action {
+
+    private final ScriptExpression amount;
+
+    public DamageAction(ScriptExpression amount) {
+        this.amount = amount;
+    }
+
+    @Override
+    public void execute(Player player) {
+        execute(new ScriptContext(player, 0));
+    }
+
+    @Override
+    public void execute(ScriptContext context) {
+        double value = amount.evaluate(context);
+        if (value > 0) {
+            context.getEntity().damage(value);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package me.ray.midgard.core.script.actions;
+
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.core.effect.EffectManager;
+import me.ray.midgard.core.effect.EffectRegistry;
+import me.ray.midgard.core.effect.StatusEffect;
+import me.ray.midgard.core.script.Action;
+import me.ray.midgard.core.script.ScriptContext;
+import me.ray.midgard.core.script.ScriptExpression;
+import org.bukkit.entity.Player;
+
+/**
+ * {@code [effect] <id> [duração em ticks]} — aplica um efeito de status ao alvo.
+ * Sem duração, usa a duração padrão do efeito.
+ */
+public class EffectAction implements Action {
+
+    private final String effectId;
+    private final ScriptExpression duration; // null = default duration
+
+    public EffectAction(String effectId, ScriptExpression duration) {
+        this.effectId = effectId;
+        this.duration = duration;
+    }
+
+    @Override
+    public void execute(Player player) {
+        execute(new ScriptContext(player, 0));
+    }
+
+    @Override
+    public void execute(ScriptContext context) {
+        EffectManager manager = MidgardCore.getEffectManager();
+        StatusEffect effect = EffectRegistry.getInstance().getEffect(effectId);
+        if (manager == null || effect == null) return;
+
+        long ticks = duration != null ? (long) duration.evaluate(context) : effect.getDefaultDuration();
+        if (ticks > 0) {
+            manager.applyEffect(context.getEntity(), effect, ticks, context.getEntity().getUniqueId());
+        }
+    }
+}
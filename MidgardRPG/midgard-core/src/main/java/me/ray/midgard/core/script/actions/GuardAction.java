@@ -0,0 +1,30 @@
+package me.ray.midgard.core.script.actions;
+
+import me.ray.midgard.core.script.Action;
+import me.ray.midgard.core.script.Condition;
+import me.ray.midgard.core.script.ScriptContext;
+import org.bukkit.entity.Player;
+
+/**
+ * {@code [if] <condição>} — interrompe as ações seguintes se a condição falhar.
+ */
+public class GuardAction implements Action {
+
+    private final Condition condition;
+
+    public GuardAction(Condition condition) {
+        this.condition = condition;
+    }
+
+    @Override
+    public void execute(Player player) {
+        execute(new ScriptContext(player, 0));
+    }
+
+    @Override
+    public void execute(ScriptContext context) {
+        if (!condition.check(context)) {
+            context.halt();
+        }
+    }
+}
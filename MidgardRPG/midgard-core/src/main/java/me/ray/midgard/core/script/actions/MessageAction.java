@@ -1,19 +1,31 @@
 package me.ray.midgard.core.script.actions;
 
 import me.ray.midgard.core.script.Action;
+import me.ray.midgard.core.script.ScriptContext;
+import me.ray.midgard.core.script.ScriptText;
 import me.ray.midgard.core.text.MessageUtils;
 import org.bukkit.entity.Player;
 
 public class MessageAction implements Action {
 
-    private final String message;
+    private final ScriptText message;
 
     public MessageAction(String message) {
+        this(ScriptText.of(message));
+    }
+
+    public MessageAction(ScriptText message) {
         this.message = message;
     }
 
     @Override
     public void execute(Player player) {
-        MessageUtils.send(player, message);
+        execute(new ScriptContext(player, 0));
+    }
+
+    @Override
+    public void execute(ScriptContext context) {
+        if (context.getPlayer() == null) return;
+        MessageUtils.send(context.getPlayer(), message.render(context));
     }
 }
@@ -0,0 +1,30 @@
+package me.ray.midgard.core.script.actions;
+
+import me.ray.midgard.core.script.Action;
+import me.ray.midgard.core.script.ScriptContext;
+import me.ray.midgard.core.script.ScriptExpression;
+import org.bukkit.entity.Player;
+
+/**
+ * {@code [set] nome = expressão} — grava o resultado em um slot de variável.
+ */
+public class SetVariableAction implements Action {
+
+    private final int slot;
+    private final ScriptExpression expression;
+
+    public SetVariableAction(int slot, ScriptExpression expression) {
+        this.slot = slot;
+        this.expression = expression;
+    }
+
+    @Override
+    public void execute(Player player) {
+        execute(new ScriptContext(player, slot + 1));
+    }
+
+    @Override
+    public void execute(ScriptContext context) {
+        context.setVariable(slot, expression.evaluate(context));
+    }
+}
@@ -3,9 +3,11 @@ package me.ray.midgard.core.script.actions;
 import me.ray.midgard.core.debug.DebugCategory;
 import me.ray.midgard.core.debug.MidgardLogger;
 import me.ray.midgard.core.script.Action;
+import me.ray.midgard.core.script.ScriptContext;
 import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Sound;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
 public class SoundAction implements Action {
@@ -50,4 +52,15 @@ public class SoundAction implements Action {
             sound.toString(), player.getName(), volume, pitch);
         player.playSound(player.getLocation(), sound, volume, pitch);
     }
+
+    @Override
+    public void execute(ScriptContext context) {
+        if (context.getPlayer() != null) {
+            execute(context.getPlayer());
+            return;
+        }
+        // Mobs: som no mundo, na posição da entidade
+        LivingEntity entity = context.getEntity();
+        entity.getWorld().playSound(entity.getLocation(), sound, volume, pitch);
+    }
 }
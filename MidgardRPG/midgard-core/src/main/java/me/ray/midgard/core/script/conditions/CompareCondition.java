@@ -0,0 +1,58 @@
+package me.ray.midgard.core.script.conditions;
+
+import me.ray.midgard.core.script.Condition;
+import me.ray.midgard.core.script.ScriptContext;
+import me.ray.midgard.core.script.ScriptExpression;
+import org.bukkit.entity.Player;
+
+/**
+ * Comparação numérica tipada: {@code <expressão> <op> <expressão>}.
+ * Ex.: {@code compare: strength >= 10} ou {@code compare: dano > max_health / 2}.
+ */
+public class CompareCondition implements Condition {
+
+    public enum Operator {
+        GREATER_EQUAL(">="), LESS_EQUAL("<="), NOT_EQUAL("!="), EQUAL("=="), GREATER(">"), LESS("<");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        boolean test(double a, double b) {
+            return switch (this) {
+                case GREATER_EQUAL -> a >= b;
+                case LESS_EQUAL -> a <= b;
+                case NOT_EQUAL -> a != b;
+                case EQUAL -> a == b;
+                case GREATER -> a > b;
+                case LESS -> a < b;
+            };
+        }
+    }
+
+    private final ScriptExpression left;
+    private final Operator operator;
+    private final ScriptExpression right;
+
+    public CompareCondition(ScriptExpression left, Operator operator, ScriptExpression right) {
+        this.left = left;
+        this.operator = operator;
+        this.right = right;
+    }
+
+    @Override
+    public boolean check(Player player) {
+        return check(new ScriptContext(player, 0));
+    }
+
+    @Override
+    public boolean check(ScriptContext context) {
+        return operator.test(left.evaluate(context), right.evaluate(context));
+    }
+}
@@ -13,6 +13,6 @@ public class PermissionCondition implements Condition {
 
     @Override
     public boolean check(Player player) {
-        return player.hasPermission(permission);
+        return player != null && player.hasPermission(permission);
     }
 }
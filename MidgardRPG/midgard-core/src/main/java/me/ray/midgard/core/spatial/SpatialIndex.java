@@ -0,0 +1,423 @@
+package me.ray.midgard.core.spatial;
+
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Índice espacial de jogadores e mobs rastreados pelo Midgard.
+ * <p>
+ * As entradas ficam em buckets por seção de chunk (16x16x16) e guardam a última
+ * posição conhecida. Jogadores são atualizados pelos eventos de movimento: a
+ * posição é sobrescrita e o bucket só muda quando a seção muda. Mobs registrados
+ * com {@link #track(LivingEntity)} são atualizados por uma tarefa a cada tick,
+ * que também revalida os jogadores periodicamente (veículos não disparam
+ * {@link PlayerMoveEvent}).
+ * <p>
+ * Consultas por raio, caixa e k-vizinhos visitam apenas as seções que cruzam a
+ * área, sem {@code getNearbyEntities}. Uso exclusivo da thread principal.
+ */
+public class SpatialIndex implements Listener {
+
+    public static final int PLAYERS = 1;
+    public static final int MOBS = 2;
+    public static final int ALL = PLAYERS | MOBS;
+
+    private static final int PLAYER_REFRESH_TICKS = 20;
+
+    private final Map<UUID, Map<Long, Section>> worlds = new HashMap<>();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final List<Entry> mobs = new ArrayList<>();
+    private final Location scratch = new Location(null, 0, 0, 0);
+    private int ticks;
+
+    public SpatialIndex(JavaPlugin plugin) {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            add(player, PLAYERS);
+        }
+        Bukkit.getScheduler().runTaskTimer(plugin, this::refresh, 1L, 1L);
+    }
+
+    // ============================================
+    // RASTREAMENTO
+    // ============================================
+
+    /**
+     * Passa a indexar um mob. Ele sai do índice ao ser removido do mundo.
+     */
+    public void track(LivingEntity entity) {
+        if (entity instanceof Player || !entity.isValid() || entries.containsKey(entity.getUniqueId())) return;
+        Entry entry = add(entity, MOBS);
+        entry.mobSlot = mobs.size();
+        mobs.add(entry);
+    }
+
+    public void untrack(LivingEntity entity) {
+        remove(entity.getUniqueId());
+    }
+
+    public boolean isTracked(LivingEntity entity) {
+        return entries.containsKey(entity.getUniqueId());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry add(LivingEntity entity, int kind) {
+        Entry entry = new Entry(entity, kind);
+        entries.put(entity.getUniqueId(), entry);
+        entity.getLocation(scratch);
+        move(entry, scratch.getWorld(), scratch.getX(), scratch.getY(), scratch.getZ());
+        return entry;
+    }
+
+    private void remove(UUID id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) return;
+        detach(entry);
+        if (entry.kind == MOBS) {
+            removeMob(entry);
+        }
+    }
+
+    private void removeMob(Entry entry) {
+        int last = mobs.size() - 1;
+        Entry moved = mobs.remove(last);
+        if (moved != entry) {
+            mobs.set(entry.mobSlot, moved);
+            moved.mobSlot = entry.mobSlot;
+        }
+    }
+
+    private void move(Entry entry, World world, double x, double y, double z) {
+        entry.x = x;
+        entry.y = y;
+        entry.z = z;
+
+        UUID worldId = world != null ? world.getUID() : null;
+        int sx = floor(x) >> 4, sy = floor(y) >> 4, sz = floor(z) >> 4;
+        long key = key(sx, sy, sz);
+        if (entry.section != null && key == entry.key && worldId != null && worldId.equals(entry.worldId)) return;
+
+        detach(entry);
+        if (worldId == null) return;
+
+        entry.worldId = worldId;
+        entry.key = key;
+        entry.section = worlds.computeIfAbsent(worldId, id -> new HashMap<>())
+                .computeIfAbsent(key, k -> new Section(sx, sy, sz));
+        entry.section.add(entry);
+    }
+
+    private void detach(Entry entry) {
+        Section section = entry.section;
+        if (section == null) return;
+        section.remove(entry);
+        if (section.size == 0) {
+            Map<Long, Section> sections = worlds.get(entry.worldId);
+            if (sections != null) {
+                sections.remove(entry.key);
+                if (sections.isEmpty()) worlds.remove(entry.worldId);
+            }
+        }
+        entry.section = null;
+    }
+
+    private void refresh() {
+        for (int i = mobs.size() - 1; i >= 0; i--) {
+            Entry entry = mobs.get(i);
+            if (!entry.entity.isValid()) {
+                remove(entry.entity.getUniqueId());
+                continue;
+            }
+            sync(entry);
+        }
+
+        if (++ticks >= PLAYER_REFRESH_TICKS) {
+            ticks = 0;
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                Entry entry = entries.get(player.getUniqueId());
+                if (entry != null) sync(entry);
+            }
+        }
+    }
+
+    private void sync(Entry entry) {
+        entry.entity.getLocation(scratch);
+        move(entry, scratch.getWorld(), scratch.getX(), scratch.getY(), scratch.getZ());
+    }
+
+    // ============================================
+    // EVENTOS
+    // ============================================
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        remove(event.getPlayer().getUniqueId());
+        add(event.getPlayer(), PLAYERS);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        moveTo(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        moveTo(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        Entry entry = entries.get(event.getPlayer().getUniqueId());
+        if (entry != null) sync(entry);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        moveTo(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    private void moveTo(Player player, Location to) {
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry != null) {
+            move(entry, to.getWorld(), to.getX(), to.getY(), to.getZ());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        if (!(event.getEntity() instanceof Player)) {
+            remove(event.getEntity().getUniqueId());
+        }
+    }
+
+    // ============================================
+    // CONSULTAS
+    // ============================================
+
+    /**
+     * Entidades dentro da caixa centrada em {@code center} com meias-extensões
+     * dx/dy/dz (mesma convenção de {@code Entity#getNearbyEntities}).
+     */
+    public List<LivingEntity> getInBox(Location center, double dx, double dy, double dz, int kinds) {
+        List<LivingEntity> result = new ArrayList<>();
+        Map<Long, Section> sections = sections(center);
+        if (sections == null) return result;
+
+        double x = center.getX(), y = center.getY(), z = center.getZ();
+        double minX = x - dx, minY = y - dy, minZ = z - dz;
+        double maxX = x + dx, maxY = y + dy, maxZ = z + dz;
+        forEachSection(sections, minX, minY, minZ, maxX, maxY, maxZ, section -> {
+            for (int i = 0; i < section.size; i++) {
+                Entry e = section.entries[i];
+                if ((e.kind & kinds) != 0
+                        && e.x >= minX && e.x <= maxX && e.y >= minY && e.y <= maxY && e.z >= minZ && e.z <= maxZ) {
+                    result.add(e.entity);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Entidades a até {@code radius} blocos de {@code center}.
+     */
+    public List<LivingEntity> getInRadius(Location center, double radius, int kinds) {
+        List<LivingEntity> result = new ArrayList<>();
+        Map<Long, Section> sections = sections(center);
+        if (sections == null) return result;
+
+        double x = center.getX(), y = center.getY(), z = center.getZ();
+        double radiusSq = radius * radius;
+        forEachSection(sections, x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, section -> {
+            for (int i = 0; i < section.size; i++) {
+                Entry e = section.entries[i];
+                if ((e.kind & kinds) != 0 && distanceSq(e, x, y, z) <= radiusSq) {
+                    result.add(e.entity);
+                }
+            }
+        });
+        return result;
+    }
+
+    public List<Player> getPlayersInBox(Location center, double dx, double dy, double dz) {
+        return asPlayers(getInBox(center, dx, dy, dz, PLAYERS));
+    }
+
+    public List<Player> getPlayersInRadius(Location center, double radius) {
+        return asPlayers(getInRadius(center, radius, PLAYERS));
+    }
+
+    /**
+     * Até {@code k} entidades mais próximas dentro de {@code maxRadius}, da mais
+     * próxima para a mais distante.
+     */
+    public List<LivingEntity> getNearest(Location center, int k, double maxRadius, int kinds) {
+        Map<Long, Section> sections = sections(center);
+        if (sections == null || k <= 0) return Collections.emptyList();
+
+        double x = center.getX(), y = center.getY(), z = center.getZ();
+        double radiusSq = maxRadius * maxRadius;
+        Entry[] best = new Entry[k];
+        double[] bestDist = new double[k];
+        int[] found = {0};
+
+        forEachSection(sections, x - maxRadius, y - maxRadius, z - maxRadius, x + maxRadius, y + maxRadius, z + maxRadius, section -> {
+            for (int i = 0; i < section.size; i++) {
+                Entry e = section.entries[i];
+                if ((e.kind & kinds) == 0) continue;
+                double d = distanceSq(e, x, y, z);
+                if (d > radiusSq || (found[0] == k && d >= bestDist[k - 1])) continue;
+
+                int p = found[0] < k ? found[0]++ : k - 1;
+                while (p > 0 && bestDist[p - 1] > d) {
+                    best[p] = best[p - 1];
+                    bestDist[p] = bestDist[p - 1];
+                    p--;
+                }
+                best[p] = e;
+                bestDist[p] = d;
+            }
+        });
+
+        List<LivingEntity> result = new ArrayList<>(found[0]);
+        for (int i = 0; i < found[0]; i++) result.add(best[i].entity);
+        return result;
+    }
+
+    private Map<Long, Section> sections(Location center) {
+        World world = center.getWorld();
+        return world != null ? worlds.get(world.getUID()) : null;
+    }
+
+    private static void forEachSection(Map<Long, Section> sections, double minX, double minY, double minZ,
+                                       double maxX, double maxY, double maxZ, Consumer<Section> action) {
+        int minSX = floor(minX) >> 4, maxSX = floor(maxX) >> 4;
+        int minSY = floor(minY) >> 4, maxSY = floor(maxY) >> 4;
+        int minSZ = floor(minZ) >> 4, maxSZ = floor(maxZ) >> 4;
+
+        // Área maior que o número de seções ocupadas: percorre o mapa em vez da grade
+        long volume = (long) (maxSX - minSX + 1) * (maxSY - minSY + 1) * (maxSZ - minSZ + 1);
+        if (volume > sections.size()) {
+            for (Section section : sections.values()) {
+                if (section.sx >= minSX && section.sx <= maxSX && section.sy >= minSY && section.sy <= maxSY
+                        && section.sz >= minSZ && section.sz <= maxSZ) {
+                    action.accept(section);
+                }
+            }
+            return;
+        }
+
+        for (int sx = minSX; sx <= maxSX; sx++) {
+            for (int sz = minSZ; sz <= maxSZ; sz++) {
+                for (int sy = minSY; sy <= maxSY; sy++) {
+                    Section section = sections.get(key(sx, sy, sz));
+                    if (section != null) action.accept(section);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Player> asPlayers(List<LivingEntity> entities) {
+        return (List<Player>) (List<?>) entities;
+    }
+
+    private static double distanceSq(Entry e, double x, double y, double z) {
+        double dx = e.x - x, dy = e.y - y, dz = e.z - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static int floor(double value) {
+        int i = (int) value;
+        return value < i ? i - 1 : i;
+    }
+
+    static long key(int sx, int sy, int sz) {
+        return ((long) (sx & 0x3FFFFF) << 42) | ((long) (sz & 0x3FFFFF) << 20) | (sy & 0xFFFFF);
+    }
+
+    // ============================================
+    // ESTRUTURAS
+    // ============================================
+
+    private static final class Entry {
+        final LivingEntity entity;
+        final int kind;
+        double x;
+        double y;
+        double z;
+        UUID worldId;
+        long key;
+        Section section;
+        int slot;
+        int mobSlot;
+
+        Entry(LivingEntity entity, int kind) {
+            this.entity = entity;
+            this.kind = kind;
+        }
+    }
+
+    /**
+     * Bucket de uma seção; remoção por troca com o último.
+     */
+    private static final class Section {
+        final int sx;
+        final int sy;
+        final int sz;
+        Entry[] entries = new Entry[4];
+        int size;
+
+        Section(int sx, int sy, int sz) {
+            this.sx = sx;
+            this.sy = sy;
+            this.sz = sz;
+        }
+
+        void add(Entry entry) {
+            if (size == entries.length) entries = Arrays.copyOf(entries, size * 2);
+            entry.slot = size;
+            entries[size++] = entry;
+        }
+
+        void remove(Entry entry) {
+            int slot = entry.slot;
+            if (slot >= size || entries[slot] != entry) return;
+            Entry last = entries[--size];
+            entries[slot] = last;
+            last.slot = slot;
+            entries[size] = null;
+        }
+    }
+}
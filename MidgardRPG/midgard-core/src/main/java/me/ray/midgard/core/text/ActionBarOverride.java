@@ -0,0 +1,43 @@
+package me.ray.midgard.core.text;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reserva temporária da action bar de um jogador.
+ * <p>
+ * Um módulo que precisa exibir algo (ex.: feedback de combo) reserva a action bar
+ * até um tick; overlays periódicos consultam {@link #isHeld(Player)} e pulam o
+ * jogador enquanto a reserva vale. A expiração é verificada na leitura, então
+ * não há tarefas agendadas para liberar a reserva.
+ */
+public final class ActionBarOverride {
+
+    private static final Map<UUID, Integer> HELD_UNTIL = new ConcurrentHashMap<>();
+
+    private ActionBarOverride() {
+    }
+
+    /**
+     * Reserva a action bar pelos próximos ticks.
+     */
+    public static void hold(Player player, int ticks) {
+        HELD_UNTIL.put(player.getUniqueId(), Bukkit.getCurrentTick() + ticks);
+    }
+
+    public static void release(Player player) {
+        HELD_UNTIL.remove(player.getUniqueId());
+    }
+
+    public static boolean isHeld(Player player) {
+        Integer until = HELD_UNTIL.get(player.getUniqueId());
+        if (until == null) return false;
+        if (Bukkit.getCurrentTick() < until) return true;
+        HELD_UNTIL.remove(player.getUniqueId(), until);
+        return false;
+    }
+}
@@ -1,11 +1,14 @@
 package me.ray.midgard.core.text;
 
-import me.clip.placeholderapi.PlaceholderAPI;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import me.ray.midgard.core.MidgardCore;
 import me.ray.midgard.core.i18n.MessageKey;
 import me.ray.midgard.core.i18n.Placeholder;
+import me.ray.midgard.core.placeholder.PlaceholderCache;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
@@ -27,26 +30,57 @@ public class MessageUtils {
 
     private static final MiniMessage MM = MiniMessage.miniMessage();
 
+    // Legacy code char -> MiniMessage tag
+    private static final String[] LEGACY_TAGS = buildLegacyTags();
+
+    // Raw string -> parsed component. Components are immutable, so sharing is safe.
+    private static final Cache<String, Component> COMPONENT_CACHE = Caffeine.newBuilder()
+            .maximumSize(4096)
+            .build();
+
     /**
      * Parses a MiniMessage string into a Component.
      * @param message The string with MiniMessage tags.
      * @return The parsed Component.
      */
     public static Component parse(String message) {
-        return MM.deserialize(convertLegacyColors(message));
+        return COMPONENT_CACHE.get(message, raw -> MM.deserialize(convertLegacyColors(raw)));
+    }
+
+    /**
+     * Parses a MiniMessage string with extra tag resolvers. Not cached, since the
+     * result depends on the resolvers; callers are expected to keep the component.
+     * @param message The string with MiniMessage tags.
+     * @param resolvers Additional tags available while parsing.
+     * @return The parsed Component.
+     */
+    public static Component parse(String message, TagResolver resolvers) {
+        return MM.deserialize(convertLegacyColors(message), resolvers);
     }
 
     /**
      * Parses a MiniMessage string into a Component, resolving PAPI placeholders if a player is provided.
+     * Placeholder values are memoized per player and tick by {@link PlaceholderCache}.
+     * Only the raw template goes into the component cache; once placeholders were
+     * substituted the text is player-specific and is parsed without caching.
      * @param player The player for context.
      * @param message The string with MiniMessage tags and PAPI placeholders.
      * @return The parsed Component.
      */
     public static Component parse(Player player, String message) {
-        if (player != null) {
-            message = PlaceholderAPI.setPlaceholders(player, message);
-        }
-        return MM.deserialize(convertLegacyColors(message));
+        if (player == null) return parse(message);
+
+        String resolved = PlaceholderCache.apply(player, message);
+        if (resolved.equals(message)) return parse(message);
+        return MM.deserialize(convertLegacyColors(resolved));
+    }
+
+    /**
+     * Descarta os componentes em cache (ex.: após reload de mensagens).
+     */
+    public static void clearCache() {
+        COMPONENT_CACHE.invalidateAll();
+        PlaceholderCache.clear();
     }
 
     public static String serialize(Component component) {
@@ -105,33 +139,71 @@ public class MessageUtils {
         return sb.toString();
     }
 
+    /**
+     * Converts legacy codes ({@code &a}, {@code §l}, {@code &#RRGGBB}) to MiniMessage tags
+     * in a single pass. Strings without {@code &} or {@code §} are returned as-is.
+     */
     private static String convertLegacyColors(String message) {
-        // Hex support &#RRGGBB
-        message = message.replaceAll("&#([0-9a-fA-F]{6})", "<#$1>");
+        int length = message.length();
+        int first = -1;
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (c == '&' || c == '§') {
+                first = i;
+                break;
+            }
+        }
+        if (first < 0) return message;
+
+        StringBuilder sb = null;
+        int copied = 0;
+        for (int i = first; i < length - 1; i++) {
+            char c = message.charAt(i);
+            if (c != '&' && c != '§') continue;
+
+            char code = message.charAt(i + 1);
+            String tag = null;
+            int consumed = 2;
+            if (code == '#' && c == '&' && i + 8 <= length && isHex(message, i + 2, i + 8)) {
+                tag = "<#" + message.substring(i + 2, i + 8) + ">";
+                consumed = 8;
+            } else if (code < LEGACY_TAGS.length) {
+                tag = LEGACY_TAGS[code];
+            }
+            if (tag == null) continue;
+
+            if (sb == null) sb = new StringBuilder(length + 32);
+            sb.append(message, copied, i).append(tag);
+            i += consumed - 1;
+            copied = i + 1;
+        }
+        if (sb == null) return message;
+        sb.append(message, copied, length);
+        return sb.toString();
+    }
 
-        return message
-                .replace("&0", "<black>").replace("§0", "<black>")
-                .replace("&1", "<dark_blue>").replace("§1", "<dark_blue>")
-                .replace("&2", "<dark_green>").replace("§2", "<dark_green>")
-                .replace("&3", "<dark_aqua>").replace("§3", "<dark_aqua>")
-                .replace("&4", "<dark_red>").replace("§4", "<dark_red>")
-                .replace("&5", "<dark_purple>").replace("§5", "<dark_purple>")
-                .replace("&6", "<gold>").replace("§6", "<gold>")
-                .replace("&7", "<gray>").replace("§7", "<gray>")
-                .replace("&8", "<dark_gray>").replace("§8", "<dark_gray>")
-                .replace("&9", "<blue>").replace("§9", "<blue>")
-                .replace("&a", "<green>").replace("§a", "<green>")
-                .replace("&b", "<aqua>").replace("§b", "<aqua>")
-                .replace("&c", "<red>").replace("§c", "<red>")
-                .replace("&d", "<light_purple>").replace("§d", "<light_purple>")
-                .replace("&e", "<yellow>").replace("§e", "<yellow>")
-                .replace("&f", "<white>").replace("§f", "<white>")
-                .replace("&k", "<obfuscated>").replace("§k", "<obfuscated>")
-                .replace("&l", "<bold>").replace("§l", "<bold>")
-                .replace("&m", "<strikethrough>").replace("§m", "<strikethrough>")
-                .replace("&n", "<underlined>").replace("§n", "<underlined>")
-                .replace("&o", "<italic>").replace("§o", "<italic>")
-                .replace("&r", "<reset>").replace("§r", "<reset>");
+    private static boolean isHex(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) return false;
+        }
+        return true;
+    }
+
+    private static String[] buildLegacyTags() {
+        String[] tags = new String[128];
+        String codes = "0123456789abcdefklmnor";
+        String[] names = {
+                "black", "dark_blue", "dark_green", "dark_aqua", "dark_red", "dark_purple", "gold", "gray",
+                "dark_gray", "blue", "green", "aqua", "red", "light_purple", "yellow", "white",
+                "obfuscated", "bold", "strikethrough", "underlined", "italic", "reset"
+        };
+        for (int i = 0; i < codes.length(); i++) {
+            char code = codes.charAt(i);
+            tags[code] = "<" + names[i] + ">";
+            tags[Character.toUpperCase(code)] = tags[code];
+        }
+        return tags;
     }
 
     /**
@@ -0,0 +1,358 @@
+package me.ray.midgard.core.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A pre-parsed mathematical expression.
+ * <p>
+ * The expression is parsed once into a tree of nodes with constants folded and
+ * variables bound to numeric slots. Evaluation walks the tree reading the slot
+ * array, so it performs no allocation and no string work.
+ * <p>
+ * Instances are immutable and thread-safe. Obtain them through
+ * {@link FormulaUtils#compile(String)} to benefit from the shared cache.
+ *
+ * <pre>
+ * CompiledFormula f = FormulaUtils.compile("base * (1 + str / 100)", "base", "str");
+ * double[] slots = new double[f.getSlotCount()]; // reuse across calls
+ * slots[0] = 10; slots[1] = 50;
+ * double result = f.evaluate(slots);
+ * </pre>
+ */
+public final class CompiledFormula {
+
+    private static final double[] NO_SLOTS = new double[0];
+
+    // One-argument functions that may also be written without parentheses
+    private static final Set<String> BARE_FUNCTIONS = Set.of(
+            "sqrt", "sin", "cos", "tan", "abs", "floor", "ceil", "round", "log10");
+
+    private final String expression;
+    private final String[] variables;
+    private final Node root;
+
+    private CompiledFormula(String expression, String[] variables, Node root) {
+        this.expression = expression;
+        this.variables = variables;
+        this.root = root;
+    }
+
+    /**
+     * Compiles an expression.
+     *
+     * @param expression The expression.
+     * @param boundVariables Variable names in slot order, or null to assign slots
+     *                       in order of first appearance.
+     */
+    static CompiledFormula compile(String expression, String[] boundVariables) {
+        Parser parser = new Parser(expression, boundVariables);
+        Node root = parser.parse();
+        return new CompiledFormula(expression, parser.variables.toArray(new String[0]), root);
+    }
+
+    /**
+     * Evaluates the formula. Pass a reused array to avoid allocating.
+     *
+     * @param slots Variable values indexed by slot (see {@link #slotOf(String)}).
+     */
+    public double evaluate(double... slots) {
+        return root.eval(slots);
+    }
+
+    /**
+     * Evaluates a formula without variables.
+     */
+    public double evaluate() {
+        if (variables.length > 0) {
+            throw new IllegalArgumentException("Formula requires variables " + Arrays.toString(variables) + ": " + expression);
+        }
+        return root.eval(NO_SLOTS);
+    }
+
+    /**
+     * Convenience evaluation by name. Allocates the slot array; prefer
+     * {@link #evaluate(double...)} on hot paths.
+     */
+    public double evaluate(Map<String, Double> values) {
+        double[] slots = new double[variables.length];
+        for (int i = 0; i < variables.length; i++) {
+            Double value = values.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing variable '" + variables[i] + "' for formula: " + expression);
+            }
+            slots[i] = value;
+        }
+        return root.eval(slots);
+    }
+
+    /**
+     * @return Slot index of the variable, or -1 if the formula does not use it.
+     */
+    public int slotOf(String variable) {
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].equals(variable)) return i;
+        }
+        return -1;
+    }
+
+    public int getSlotCount() {
+        return variables.length;
+    }
+
+    public String[] getVariables() {
+        return variables.clone();
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public boolean isConstant() {
+        return root instanceof Const;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledFormula{" + expression + "}";
+    }
+
+    // ============================================
+    // NODES
+    // ============================================
+
+    @FunctionalInterface
+    private interface Node {
+        double eval(double[] slots);
+    }
+
+    private record Const(double value) implements Node {
+        @Override
+        public double eval(double[] slots) {
+            return value;
+        }
+    }
+
+    private record Var(int slot) implements Node {
+        @Override
+        public double eval(double[] slots) {
+            return slots[slot];
+        }
+    }
+
+    // ============================================
+    // PARSER
+    // ============================================
+
+    private static final class Parser {
+        private final String str;
+        private final boolean autoBind;
+        private final List<String> variables = new ArrayList<>();
+        private int pos = -1, ch;
+
+        Parser(String str, String[] boundVariables) {
+            this.str = str;
+            this.autoBind = boundVariables == null;
+            if (boundVariables != null) {
+                variables.addAll(Arrays.asList(boundVariables));
+            }
+        }
+
+        void nextChar() {
+            ch = (++pos < str.length()) ? str.charAt(pos) : -1;
+        }
+
+        boolean eat(int charToEat) {
+            while (ch == ' ') nextChar();
+            if (ch == charToEat) {
+                nextChar();
+                return true;
+            }
+            return false;
+        }
+
+        Node parse() {
+            nextChar();
+            Node x = parseExpression();
+            if (pos < str.length()) throw new RuntimeException("Unexpected: " + (char) ch);
+            return x;
+        }
+
+        Node parseExpression() {
+            Node x = parseTerm();
+            for (;;) {
+                if      (eat('+')) x = binary('+', x, parseTerm()); // addition
+                else if (eat('-')) x = binary('-', x, parseTerm()); // subtraction
+                else return x;
+            }
+        }
+
+        Node parseTerm() {
+            Node x = parseFactor();
+            for (;;) {
+                if      (eat('*')) x = binary('*', x, parseFactor()); // multiplication
+                else if (eat('/')) x = binary('/', x, parseFactor()); // division
+                else if (eat('%')) x = binary('%', x, parseFactor()); // modulus
+                else return x;
+            }
+        }
+
+        Node parseFactor() {
+            if (eat('+')) return parseFactor(); // unary plus
+            if (eat('-')) return negate(parseFactor()); // unary minus
+
+            while (ch == ' ') nextChar();
+            Node x;
+            int startPos = this.pos;
+            if (eat('(')) { // parentheses
+                x = parseExpression();
+                eat(')');
+            } else if ((ch >= '0' && ch <= '9') || ch == '.') { // numbers
+                while ((ch >= '0' && ch <= '9') || ch == '.') nextChar();
+                x = new Const(Double.parseDouble(str.substring(startPos, this.pos)));
+            } else if (isIdentifierStart(ch)) { // functions and variables
+                while (isIdentifierPart(ch)) nextChar();
+                String name = str.substring(startPos, this.pos);
+                if (eat('(')) {
+                    x = function(name, parseArguments());
+                } else if (isBareFunction(name)) {
+                    // Legacy syntax without parentheses: "sqrt 16", "sin angle"
+                    x = function(name, List.of(parseFactor()));
+                } else {
+                    x = identifier(name);
+                }
+            } else {
+                throw new RuntimeException("Unexpected: " + (char) ch);
+            }
+
+            if (eat('^')) x = binary('^', x, parseFactor()); // exponentiation
+
+            return x;
+        }
+
+        List<Node> parseArguments() {
+            List<Node> args = new ArrayList<>(3);
+            if (eat(')')) return args;
+            do {
+                args.add(parseExpression());
+            } while (eat(','));
+            if (!eat(')')) throw new RuntimeException("Expected ')' at position " + pos + ": " + str);
+            return args;
+        }
+
+        Node identifier(String name) {
+            int slot = variables.indexOf(name);
+            if (slot >= 0) return new Var(slot);
+
+            if (name.equals("pi")) return new Const(Math.PI);
+
+            if (!autoBind) throw new RuntimeException("Unknown variable: " + name);
+            variables.add(name);
+            return new Var(variables.size() - 1);
+        }
+
+        /**
+         * True when a one-argument function name is followed by its operand
+         * directly, as the old evaluator accepted.
+         */
+        boolean isBareFunction(String name) {
+            if (!BARE_FUNCTIONS.contains(name) || variables.contains(name)) return false;
+            while (ch == ' ') nextChar();
+            return (ch >= '0' && ch <= '9') || ch == '.' || isIdentifierStart(ch);
+        }
+
+        static boolean isIdentifierStart(int c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+        }
+
+        static boolean isIdentifierPart(int c) {
+            return isIdentifierStart(c) || (c >= '0' && c <= '9');
+        }
+    }
+
+    // ============================================
+    // NODE FACTORIES (with constant folding)
+    // ============================================
+
+    private static Node fold(Node node, Node... inputs) {
+        for (Node input : inputs) {
+            if (!(input instanceof Const)) return node;
+        }
+        return new Const(node.eval(NO_SLOTS));
+    }
+
+    private static Node negate(Node x) {
+        return fold(s -> -x.eval(s), x);
+    }
+
+    private static Node binary(char op, Node a, Node b) {
+        Node node;
+        switch (op) {
+            case '+': node = s -> a.eval(s) + b.eval(s); break;
+            case '-': node = s -> a.eval(s) - b.eval(s); break;
+            case '*': node = s -> a.eval(s) * b.eval(s); break;
+            case '/': node = s -> a.eval(s) / b.eval(s); break;
+            case '%': node = s -> a.eval(s) % b.eval(s); break;
+            case '^': node = s -> Math.pow(a.eval(s), b.eval(s)); break;
+            default: throw new IllegalStateException("Unknown operator: " + op);
+        }
+        return fold(node, a, b);
+    }
+
+    private static Node function(String func, List<Node> args) {
+        Node[] a = args.toArray(new Node[0]);
+        Node node;
+        switch (func) {
+            case "sqrt":  arity(func, a, 1); node = s -> Math.sqrt(a[0].eval(s)); break;
+            case "sin":   arity(func, a, 1); node = s -> Math.sin(Math.toRadians(a[0].eval(s))); break;
+            case "cos":   arity(func, a, 1); node = s -> Math.cos(Math.toRadians(a[0].eval(s))); break;
+            case "tan":   arity(func, a, 1); node = s -> Math.tan(Math.toRadians(a[0].eval(s))); break;
+            case "abs":   arity(func, a, 1); node = s -> Math.abs(a[0].eval(s)); break;
+            case "floor": arity(func, a, 1); node = s -> Math.floor(a[0].eval(s)); break;
+            case "ceil":  arity(func, a, 1); node = s -> Math.ceil(a[0].eval(s)); break;
+            case "round": arity(func, a, 1); node = s -> Math.rint(a[0].eval(s)); break;
+            case "pow":   arity(func, a, 2); node = s -> Math.pow(a[0].eval(s), a[1].eval(s)); break;
+            case "log":
+                if (a.length == 1) {
+                    node = s -> Math.log(a[0].eval(s));
+                } else {
+                    arity(func, a, 2); // log(x, base)
+                    node = s -> Math.log(a[0].eval(s)) / Math.log(a[1].eval(s));
+                }
+                break;
+            case "log10": arity(func, a, 1); node = s -> Math.log10(a[0].eval(s)); break;
+            case "clamp":
+                arity(func, a, 3); // clamp(x, min, max)
+                node = s -> Math.max(a[1].eval(s), Math.min(a[2].eval(s), a[0].eval(s)));
+                break;
+            case "min":
+                if (a.length < 2) throw new RuntimeException("min requires at least 2 arguments");
+                node = a.length == 2 ? s -> Math.min(a[0].eval(s), a[1].eval(s)) : s -> {
+                    double m = a[0].eval(s);
+                    for (int i = 1; i < a.length; i++) m = Math.min(m, a[i].eval(s));
+                    return m;
+                };
+                break;
+            case "max":
+                if (a.length < 2) throw new RuntimeException("max requires at least 2 arguments");
+                node = a.length == 2 ? s -> Math.max(a[0].eval(s), a[1].eval(s)) : s -> {
+                    double m = a[0].eval(s);
+                    for (int i = 1; i < a.length; i++) m = Math.max(m, a[i].eval(s));
+                    return m;
+                };
+                break;
+            default:
+                throw new RuntimeException("Unknown function: " + func);
+        }
+        return fold(node, a);
+    }
+
+    private static void arity(String func, Node[] args, int expected) {
+        if (args.length != expected) {
+            throw new RuntimeException(func + " expects " + expected + " argument(s), got " + args.length);
+        }
+    }
+}
@@ -1,13 +1,50 @@
 package me.ray.midgard.core.utils;
 
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.core.cooldown.CooldownRegistry;
+import me.ray.midgard.core.cooldown.PlayerCooldowns;
+import me.ray.midgard.core.profile.MidgardProfile;
+import me.ray.midgard.core.profile.ProfileManager;
+
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Serviço de cooldowns compartilhado entre o core e os módulos.
+ * <p>
+ * Chaves são internadas em IDs por {@link CooldownRegistry} e os valores ficam em
+ * {@link PlayerCooldowns} (array primitivo, tempo em ticks). Para jogadores com
+ * perfil carregado o store vive no perfil, e chaves marcadas como persistentes
+ * são salvas com ele; para outros UUIDs (ex.: mobs) o store é apenas em memória.
+ * <p>
+ * No caminho quente, resolva o ID e o {@link PlayerCooldowns} uma vez e use
+ * {@link PlayerCooldowns#isActive(int, int)}. Os métodos por String abaixo são
+ * mantidos por compatibilidade.
+ */
 public class CooldownManager {
 
-    private final Map<UUID, Map<String, Long>> cooldowns = new HashMap<>();
+    private final Map<UUID, PlayerCooldowns> transientCooldowns = new ConcurrentHashMap<>();
+
+    /**
+     * Obtém o store de cooldowns de um UUID.
+     */
+    public PlayerCooldowns of(UUID player) {
+        ProfileManager profileManager = MidgardCore.getProfileManager();
+        MidgardProfile profile = profileManager != null ? profileManager.getProfile(player) : null;
+        if (profile != null) {
+            return profile.getOrCreateData(PlayerCooldowns.class);
+        }
+        return transientCooldowns.computeIfAbsent(player, k -> new PlayerCooldowns());
+    }
+
+    /**
+     * Remove o store em memória de um UUID sem perfil.
+     */
+    public void evict(UUID player) {
+        transientCooldowns.remove(player);
+    }
 
     /**
      * Sets a cooldown for a player.
@@ -16,8 +53,7 @@ public class CooldownManager {
      * @param duration The duration of the cooldown.
      */
     public void setCooldown(UUID player, String key, Duration duration) {
-        cooldowns.computeIfAbsent(player, k -> new HashMap<>())
-                 .put(key, System.currentTimeMillis() + duration.toMillis());
+        of(player).set(CooldownRegistry.intern(key), (int) ((duration.toMillis() + 49) / 50));
     }
 
     /**
@@ -27,31 +63,16 @@ public class CooldownManager {
      * @return True if on cooldown, false otherwise.
      */
     public boolean isOnCooldown(UUID player, String key) {
-        Map<String, Long> playerCooldowns = cooldowns.get(player);
-        if (playerCooldowns == null) return false;
-        
-        Long expiry = playerCooldowns.get(key);
-        if (expiry == null) return false;
-
-        if (System.currentTimeMillis() >= expiry) {
-            playerCooldowns.remove(key);
-            return false;
-        }
-        return true;
+        int id = CooldownRegistry.find(key);
+        return id >= 0 && of(player).isActive(id);
     }
 
     /**
      * Gets the remaining time in milliseconds.
      */
     public long getRemainingMillis(UUID player, String key) {
-        Map<String, Long> playerCooldowns = cooldowns.get(player);
-        if (playerCooldowns == null) return 0;
-
-        Long expiry = playerCooldowns.get(key);
-        if (expiry == null) return 0;
-
-        long remaining = expiry - System.currentTimeMillis();
-        return Math.max(0, remaining);
+        int id = CooldownRegistry.find(key);
+        return id >= 0 ? of(player).getRemainingMillis(id) : 0;
     }
 
     /**
@@ -1,93 +1,61 @@
 package me.ray.midgard.core.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import java.util.Map;
 
 public class FormulaUtils {
 
+    private static final int CACHE_SIZE = 1024;
+
+    // Bounded so formulas built from dynamic strings cannot grow it without limit
+    private static final Cache<String, CompiledFormula> CACHE = Caffeine.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .build();
+
     /**
-     * Evaluates a mathematical expression string with variables.
+     * Compiles (or fetches from cache) an expression, assigning variable slots
+     * in order of first appearance.
      * Supported operators: +, -, *, /, ^, %
+     * Functions: sqrt, sin, cos, tan (degrees), abs, floor, ceil, round,
+     * min, max, clamp(x, min, max), pow(a, b), log(x), log(x, base), log10.
+     * One-argument functions also accept the legacy form without parentheses ("sqrt 16").
+     */
+    public static CompiledFormula compile(String expression) {
+        return CACHE.get(expression, expr -> CompiledFormula.compile(expr, null));
+    }
+
+    /**
+     * Compiles (or fetches from cache) an expression with explicitly ordered variables,
+     * so callers can fill slots by index without looking them up.
+     * Example: compile("base * (1 + str / 100)", "base", "str").evaluate(10.0, 50.0)
+     */
+    public static CompiledFormula compile(String expression, String... variables) {
+        if (variables.length == 0) return compile(expression);
+        String key = expression + '\0' + String.join(",", variables);
+        return CACHE.get(key, k -> CompiledFormula.compile(expression, variables.clone()));
+    }
+
+    /**
+     * Evaluates a mathematical expression string with variables.
      * Example: evaluate("base * (1 + str / 100)", Map.of("base", 10.0, "str", 50.0))
+     * <p>
+     * The expression is compiled once and cached; on hot paths prefer keeping the
+     * {@link CompiledFormula} and calling {@link CompiledFormula#evaluate(double...)}.
      */
     public static double evaluate(String expression, Map<String, Double> variables) {
-        for (Map.Entry<String, Double> entry : variables.entrySet()) {
-            expression = expression.replace(entry.getKey(), String.valueOf(entry.getValue()));
-        }
-        return eval(expression);
+        return compile(expression).evaluate(variables);
     }
 
     public static double eval(final String str) {
-        return new Object() {
-            int pos = -1, ch;
-
-            void nextChar() {
-                ch = (++pos < str.length()) ? str.charAt(pos) : -1;
-            }
-
-            boolean eat(int charToEat) {
-                while (ch == ' ') nextChar();
-                if (ch == charToEat) {
-                    nextChar();
-                    return true;
-                }
-                return false;
-            }
-
-            double parse() {
-                nextChar();
-                double x = parseExpression();
-                if (pos < str.length()) throw new RuntimeException("Unexpected: " + (char)ch);
-                return x;
-            }
-
-            double parseExpression() {
-                double x = parseTerm();
-                for (;;) {
-                    if      (eat('+')) x += parseTerm(); // addition
-                    else if (eat('-')) x -= parseTerm(); // subtraction
-                    else return x;
-                }
-            }
-
-            double parseTerm() {
-                double x = parseFactor();
-                for (;;) {
-                    if      (eat('*')) x *= parseFactor(); // multiplication
-                    else if (eat('/')) x /= parseFactor(); // division
-                    else if (eat('%')) x %= parseFactor(); // modulus
-                    else return x;
-                }
-            }
-
-            double parseFactor() {
-                if (eat('+')) return parseFactor(); // unary plus
-                if (eat('-')) return -parseFactor(); // unary minus
-
-                double x;
-                int startPos = this.pos;
-                if (eat('(')) { // parentheses
-                    x = parseExpression();
-                    eat(')');
-                } else if ((ch >= '0' && ch <= '9') || ch == '.') { // numbers
-                    while ((ch >= '0' && ch <= '9') || ch == '.') nextChar();
-                    x = Double.parseDouble(str.substring(startPos, this.pos));
-                } else if (ch >= 'a' && ch <= 'z') { // functions
-                    while (ch >= 'a' && ch <= 'z') nextChar();
-                    String func = str.substring(startPos, this.pos);
-                    x = parseFactor();
-                    if (func.equals("sqrt")) x = Math.sqrt(x);
-                    else if (func.equals("sin")) x = Math.sin(Math.toRadians(x));
-                    else if (func.equals("cos")) x = Math.cos(Math.toRadians(x));
-                    else if (func.equals("tan")) x = Math.tan(Math.toRadians(x));
-                    else throw new RuntimeException("Unknown function: " + func);
-                } else {
-                    throw new RuntimeException("Unexpected: " + (char)ch);
-                }
-
-                if (eat('^')) x = Math.pow(x, parseFactor()); // exponentiation
+        return compile(str).evaluate();
+    }
 
-                return x;
-            }
-        }.parse();
+    /**
+     * Discards all cached formulas (e.g. on config reload).
+     */
+    public static void clearCache() {
+        CACHE.invalidateAll();
     }
 }
@@ -4,44 +4,198 @@ import org.bukkit.Location;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Shape helpers for spell visuals and area checks.
+ * <p>
+ * The {@code forEach*} variants stream coordinates to a visitor instead of
+ * building a {@code List<Location>}, and read unit-shape offsets from tables
+ * cached per resolution (surface points) or per radius (block offsets), so a
+ * call does no trigonometry and allocates nothing once the table is warm. The
+ * list methods are kept for convenience and are built on top of them.
+ */
 public class GeometryUtils {
 
+    // Resolutions / radii above these are computed per call instead of cached
+    private static final int MAX_CACHED_POINTS = 4096;
+    private static final double MAX_CACHED_BLOCK_RADIUS = 32;
+    // Block radii are rounded to quarter-block steps for caching
+    private static final double RADIUS_QUANTUM = 0.25;
+
+    private static final double GOLDEN_ANGLE = Math.PI * (3. - Math.sqrt(5.));
+
+    private static final Map<Integer, double[]> CIRCLE_TABLES = new ConcurrentHashMap<>();
+    private static final Map<Integer, double[]> SPHERE_TABLES = new ConcurrentHashMap<>();
+    private static final Map<Integer, int[]> BALL_TABLES = new ConcurrentHashMap<>();
+
     /**
-     * Returns a list of locations forming a circle.
+     * Receives one point of a shape.
      */
-    public static List<Location> getCircle(Location center, double radius, int points) {
-        List<Location> locations = new ArrayList<>();
-        double increment = (2 * Math.PI) / points;
+    @FunctionalInterface
+    public interface PointVisitor {
+        void accept(double x, double y, double z);
+    }
 
-        for (int i = 0; i < points; i++) {
-            double angle = i * increment;
-            double x = center.getX() + (radius * Math.cos(angle));
-            double z = center.getZ() + (radius * Math.sin(angle));
-            locations.add(new Location(center.getWorld(), x, center.getY(), z));
+    /**
+     * Receives one block coordinate of a shape.
+     */
+    @FunctionalInterface
+    public interface BlockVisitor {
+        void accept(int x, int y, int z);
+    }
+
+    // ============================================
+    // VISITORS
+    // ============================================
+
+    /**
+     * Streams the points of a horizontal circle.
+     */
+    public static void forEachCirclePoint(double centerX, double centerY, double centerZ, double radius, int points, PointVisitor visitor) {
+        if (points <= 0) return;
+        double[] table = circleTable(points);
+        for (int i = 0; i < table.length; i += 2) {
+            visitor.accept(centerX + table[i] * radius, centerY, centerZ + table[i + 1] * radius);
         }
-        return locations;
+    }
+
+    public static void forEachCirclePoint(Location center, double radius, int points, PointVisitor visitor) {
+        forEachCirclePoint(center.getX(), center.getY(), center.getZ(), radius, points, visitor);
     }
 
     /**
-     * Returns a list of locations forming a hollow sphere.
+     * Streams evenly spread points on a sphere surface (Fibonacci lattice).
      */
-    public static List<Location> getHollowSphere(Location center, double radius, int points) {
-        List<Location> locations = new ArrayList<>();
-        double phi = Math.PI * (3. - Math.sqrt(5.)); // Golden angle
+    public static void forEachSpherePoint(double centerX, double centerY, double centerZ, double radius, int points, PointVisitor visitor) {
+        if (points <= 0) return;
+        double[] table = sphereTable(points);
+        for (int i = 0; i < table.length; i += 3) {
+            visitor.accept(centerX + table[i] * radius, centerY + table[i + 1] * radius, centerZ + table[i + 2] * radius);
+        }
+    }
 
-        for (int i = 0; i < points; i++) {
-            double y = 1 - (i / (double) (points - 1)) * 2; // y goes from 1 to -1
-            double radiusAtY = Math.sqrt(1 - y * y); // radius at y
+    public static void forEachSpherePoint(Location center, double radius, int points, PointVisitor visitor) {
+        forEachSpherePoint(center.getX(), center.getY(), center.getZ(), radius, points, visitor);
+    }
+
+    /**
+     * Streams points from {@code start} towards {@code end} every {@code step} blocks
+     * (the end point itself is excluded).
+     */
+    public static void forEachLinePoint(double startX, double startY, double startZ,
+                                        double endX, double endY, double endZ, double step, PointVisitor visitor) {
+        double dx = endX - startX;
+        double dy = endY - startY;
+        double dz = endZ - startZ;
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (length == 0 || step <= 0) return;
 
-            double theta = phi * i; // golden angle increment
+        dx /= length;
+        dy /= length;
+        dz /= length;
+        for (double d = 0; d < length; d += step) {
+            visitor.accept(startX + dx * d, startY + dy * d, startZ + dz * d);
+        }
+    }
+
+    public static void forEachLinePoint(Location start, Location end, double step, PointVisitor visitor) {
+        forEachLinePoint(start.getX(), start.getY(), start.getZ(), end.getX(), end.getY(), end.getZ(), step, visitor);
+    }
 
-            double x = Math.cos(theta) * radiusAtY;
-            double z = Math.sin(theta) * radiusAtY;
+    /**
+     * Streams a cone as rings perpendicular to {@code direction}, one every
+     * {@code step} blocks, each with {@code points} points. Ring radius grows
+     * with the half-angle; the apex is a single point.
+     */
+    public static void forEachConePoint(Location start, Vector direction, double length, double angleDegrees,
+                                        int points, double step, PointVisitor visitor) {
+        double dirLength = direction.length();
+        if (dirLength == 0 || points <= 0 || step <= 0) return;
 
-            locations.add(center.clone().add(x * radius, y * radius, z * radius));
+        double ax = direction.getX() / dirLength;
+        double ay = direction.getY() / dirLength;
+        double az = direction.getZ() / dirLength;
+
+        // Orthonormal basis (u, v) of the plane perpendicular to the axis
+        double ux, uy, uz;
+        if (Math.abs(ay) < 0.99) {
+            // u = axis x up
+            ux = -az;
+            uy = 0;
+            uz = ax;
+        } else {
+            // u = axis x east
+            ux = 0;
+            uy = az;
+            uz = -ay;
+        }
+        double uLength = Math.sqrt(ux * ux + uy * uy + uz * uz);
+        ux /= uLength;
+        uy /= uLength;
+        uz /= uLength;
+        double vx = ay * uz - az * uy;
+        double vy = az * ux - ax * uz;
+        double vz = ax * uy - ay * ux;
+
+        double sx = start.getX();
+        double sy = start.getY();
+        double sz = start.getZ();
+        double slope = Math.tan(Math.toRadians(angleDegrees));
+        double[] table = circleTable(points);
+
+        visitor.accept(sx, sy, sz);
+        for (double d = step; d <= length; d += step) {
+            double cx = sx + ax * d;
+            double cy = sy + ay * d;
+            double cz = sz + az * d;
+            double r = d * slope;
+            for (int i = 0; i < table.length; i += 2) {
+                double cos = table[i] * r;
+                double sin = table[i + 1] * r;
+                visitor.accept(cx + ux * cos + vx * sin, cy + uy * cos + vy * sin, cz + uz * cos + vz * sin);
+            }
         }
+    }
+
+    /**
+     * Streams the block coordinates whose centers are within {@code radius} of the
+     * center block.
+     */
+    public static void forEachBlockInSphere(int centerX, int centerY, int centerZ, double radius, BlockVisitor visitor) {
+        if (radius < 0) return;
+        int[] table = ballTable(radius);
+        for (int i = 0; i < table.length; i += 3) {
+            visitor.accept(centerX + table[i], centerY + table[i + 1], centerZ + table[i + 2]);
+        }
+    }
+
+    public static void forEachBlockInSphere(Location center, double radius, BlockVisitor visitor) {
+        forEachBlockInSphere(center.getBlockX(), center.getBlockY(), center.getBlockZ(), radius, visitor);
+    }
+
+    // ============================================
+    // LISTS
+    // ============================================
+
+    /**
+     * Returns a list of locations forming a circle.
+     */
+    public static List<Location> getCircle(Location center, double radius, int points) {
+        List<Location> locations = new ArrayList<>(Math.max(points, 0));
+        forEachCirclePoint(center, radius, points, (x, y, z) -> locations.add(new Location(center.getWorld(), x, y, z)));
+        return locations;
+    }
+
+    /**
+     * Returns a list of locations forming a hollow sphere.
+     */
+    public static List<Location> getHollowSphere(Location center, double radius, int points) {
+        List<Location> locations = new ArrayList<>(Math.max(points, 0));
+        forEachSpherePoint(center, radius, points, (x, y, z) -> locations.add(new Location(center.getWorld(), x, y, z)));
         return locations;
     }
 
@@ -50,28 +204,91 @@ public class GeometryUtils {
      */
     public static List<Location> getLine(Location start, Location end, double step) {
         List<Location> locations = new ArrayList<>();
-        Vector vector = end.toVector().subtract(start.toVector());
-        double length = vector.length();
-        vector.normalize();
-
-        for (double i = 0; i < length; i += step) {
-            locations.add(start.clone().add(vector.clone().multiply(i)));
-        }
+        forEachLinePoint(start, end, step, (x, y, z) -> locations.add(new Location(start.getWorld(), x, y, z)));
         return locations;
     }
-    
+
     /**
-     * Returns points in a cone shape (e.g. for breath attacks).
+     * Returns points in a cone shape (e.g. for breath attacks): rings every half
+     * block with {@code points} points each.
      */
     public static List<Location> getCone(Location start, Vector direction, double length, double angleDegrees, int points) {
-        // This is a simplified cone generation (random points inside cone)
-        // For particle effects, usually we want random points or structured rings.
-        // Let's do structured rings.
-        
-        direction.normalize();
-        
-        // TODO: Implement complex cone math if needed.
-        // For now, returning just the center line.
-        return getLine(start, start.clone().add(direction.multiply(length)), 0.5);
+        List<Location> locations = new ArrayList<>();
+        forEachConePoint(start, direction, length, angleDegrees, points, 0.5,
+                (x, y, z) -> locations.add(new Location(start.getWorld(), x, y, z)));
+        return locations;
+    }
+
+    // ============================================
+    // UNIT TABLES
+    // ============================================
+
+    /**
+     * @return (cos, sin) pairs for {@code points} angles around the unit circle.
+     */
+    private static double[] circleTable(int points) {
+        if (points > MAX_CACHED_POINTS) return buildCircle(points);
+        return CIRCLE_TABLES.computeIfAbsent(points, GeometryUtils::buildCircle);
+    }
+
+    private static double[] buildCircle(int points) {
+        double[] table = new double[points * 2];
+        double increment = (2 * Math.PI) / points;
+        for (int i = 0; i < points; i++) {
+            double angle = i * increment;
+            table[i * 2] = Math.cos(angle);
+            table[i * 2 + 1] = Math.sin(angle);
+        }
+        return table;
+    }
+
+    /**
+     * @return (x, y, z) triples on the unit sphere, y going from 1 to -1.
+     */
+    private static double[] sphereTable(int points) {
+        if (points > MAX_CACHED_POINTS) return buildSphere(points);
+        return SPHERE_TABLES.computeIfAbsent(points, GeometryUtils::buildSphere);
+    }
+
+    private static double[] buildSphere(int points) {
+        double[] table = new double[points * 3];
+        for (int i = 0; i < points; i++) {
+            double y = points == 1 ? 0 : 1 - (i / (double) (points - 1)) * 2;
+            double radiusAtY = Math.sqrt(1 - y * y);
+            double theta = GOLDEN_ANGLE * i;
+
+            table[i * 3] = Math.cos(theta) * radiusAtY;
+            table[i * 3 + 1] = y;
+            table[i * 3 + 2] = Math.sin(theta) * radiusAtY;
+        }
+        return table;
+    }
+
+    /**
+     * @return (dx, dy, dz) block offsets inside a ball of the given radius.
+     */
+    private static int[] ballTable(double radius) {
+        if (radius > MAX_CACHED_BLOCK_RADIUS) return buildBall(radius);
+        int key = (int) Math.round(radius / RADIUS_QUANTUM);
+        return BALL_TABLES.computeIfAbsent(key, k -> buildBall(k * RADIUS_QUANTUM));
+    }
+
+    private static int[] buildBall(double radius) {
+        int r = (int) Math.floor(radius);
+        double radiusSq = radius * radius;
+        int side = 2 * r + 1;
+        int[] table = new int[side * side * side * 3];
+        int size = 0;
+        for (int dx = -r; dx <= r; dx++) {
+            for (int dy = -r; dy <= r; dy++) {
+                for (int dz = -r; dz <= r; dz++) {
+                    if (dx * dx + dy * dy + dz * dz > radiusSq) continue;
+                    table[size++] = dx;
+                    table[size++] = dy;
+                    table[size++] = dz;
+                }
+            }
+        }
+        return Arrays.copyOf(table, size);
     }
 }
@@ -9,7 +9,8 @@ public class MathUtils {
 
     private static final Random RANDOM = new Random();
     private static final NavigableMap<Long, String> SUFFIXES = new TreeMap<>();
-    private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("#.##");
+    // DecimalFormat is not thread-safe; placeholders are formatted from async scoreboard threads
+    private static final ThreadLocal<DecimalFormat> DECIMAL_FORMAT = ThreadLocal.withInitial(() -> new DecimalFormat("#.##"));
 
     static {
         SUFFIXES.put(1_000L, "k");
@@ -23,7 +24,7 @@ public class MathUtils {
      */
     public static String format(double value) {
         if (value < 0) return "-" + format(-value);
-        if (value < 1000) return DECIMAL_FORMAT.format(value);
+        if (value < 1000) return formatDecimal(value);
 
         java.util.Map.Entry<Long, String> e = SUFFIXES.floorEntry((long) value);
         Long divideBy = e.getKey();
@@ -34,6 +35,13 @@ public class MathUtils {
         return hasDecimal ? (truncated / 10d) + suffix : (truncated / 10) + suffix;
     }
 
+    /**
+     * Formats a number with up to two decimal places ({@code #.##}). Thread-safe.
+     */
+    public static String formatDecimal(double value) {
+        return DECIMAL_FORMAT.get().format(value);
+    }
+
     /**
      * Returns true if the random check passes the given percentage.
      * @param chance Percentage (0-100).
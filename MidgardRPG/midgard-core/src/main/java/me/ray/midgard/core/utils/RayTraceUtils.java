@@ -2,6 +2,7 @@ package me.ray.midgard.core.utils;
 
 import org.bukkit.FluidCollisionMode;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -42,14 +43,42 @@ public class RayTraceUtils {
      */
     @Nullable
     public static RayTraceResult rayTrace(Location start, Vector direction, double range, Predicate<Entity> filter) {
+        return rayTrace(start, direction, range, 0.1, filter);
+    }
+
+    /**
+     * Raytraces for a block or entity, with a custom ray size for entity hits.
+     */
+    @Nullable
+    public static RayTraceResult rayTrace(Location start, Vector direction, double range, double raySize, Predicate<Entity> filter) {
         return start.getWorld().rayTrace(
                 start,
                 direction,
                 range,
                 FluidCollisionMode.NEVER,
                 true,
-                0.1,
+                raySize,
                 filter
         );
     }
+
+    /**
+     * Raytraces only blocks along a segment given in primitive coordinates.
+     *
+     * @return Distance to the hit block, or -1 if the segment is clear.
+     */
+    public static double rayTraceBlocks(World world, double x, double y, double z, double dx, double dy, double dz, double distance) {
+        if (distance <= 0) return -1;
+        RayTraceResult result = world.rayTraceBlocks(
+                new Location(world, x, y, z),
+                new Vector(dx, dy, dz),
+                distance,
+                FluidCollisionMode.NEVER,
+                true
+        );
+        if (result == null) return -1;
+        Vector hit = result.getHitPosition();
+        double hx = hit.getX() - x, hy = hit.getY() - y, hz = hit.getZ() - z;
+        return Math.sqrt(hx * hx + hy * hy + hz * hz);
+    }
 }
@@ -4,9 +4,11 @@ import me.ray.midgard.core.MidgardCore;
 import me.ray.midgard.core.ModuleManager;
 import me.ray.midgard.core.attribute.Attribute;
 import me.ray.midgard.core.attribute.AttributeRegistry;
+import me.ray.midgard.core.attribute.StatUpdateScheduler;
 import me.ray.midgard.core.config.ConfigWrapper;
 import me.ray.midgard.core.database.DatabaseCredentials;
 import me.ray.midgard.core.database.DatabaseManager;
+import me.ray.midgard.core.effect.EffectManager;
 import me.ray.midgard.core.gui.GuiListener;
 import me.ray.midgard.core.i18n.LanguageManager;
 import me.ray.midgard.core.leaderboard.LeaderboardManager;
@@ -14,6 +16,7 @@ import me.ray.midgard.core.placeholder.PlaceholderRegistry;
 import me.ray.midgard.core.profile.ProfileManager;
 import me.ray.midgard.core.redis.RedisCredentials;
 import me.ray.midgard.core.redis.RedisManager;
+import me.ray.midgard.core.spatial.SpatialIndex;
 import me.ray.midgard.core.utils.CooldownManager;
 import me.ray.midgard.core.utils.PDCUtils;
 import me.ray.midgard.core.utils.Task;
@@ -28,6 +31,7 @@ import me.ray.midgard.modules.combat.CombatModule;
 import me.ray.midgard.modules.essentials.EssentialsModule;
 import me.ray.midgard.modules.item.ItemModule;
 import me.ray.midgard.modules.performance.PerformanceModule;
+import me.ray.midgard.modules.territory.TerritoryModule;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.logging.Level;
@@ -104,6 +108,7 @@ public class MidgardBootstrap {
         Task.init(plugin);
         PDCUtils.init(plugin);
         this.cooldownManager = new CooldownManager();
+        MidgardCore.setCooldownManager(this.cooldownManager);
     }
 
     private void loadAttributes() {
@@ -145,6 +150,7 @@ public class MidgardBootstrap {
                 config.getConfig().getBoolean("database.use-ssl", false)
             );
             this.databaseManager.initialize(credentials);
+            MidgardCore.setDatabaseManager(this.databaseManager);
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "ERRO CRÍTICO: Falha no Banco de Dados. O plugin será desativado.", e);
             plugin.getServer().getPluginManager().disablePlugin(plugin);
@@ -182,6 +188,9 @@ public class MidgardBootstrap {
         plugin.getServer().getPluginManager().registerEvents(new MobDebugListener(), plugin);
         
         this.profileManager = new ProfileManager(plugin, databaseManager, redisManager);
+        MidgardCore.setEffectManager(new EffectManager(plugin, profileManager));
+        MidgardCore.setSpatialIndex(new SpatialIndex(plugin));
+        MidgardCore.setStatUpdateScheduler(new StatUpdateScheduler(plugin));
         
         // Sync Listener
         if (redisManager != null && redisManager.isEnabled()) {
@@ -248,6 +257,7 @@ public class MidgardBootstrap {
         registerSafely("character", () -> new CharacterModule());
         registerSafely("spells", () -> new me.ray.midgard.modules.spells.SpellsModule());
         registerSafely("performance", () -> new PerformanceModule());
+        registerSafely("territory", () -> new TerritoryModule());
         
         moduleManager.enableAll();
     }
@@ -1,7 +1,6 @@
 package me.ray.midgard.loader.listener;
 
 import me.ray.midgard.modules.item.manager.AttributeUpdater;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -28,27 +27,27 @@ public class StatUpdateListener implements Listener {
     @EventHandler
     public void onInventoryClose(InventoryCloseEvent event) {
         if (event.getPlayer() instanceof Player player) {
-            Bukkit.getScheduler().runTask(plugin, () -> updateStats(player));
+            updateStats(player);
         }
     }
 
     @EventHandler
     public void onItemHeld(PlayerItemHeldEvent event) {
-        Bukkit.getScheduler().runTask(plugin, () -> updateStats(event.getPlayer()));
+        updateStats(event.getPlayer());
     }
 
     @EventHandler
     public void onSwapHand(PlayerSwapHandItemsEvent event) {
-        Bukkit.getScheduler().runTask(plugin, () -> updateStats(event.getPlayer()));
+        updateStats(event.getPlayer());
     }
     
     @EventHandler
     public void onDrop(PlayerDropItemEvent event) {
-        Bukkit.getScheduler().runTask(plugin, () -> updateStats(event.getPlayer()));
+        updateStats(event.getPlayer());
     }
 
     private void updateStats(Player player) {
-        // Delegate to AttributeUpdater to avoid conflicts and ensure consistency
-        AttributeUpdater.updateAttributes(player);
+        // Agrupado no fim do tick pelo StatUpdateScheduler
+        AttributeUpdater.requestUpdate(player);
     }
 }
@@ -7,6 +7,7 @@ import me.ray.midgard.core.attribute.Attribute;
 import me.ray.midgard.core.attribute.AttributeInstance;
 import me.ray.midgard.core.attribute.AttributeRegistry;
 import me.ray.midgard.core.attribute.CoreAttributeData;
+import me.ray.midgard.core.attribute.StatUpdateScheduler;
 import me.ray.midgard.core.event.PlayerLevelUpEvent;
 import me.ray.midgard.core.profile.MidgardProfile;
 import me.ray.midgard.core.text.MessageUtils;
@@ -25,6 +26,7 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 /**
@@ -36,6 +38,8 @@ public class ClassesModule extends RPGModule implements Listener {
     private static ClassesModule instance;
     private ClassManager classManager;
     private FileConfiguration messagesConfig;
+    // Referência fixa para poder remover o handler ao desabilitar
+    private final Consumer<Player> classPhase = this::refreshClassAttributes;
 
     /**
      * Construtor do módulo de classes.
@@ -52,6 +56,10 @@ public class ClassesModule extends RPGModule implements Listener {
             // this.plugin is already set by super
             this.classManager = new ClassManager(plugin);
             plugin.getServer().getPluginManager().registerEvents(this, plugin);
+
+            if (MidgardCore.getStatUpdateScheduler() != null) {
+                MidgardCore.getStatUpdateScheduler().register(StatUpdateScheduler.Phase.CLASS, classPhase);
+            }
             
             try {
                 // Registra class command apenas no AdminCommand para /rpg admin class
@@ -87,6 +95,9 @@ public class ClassesModule extends RPGModule implements Listener {
 
     @Override
     public void onDisable() {
+        if (MidgardCore.getStatUpdateScheduler() != null) {
+            MidgardCore.getStatUpdateScheduler().unregister(StatUpdateScheduler.Phase.CLASS, classPhase);
+        }
         instance = null;
     }
 
@@ -158,12 +169,7 @@ public class ClassesModule extends RPGModule implements Listener {
                 MessageUtils.send(player, pointsMsg);
                 
                 // Recalculate attributes
-                if (classManager != null) {
-                    RPGClass rpgClass = classManager.getClass(data.getClassName());
-                    if (rpgClass != null) {
-                        applyClassAttributes(profile, rpgClass, data.getLevel());
-                    }
-                }
+                requestClassUpdate(player);
             }
         } catch (Exception e) {
             plugin.getLogger().log(java.util.logging.Level.SEVERE, "Erro ao processar LevelUp para o jogador", e);
@@ -186,14 +192,10 @@ public class ClassesModule extends RPGModule implements Listener {
             ClassData data = profile.getOrCreateData(ClassData.class);
             
             if (data.hasClass()) {
-                if (classManager != null) {
-                    RPGClass rpgClass = classManager.getClass(data.getClassName());
-                    if (rpgClass != null) {
-                        applyClassAttributes(profile, rpgClass, data.getLevel());
-                    } else {
-                         plugin.getLogger().warning("Classe '" + data.getClassName() + "' não encontrada para o jogador " + player.getName());
-                    }
+                if (classManager != null && classManager.getClass(data.getClassName()) == null) {
+                    plugin.getLogger().warning("Classe '" + data.getClassName() + "' não encontrada para o jogador " + player.getName());
                 }
+                requestClassUpdate(player);
             } else {
                 // Open selection GUI if no class
                 // Delay slightly to ensure client is ready
@@ -210,6 +212,40 @@ public class ClassesModule extends RPGModule implements Listener {
         }
     }
 
+    /**
+     * Agenda a reaplicação dos atributos da classe para o fim do tick.
+     *
+     * @param player Jogador.
+     */
+    public void requestClassUpdate(Player player) {
+        StatUpdateScheduler scheduler = MidgardCore.getStatUpdateScheduler();
+        if (scheduler != null) {
+            scheduler.markDirty(player, StatUpdateScheduler.Phase.CLASS);
+        } else {
+            refreshClassAttributes(player);
+        }
+    }
+
+    /**
+     * Reaplica os atributos da classe atual do jogador.
+     * Fase {@link StatUpdateScheduler.Phase#CLASS} do recálculo de atributos.
+     *
+     * @param player Jogador.
+     */
+    public void refreshClassAttributes(Player player) {
+        if (classManager == null) return;
+        MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player);
+        if (profile == null) return;
+
+        ClassData data = profile.getData(ClassData.class);
+        if (data == null || !data.hasClass()) return;
+
+        RPGClass rpgClass = classManager.getClass(data.getClassName());
+        if (rpgClass != null) {
+            applyClassAttributes(profile, rpgClass, data.getLevel());
+        }
+    }
+
     /**
      * Aplica os atributos da classe ao perfil do jogador.
      *
@@ -254,6 +290,11 @@ public class ClassesModule extends RPGModule implements Listener {
                 
                 instance.setBaseValue(total);
             }
+
+            // Atributos primários mudaram: escalonamento e vida são recalculados no fim do tick
+            if (MidgardCore.getStatUpdateScheduler() != null) {
+                MidgardCore.getStatUpdateScheduler().markDirty(profile.getUuid(), StatUpdateScheduler.Phase.SCALING);
+            }
         } catch (Exception e) {
             plugin.getLogger().log(java.util.logging.Level.SEVERE, "Erro ao aplicar atributos da classe", e);
         }
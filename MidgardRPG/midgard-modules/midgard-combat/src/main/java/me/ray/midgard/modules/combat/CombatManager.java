@@ -3,6 +3,7 @@ package me.ray.midgard.modules.combat;
 import me.ray.midgard.core.MidgardCore;
 import me.ray.midgard.core.attribute.AttributeInstance;
 import me.ray.midgard.core.attribute.CoreAttributeData;
+import me.ray.midgard.core.attribute.StatUpdateScheduler;
 import me.ray.midgard.core.profile.MidgardProfile;
 
 import me.ray.midgard.modules.combat.listener.StatScalingListener;
@@ -15,6 +16,7 @@ import org.bukkit.plugin.java.JavaPlugin;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import java.util.logging.Level;
 
@@ -45,6 +47,10 @@ public class CombatManager {
     private final RegenerationTask regenerationTask;
     private final StaminaTask staminaTask;
 
+    // Handlers de fase guardados para poderem ser removidos em shutdown()
+    private final Consumer<Player> scalingPhase = StatScalingListener::updateStats;
+    private final Consumer<Player> healthPhase = this::refreshHealth;
+
     /**
      * Construtor do CombatManager.
      *
@@ -67,6 +73,24 @@ public class CombatManager {
         // Register Listeners
         plugin.getServer().getPluginManager().registerEvents(new CombatListener(damageHandler), plugin);
         plugin.getServer().getPluginManager().registerEvents(new StatScalingListener(), plugin);
+
+        StatUpdateScheduler scheduler = MidgardCore.getStatUpdateScheduler();
+        if (scheduler != null) {
+            scheduler.register(StatUpdateScheduler.Phase.SCALING, scalingPhase);
+            scheduler.register(StatUpdateScheduler.Phase.HEALTH, healthPhase);
+        }
+    }
+
+    /**
+     * Remove os handlers de fase registrados no {@link StatUpdateScheduler}.
+     * Chamado quando o módulo de combate é desabilitado.
+     */
+    public void shutdown() {
+        StatUpdateScheduler scheduler = MidgardCore.getStatUpdateScheduler();
+        if (scheduler != null) {
+            scheduler.unregister(StatUpdateScheduler.Phase.SCALING, scalingPhase);
+            scheduler.unregister(StatUpdateScheduler.Phase.HEALTH, healthPhase);
+        }
     }
 
     public static CombatManager getInstance() {
@@ -134,6 +158,29 @@ public class CombatManager {
         player.setHealth(vanillaHealth);
     }
 
+    /**
+     * Ajusta a vida atual à vida máxima recalculada e sincroniza a vida visual.
+     * Fase {@link StatUpdateScheduler.Phase#HEALTH} do recálculo de atributos.
+     *
+     * @param player Jogador.
+     */
+    public void refreshHealth(Player player) {
+        if (player.isDead()) return;
+        MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
+        if (profile == null) return;
+
+        CombatData combatData = profile.getOrCreateData(CombatData.class);
+        AttributeInstance maxHealthAttr = profile.getOrCreateData(CoreAttributeData.class).getInstance(CombatAttributes.MAX_HEALTH);
+        double maxHealth = maxHealthAttr != null ? maxHealthAttr.getValue() : 100;
+        if (maxHealth <= 0) return;
+
+        if (combatData.getCurrentHealth() > maxHealth) {
+            combatData.setCurrentHealth(maxHealth);
+        }
+        if (combatData.getCurrentHealth() <= 0) return;
+        syncHealth(player, combatData.getCurrentHealth(), maxHealth);
+    }
+
     /**
      * Calcula o tempo de recarga ajustado após aplicar a Redução de Cooldown (CDR).
      *
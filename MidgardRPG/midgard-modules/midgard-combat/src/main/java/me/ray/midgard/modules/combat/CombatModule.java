@@ -97,6 +97,9 @@ public class CombatModule extends RPGModule {
      */
     @Override
     public void onDisable() {
+        if (CombatManager.getInstance() != null) {
+            CombatManager.getInstance().shutdown();
+        }
         instance = null;
         plugin.getLogger().info("Lógica de combate desabilitada.");
     }
@@ -4,6 +4,7 @@ import me.ray.midgard.core.MidgardCore;
 import me.ray.midgard.core.attribute.AttributeInstance;
 import me.ray.midgard.core.attribute.CoreAttributeData;
 import me.ray.midgard.core.profile.MidgardProfile;
+import me.ray.midgard.core.text.ActionBarOverride;
 import me.ray.midgard.core.text.MessageUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -44,7 +45,7 @@ public class CombatOverlay implements Runnable {
         try {
             for (Player player : Bukkit.getOnlinePlayers()) {
                 // Check for combo override (from SpellsModule) or Casting Mode
-                if (player.hasMetadata("midgard_combo_active") || player.hasMetadata("midgard_casting_mode")) {
+                if (ActionBarOverride.isHeld(player) || player.hasMetadata("midgard_casting_mode")) {
                     continue;
                 }
                 
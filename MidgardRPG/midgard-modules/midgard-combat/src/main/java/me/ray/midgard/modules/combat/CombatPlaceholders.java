@@ -6,90 +6,52 @@ import me.ray.midgard.core.attribute.CoreAttributeData;
 import me.ray.midgard.core.placeholder.PlaceholderRegistry;
 import me.ray.midgard.core.profile.MidgardProfile;
 
-import java.text.DecimalFormat;
-
 public class CombatPlaceholders {
 
-    private static final DecimalFormat DF = new DecimalFormat("#.##");
-
     public static void register() {
         PlaceholderRegistry registry = MidgardCore.getPlaceholderRegistry();
         if (registry == null) return;
 
         // %midgard_mana%
-        registry.register("mana", (player, params) -> {
-            MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-            if (profile == null) return "0";
-            CombatData data = profile.getOrCreateData(CombatData.class);
-            return DF.format(data.getCurrentMana());
-        });
+        registry.registerNumeric("mana", (profile, params) ->
+                profile.getOrCreateData(CombatData.class).getCurrentMana(), "0");
 
         // %midgard_max_mana%
-        registry.register("max_mana", (player, params) -> {
-            MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-            if (profile == null) return "0";
-            CoreAttributeData data = profile.getOrCreateData(CoreAttributeData.class);
-            AttributeInstance attr = data.getInstance(CombatAttributes.MAX_MANA);
-            return DF.format(attr != null ? attr.getValue() : 100);
-        });
+        registry.registerNumeric("max_mana", (profile, params) ->
+                attribute(profile, CombatAttributes.MAX_MANA, 100), "0");
 
         // %midgard_stamina%
-        registry.register("stamina", (player, params) -> {
-            MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-            if (profile == null) return "0";
-            CombatData data = profile.getOrCreateData(CombatData.class);
-            return DF.format(data.getCurrentStamina());
-        });
+        registry.registerNumeric("stamina", (profile, params) ->
+                profile.getOrCreateData(CombatData.class).getCurrentStamina(), "0");
 
         // %midgard_max_stamina%
-        registry.register("max_stamina", (player, params) -> {
-            MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-            if (profile == null) return "0";
-            CoreAttributeData data = profile.getOrCreateData(CoreAttributeData.class);
-            AttributeInstance attr = data.getInstance(CombatAttributes.MAX_STAMINA);
-            return DF.format(attr != null ? attr.getValue() : 100);
-        });
+        registry.registerNumeric("max_stamina", (profile, params) ->
+                attribute(profile, CombatAttributes.MAX_STAMINA, 100), "0");
 
         // %midgard_health%
-        registry.register("health", (player, params) -> {
-            MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-            if (profile == null) return "0";
-            CombatData data = profile.getOrCreateData(CombatData.class);
-            return DF.format(data.getCurrentHealth());
-        });
+        registry.registerNumeric("health", (profile, params) ->
+                profile.getOrCreateData(CombatData.class).getCurrentHealth(), "0");
 
         // %midgard_max_health%
-        registry.register("max_health", (player, params) -> {
-            MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-            if (profile == null) return "0";
-            CoreAttributeData data = profile.getOrCreateData(CoreAttributeData.class);
-            AttributeInstance attr = data.getInstance(CombatAttributes.MAX_HEALTH);
-            return DF.format(attr != null ? attr.getValue() : 100);
-        });
-        
+        registry.registerNumeric("max_health", (profile, params) ->
+                attribute(profile, CombatAttributes.MAX_HEALTH, 100), "0");
+
         // %midgard_level%
-        registry.register("level", (player, params) -> {
-            MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-            if (profile == null) return "1";
-            CombatData data = profile.getOrCreateData(CombatData.class);
-            return String.valueOf(data.getLevel());
-        });
-        
+        registry.registerNumeric("level", (profile, params) ->
+                profile.getOrCreateData(CombatData.class).getLevel(), "1");
+
         // %midgard_exp%
-        registry.register("exp", (player, params) -> {
-            MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-            if (profile == null) return "0";
-            CombatData data = profile.getOrCreateData(CombatData.class);
-            return DF.format(data.getExperience());
-        });
+        registry.registerNumeric("exp", (profile, params) ->
+                profile.getOrCreateData(CombatData.class).getExperience(), "0");
 
         // %midgard_attribute_<id>%
-        registry.register("attribute_", (player, params) -> {
-            MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-            if (profile == null) return "0";
-            CoreAttributeData data = profile.getOrCreateData(CoreAttributeData.class);
-            AttributeInstance attr = data.getInstance(params);
-            return DF.format(attr != null ? attr.getValue() : 0);
-        });
+        registry.registerNumeric("attribute_", (profile, params) ->
+                attribute(profile, params, 0), "0");
+    }
+
+    private static double attribute(MidgardProfile profile, String id, double fallback) {
+        CoreAttributeData data = profile.getOrCreateData(CoreAttributeData.class);
+        AttributeInstance attr = data.getInstance(id);
+        return attr != null ? attr.getValue() : fallback;
     }
 }
@@ -5,6 +5,7 @@ import me.ray.midgard.core.debug.DebugCategory;
 import me.ray.midgard.core.debug.MidgardLogger;
 import me.ray.midgard.core.attribute.AttributeInstance;
 import me.ray.midgard.core.attribute.CoreAttributeData;
+import me.ray.midgard.core.effect.EffectManager;
 import me.ray.midgard.core.integration.MythicMobsIntegration;
 import me.ray.midgard.core.profile.MidgardProfile;
 import me.ray.midgard.modules.combat.mechanics.*;
@@ -422,6 +423,12 @@ public class DamageHandler {
                     instance.setBaseValue(entry.getValue());
                 }
             }
+
+            // Status effects (burn, slow, armor break...) applied to this mob
+            EffectManager effectManager = MidgardCore.getEffectManager();
+            if (effectManager != null) {
+                effectManager.applyEntityModifiers(entity, data);
+            }
             return data;
         }
         return new CoreAttributeData(); // Empty fallback
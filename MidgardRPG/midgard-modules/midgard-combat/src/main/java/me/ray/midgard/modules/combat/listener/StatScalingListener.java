@@ -5,6 +5,7 @@ import me.ray.midgard.core.attribute.AttributeInstance;
 import me.ray.midgard.core.attribute.AttributeModifier;
 import me.ray.midgard.core.attribute.AttributeOperation;
 import me.ray.midgard.core.attribute.CoreAttributeData;
+import me.ray.midgard.core.attribute.StatUpdateScheduler;
 import me.ray.midgard.core.event.PlayerLevelUpEvent;
 import me.ray.midgard.core.profile.MidgardProfile;
 import me.ray.midgard.modules.combat.CombatAttributes;
@@ -12,13 +13,16 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 
 /**
  * Listener responsável por recalcular o escalonamento de atributos (Stats -> Sub-stats).
  * Substitui a antiga StatScalingTask para melhorar a performance (Event-Driven).
+ * <p>
+ * Os eventos só marcam a fase {@link StatUpdateScheduler.Phase#SCALING}; o cálculo
+ * roda uma vez por tick, depois de classe e equipamento. Trocas de equipamento
+ * já marcam esta fase pelo próprio agendador.
  */
 public class StatScalingListener implements Listener {
 
@@ -27,17 +31,7 @@ public class StatScalingListener implements Listener {
      */
     @EventHandler(priority = EventPriority.HIGH)
     public void onJoin(PlayerJoinEvent event) {
-        updateStats(event.getPlayer());
-    }
-
-    /**
-     * Recalcula atributos quando o jogador fecha o inventário (possível troca de armadura).
-     */
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onInventoryClose(InventoryCloseEvent event) {
-        if (event.getPlayer() instanceof Player) {
-            updateStats((Player) event.getPlayer());
-        }
+        requestUpdate(event.getPlayer());
     }
 
     /**
@@ -45,7 +39,7 @@ public class StatScalingListener implements Listener {
      */
     @EventHandler
     public void onRespawn(PlayerRespawnEvent event) {
-        updateStats(event.getPlayer());
+        requestUpdate(event.getPlayer());
     }
 
     /**
@@ -53,7 +47,19 @@ public class StatScalingListener implements Listener {
      */
     @EventHandler
     public void onLevelUp(PlayerLevelUpEvent event) {
-        updateStats(event.getPlayer());
+        requestUpdate(event.getPlayer());
+    }
+
+    /**
+     * Agenda o escalonamento para o fim do tick.
+     */
+    public static void requestUpdate(Player player) {
+        StatUpdateScheduler scheduler = MidgardCore.getStatUpdateScheduler();
+        if (scheduler != null) {
+            scheduler.markDirty(player, StatUpdateScheduler.Phase.SCALING);
+        } else {
+            updateStats(player);
+        }
     }
 
     /**
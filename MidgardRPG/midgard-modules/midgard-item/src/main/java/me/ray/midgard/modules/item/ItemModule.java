@@ -15,7 +15,11 @@ public class ItemModule extends RPGModule {
     private ItemManager itemManager;
     private CategoryManager categoryManager;
     private me.ray.midgard.modules.item.gui.ItemEditionMessagesLoader itemEditionLoader;
-    private me.ray.midgard.modules.item.task.EquipmentUpdateTask equipmentUpdateTask;
+    private org.bukkit.scheduler.BukkitTask equipmentUpdateTask;
+    private me.ray.midgard.modules.item.task.ItemMigrationWorker migrationWorker;
+    private org.bukkit.scheduler.BukkitTask migrationTask;
+    private final java.util.function.Consumer<org.bukkit.entity.Player> equipmentPhase =
+            me.ray.midgard.modules.item.manager.AttributeUpdater::updateAttributes;
 
     public ItemModule() {
         super("MidgardItem", ModulePriority.NORMAL);
@@ -52,11 +56,24 @@ public class ItemModule extends RPGModule {
         plugin.getServer().getPluginManager().registerEvents(new me.ray.midgard.modules.item.listener.ItemUpdateListener(this), plugin);
         plugin.getServer().getPluginManager().registerEvents(new me.ray.midgard.modules.item.listener.GemListener(), plugin);
         plugin.getServer().getPluginManager().registerEvents(new me.ray.midgard.modules.item.listener.EquipListener(this), plugin);
+        plugin.getServer().getPluginManager().registerEvents(new me.ray.midgard.modules.item.listener.EquipmentChangeListener(), plugin);
         plugin.getServer().getPluginManager().registerEvents(new me.ray.midgard.modules.item.listener.ItemRestrictionListener(this), plugin);
 
+        if (me.ray.midgard.core.MidgardCore.getStatUpdateScheduler() != null) {
+            me.ray.midgard.core.MidgardCore.getStatUpdateScheduler().register(
+                    me.ray.midgard.core.attribute.StatUpdateScheduler.Phase.EQUIPMENT, equipmentPhase);
+        }
+
         // Iniciar tarefas
-        this.equipmentUpdateTask = new me.ray.midgard.modules.item.task.EquipmentUpdateTask();
-        plugin.getServer().getScheduler().runTaskTimer(plugin, this.equipmentUpdateTask, 20L, 10L); // Run every 10 ticks (0.5s)
+        // Trocas de equipamento chegam por evento; a tarefa é só uma reconciliação de segurança
+        long interval = Math.max(1, getConfig().getInt("settings.equipment-check-interval-seconds", 5)) * 20L;
+        this.equipmentUpdateTask = plugin.getServer().getScheduler().runTaskTimer(plugin,
+                new me.ray.midgard.modules.item.task.EquipmentUpdateTask(), interval, interval);
+
+        // Migração de revisões: roda todo tick, limitada a um orçamento em ms
+        this.migrationWorker = new me.ray.midgard.modules.item.task.ItemMigrationWorker(this,
+                getConfig().getDouble("settings.item-migration.budget-ms", 2.0));
+        this.migrationTask = plugin.getServer().getScheduler().runTaskTimer(plugin, migrationWorker, 1L, 1L);
 
         plugin.getLogger().info("Midgard-Item habilitado com sucesso!");
     }
@@ -72,6 +89,22 @@ public class ItemModule extends RPGModule {
     @Override
     public void onDisable() {
         plugin.getLogger().info("Desabilitando Midgard-Item...");
+        if (equipmentUpdateTask != null) {
+            equipmentUpdateTask.cancel();
+            equipmentUpdateTask = null;
+        }
+        if (migrationTask != null) {
+            migrationTask.cancel();
+            migrationTask = null;
+        }
+        if (migrationWorker != null) {
+            migrationWorker.clear();
+            migrationWorker = null;
+        }
+        if (me.ray.midgard.core.MidgardCore.getStatUpdateScheduler() != null) {
+            me.ray.midgard.core.MidgardCore.getStatUpdateScheduler().unregister(
+                    me.ray.midgard.core.attribute.StatUpdateScheduler.Phase.EQUIPMENT, equipmentPhase);
+        }
         instance = null;
     }
 
@@ -170,6 +203,10 @@ public class ItemModule extends RPGModule {
         return itemManager;
     }
     
+    public me.ray.midgard.modules.item.task.ItemMigrationWorker getMigrationWorker() {
+        return migrationWorker;
+    }
+
     public CategoryManager getCategoryManager() {
         return categoryManager;
     }
@@ -26,8 +26,6 @@ import me.ray.midgard.modules.item.manager.AttributeUpdater;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerItemHeldEvent;
-import org.bukkit.event.player.PlayerSwapHandItemsEvent;
-import org.bukkit.event.player.PlayerDropItemEvent;
 
 public class EquipListener implements Listener {
 
@@ -39,32 +37,18 @@ public class EquipListener implements Listener {
 
     @EventHandler
     public void onJoin(PlayerJoinEvent event) {
-        AttributeUpdater.updateAttributes(event.getPlayer());
+        AttributeUpdater.requestUpdate(event.getPlayer());
     }
     
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
-        me.ray.midgard.modules.item.task.EquipmentUpdateTask.clearCache(event.getPlayer().getUniqueId());
+        AttributeUpdater.clear(event.getPlayer().getUniqueId());
     }
 
     @EventHandler
     public void onItemHeld(PlayerItemHeldEvent event) {
-        // Update attributes immediately using the new slot
-        AttributeUpdater.updateAttributes(event.getPlayer(), event.getNewSlot());
-    }
-
-    @EventHandler
-    public void onSwapHand(PlayerSwapHandItemsEvent event) {
-        module.getPlugin().getServer().getScheduler().runTask(module.getPlugin(), () -> {
-            AttributeUpdater.updateAttributes(event.getPlayer());
-        });
-    }
-    
-    @EventHandler
-    public void onDrop(PlayerDropItemEvent event) {
-        module.getPlugin().getServer().getScheduler().runTask(module.getPlugin(), () -> {
-            AttributeUpdater.updateAttributes(event.getPlayer());
-        });
+        // O slot novo já estará selecionado no fim do tick
+        AttributeUpdater.requestUpdate(event.getPlayer());
     }
 
     private boolean checkRequirements(Player player, ItemStack itemStack) {
@@ -154,9 +138,7 @@ public class EquipListener implements Listener {
             player.playSound(player.getLocation(), Sound.ITEM_ARMOR_EQUIP_GENERIC, 1.0f, 1.0f);
 
             // Update attributes
-            module.getPlugin().getServer().getScheduler().runTask(module.getPlugin(), () -> {
-                AttributeUpdater.updateAttributes(player);
-            });
+            AttributeUpdater.requestUpdate(player);
 
         } catch (IllegalArgumentException e) {
             // Ignore
@@ -227,9 +209,7 @@ public class EquipListener implements Listener {
             player.playSound(player.getLocation(), Sound.ITEM_ARMOR_EQUIP_GENERIC, 1.0f, 1.0f);
             
             // Update attributes
-            module.getPlugin().getServer().getScheduler().runTask(module.getPlugin(), () -> {
-                AttributeUpdater.updateAttributes(player);
-            });
+            AttributeUpdater.requestUpdate(player);
             
         } catch (IllegalArgumentException e) {
             MessageUtils.send(player, MidgardCore.getLanguageManager().getMessage("item.equip.invalid_slot", "%s", slotName));
@@ -0,0 +1,33 @@
+package me.ray.midgard.modules.item.listener;
+
+import com.destroystokyo.paper.event.player.PlayerArmorChangeEvent;
+import io.papermc.paper.event.player.PlayerInventorySlotChangeEvent;
+import me.ray.midgard.modules.item.manager.AttributeUpdater;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Detecta troca de equipamento pelos eventos do Paper e agenda a atualização
+ * dos atributos para o fim do tick ({@link AttributeUpdater#requestUpdate}),
+ * uma vez por jogador mesmo que vários slots mudem no mesmo tick.
+ */
+public class EquipmentChangeListener implements Listener {
+
+    // Slot da mão secundária no PlayerInventory
+    private static final int OFF_HAND_SLOT = 40;
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onArmorChange(PlayerArmorChangeEvent event) {
+        AttributeUpdater.requestUpdate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSlotChange(PlayerInventorySlotChangeEvent event) {
+        // Armadura é tratada pelo PlayerArmorChangeEvent
+        int slot = event.getSlot();
+        if (slot == OFF_HAND_SLOT || slot == event.getPlayer().getInventory().getHeldItemSlot()) {
+            AttributeUpdater.requestUpdate(event.getPlayer());
+        }
+    }
+}
@@ -66,13 +66,14 @@ public class GemListener implements Listener {
             ItemMeta meta = current.getItemMeta();
             
             // Add stats
+            Map<ItemStat, Double> stats = ItemPDC.readStats(meta).toMap();
             for (Map.Entry<ItemStat, StatRange> entry : gemItem.getStats().entrySet()) {
                 double value = entry.getValue().getRandom(); // Roll gem stats once
                 if (value != 0) {
-                    double currentVal = ItemPDC.getStat(meta, entry.getKey());
-                    ItemPDC.setStat(meta, entry.getKey(), currentVal + value);
+                    stats.merge(entry.getKey(), value, Double::sum);
                 }
             }
+            ItemPDC.setStats(meta, stats);
             
             current.setItemMeta(meta);
             socketData.save(current);
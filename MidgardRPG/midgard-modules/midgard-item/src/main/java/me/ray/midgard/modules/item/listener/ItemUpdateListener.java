@@ -1,68 +1,113 @@
 package me.ray.midgard.modules.item.listener;
 
 import me.ray.midgard.modules.item.ItemModule;
-import org.bukkit.NamespacedKey;
+import me.ray.midgard.modules.item.task.ItemMigrationWorker;
+import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 
+import java.util.Set;
+
+/**
+ * Encaminha inventários para o {@link ItemMigrationWorker}. Inventários já
+ * marcados com o conjunto de revisões atual são descartados na hora; itens
+ * que entram neles depois (chão, hoppers, droppers, cliques e arrastos) são
+ * checados na entrada. Cliques cobrem também itens tirados de um container cuja
+ * passada ainda não terminou e itens movidos para um slot já percorrido.
+ */
 public class ItemUpdateListener implements Listener {
 
     private final ItemModule module;
-    @SuppressWarnings("unused")
-    private final NamespacedKey idKey;
-    @SuppressWarnings("unused")
-    private final NamespacedKey revKey;
 
     public ItemUpdateListener(ItemModule module) {
         this.module = module;
-        this.idKey = new NamespacedKey(module.getPlugin(), "midgard_id");
-        this.revKey = new NamespacedKey(module.getPlugin(), "midgard_revision");
     }
 
     @EventHandler
     public void onJoin(PlayerJoinEvent event) {
-        Player player = event.getPlayer();
-        // Schedule update for a few ticks later to ensure player is fully loaded
-        new org.bukkit.scheduler.BukkitRunnable() {
-            @Override
-            public void run() {
-                if (player.isOnline()) {
-                    module.getItemManager().updateInventory(player);
-                }
-            }
-        }.runTaskLater(module.getPlugin(), 20L);
+        ItemMigrationWorker worker = module.getMigrationWorker();
+        if (worker != null) worker.enqueue(event.getPlayer());
     }
 
-    @EventHandler
-    public void onInventoryOpen(org.bukkit.event.inventory.InventoryOpenEvent event) {
-        // Update items in the opened inventory (chests, etc.)
-        // Run 1 tick later to avoid blocking the event and ensure inventory is ready
-        new org.bukkit.scheduler.BukkitRunnable() {
-            @Override
-            public void run() {
-                // Check if inventory is still valid/viewed
-                if (event.getInventory().getViewers().isEmpty()) return;
-
-                ItemStack[] contents = event.getInventory().getContents();
-                boolean updated = false;
-                for (int i = 0; i < contents.length; i++) {
-                    ItemStack item = contents[i];
-                    if (item == null || !item.hasItemMeta()) continue;
-                    
-                    ItemStack newItem = module.getItemManager().updateItem(item);
-                    if (newItem != null) {
-                        contents[i] = newItem;
-                        updated = true;
-                    }
-                }
-                
-                if (updated) {
-                    event.getInventory().setContents(contents);
-                }
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        ItemMigrationWorker worker = module.getMigrationWorker();
+        if (worker != null) worker.enqueue(event.getInventory());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        // O inventário do jogador pode já estar marcado; itens que entram do chão são checados aqui
+        if (!(event.getEntity() instanceof Player)) return;
+
+        Item entity = event.getItem();
+        ItemStack item = entity.getItemStack();
+        if (!item.hasItemMeta()) return;
+
+        ItemStack newItem = module.getItemManager().updateItem(item);
+        if (newItem != null) entity.setItemStack(newItem);
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onInventoryMove(InventoryMoveItemEvent event) {
+        // Hoppers/droppers podem levar itens antigos para um container já marcado
+        ItemStack item = event.getItem();
+        if (!item.hasItemMeta()) return;
+
+        ItemStack newItem = module.getItemManager().updateItem(item);
+        if (newItem != null) event.setItem(newItem);
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        // Item que sai do slot clicado (shift-click, cursor, troca) é migrado antes de ir para outro inventário
+        ItemStack current = update(event.getCurrentItem());
+        if (current != null) event.setCurrentItem(current);
+
+        // Trocas por tecla levam o item do jogador para o slot clicado
+        PlayerInventory inventory = event.getWhoClicked().getInventory();
+        if (event.getClick() == ClickType.NUMBER_KEY) {
+            int button = event.getHotbarButton();
+            ItemStack hotbar = update(inventory.getItem(button));
+            if (hotbar != null) inventory.setItem(button, hotbar);
+        } else if (event.getClick() == ClickType.SWAP_OFFHAND) {
+            ItemStack offHand = update(inventory.getItemInOffHand());
+            if (offHand != null) inventory.setItemInOffHand(offHand);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        // Os itens do arrasto são cópias do cursor; corrige os slots depois que o arrasto for aplicado
+        if (module.getItemManager().updateItem(event.getOldCursor()) == null) return;
+
+        InventoryView view = event.getView();
+        Set<Integer> slots = event.getRawSlots();
+        module.getPlugin().getServer().getScheduler().runTask(module.getPlugin(), () -> {
+            for (int slot : slots) {
+                ItemStack item = update(view.getItem(slot));
+                if (item != null) view.setItem(slot, item);
             }
-        }.runTaskLater(module.getPlugin(), 1L);
+        });
+    }
+
+    /**
+     * @return Versão migrada do item, ou null se não há nada a fazer.
+     */
+    private ItemStack update(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return null;
+        return module.getItemManager().updateItem(item);
     }
 }
@@ -5,20 +5,27 @@ import me.ray.midgard.core.attribute.AttributeInstance;
 import me.ray.midgard.core.attribute.AttributeModifier;
 import me.ray.midgard.core.attribute.AttributeOperation;
 import me.ray.midgard.core.attribute.CoreAttributeData;
+import me.ray.midgard.core.attribute.StatUpdateScheduler;
 import me.ray.midgard.core.profile.MidgardProfile;
 import me.ray.midgard.modules.combat.CombatAttributes;
 import me.ray.midgard.modules.item.ItemModule;
 import me.ray.midgard.modules.item.model.ItemStat;
 import me.ray.midgard.modules.item.model.MidgardItem;
 import me.ray.midgard.modules.item.utils.ItemPDC;
+import me.ray.midgard.modules.item.utils.ItemStats;
 import me.ray.midgard.modules.item.utils.StatRange;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 
 public class AttributeUpdater {
 
@@ -108,63 +115,161 @@ public class AttributeUpdater {
         STAT_MAPPING.put(ItemStat.DIVINE_DAMAGE_REDUCTION, CombatAttributes.DIVINE_DEFENSE);
     }
 
-    public static void updateAttributes(Player player) {
-        updateAttributes(player, -1);
+    // Índice denso dos atributos alimentados por itens
+    private static final String[] ATTRIBUTE_IDS;
+    private static final int[] STAT_ATTRIBUTE = new int[ItemStat.values().length];
+
+    static {
+        Map<String, Integer> indexes = new HashMap<>();
+        Arrays.fill(STAT_ATTRIBUTE, -1);
+        for (Map.Entry<ItemStat, String> entry : STAT_MAPPING.entrySet()) {
+            STAT_ATTRIBUTE[entry.getKey().ordinal()] = indexes.computeIfAbsent(entry.getValue(), id -> indexes.size());
+        }
+        ATTRIBUTE_IDS = new String[indexes.size()];
+        for (Map.Entry<String, Integer> entry : indexes.entrySet()) {
+            ATTRIBUTE_IDS[entry.getValue()] = entry.getKey();
+        }
     }
 
-    public static void updateAttributes(Player player, int overrideMainHandSlot) {
+    private static final String MODIFIER_NAME = "Equipment";
+
+    // Ordem dos slots no estado de equipamento
+    private static final EquipmentSlot[] SLOTS = {
+            EquipmentSlot.FEET, EquipmentSlot.LEGS, EquipmentSlot.CHEST, EquipmentSlot.HEAD,
+            EquipmentSlot.HAND, EquipmentSlot.OFF_HAND
+    };
+    private static final int MAIN_HAND = 4;
+
+    private static final Map<UUID, EquipmentState> STATES = new HashMap<>();
+
+    public static boolean updateAttributes(Player player) {
+        return updateAttributes(player, -1);
+    }
+
+    /**
+     * Agenda a atualização do equipamento para o fim do tick, junto com as
+     * demais fases de recálculo do jogador.
+     */
+    public static void requestUpdate(Player player) {
+        StatUpdateScheduler scheduler = MidgardCore.getStatUpdateScheduler();
+        if (scheduler != null) {
+            scheduler.markDirty(player, StatUpdateScheduler.Phase.EQUIPMENT);
+        } else {
+            updateAttributes(player);
+        }
+    }
+
+    /**
+     * Atualiza os modificadores de equipamento do jogador.
+     * <p>
+     * A contribuição de cada slot fica em cache junto com a impressão digital do
+     * item que a gerou ({@link ItemKey}: material, ID Midgard e bytes dos stats,
+     * lidos do PDC sem clonar o meta). Só slots cujo item mudou são recalculados,
+     * e só os atributos tocados por eles têm o modificador "Equipment" trocado.
+     *
+     * @param overrideMainHandSlot Slot da hotbar a usar como mão principal (-1 para o atual).
+     * @return true se algum modificador foi alterado.
+     */
+    public static boolean updateAttributes(Player player, int overrideMainHandSlot) {
         MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-        if (profile == null) return;
+        if (profile == null) return false;
 
         CoreAttributeData attributeData = profile.getData(CoreAttributeData.class);
-        if (attributeData == null) return;
-
-        // DEBUG LOG
-        // ItemModule.getInstance().getPlugin().getLogger().info("DEBUG: Updating attributes for " + player.getName());
+        if (attributeData == null) return false;
 
-        // 1. Clear existing equipment modifiers
-        for (AttributeInstance instance : attributeData.getInstances().values()) {
-            instance.removeModifier("Equipment");
+        EquipmentState state = STATES.computeIfAbsent(player.getUniqueId(), id -> new EquipmentState());
+        boolean reset = state.data != attributeData;
+        if (reset) {
+            state.reset(attributeData);
         }
 
-        // 2. Calculate new totals
-        Map<String, Double> totals = new HashMap<>();
+        PlayerInventory inventory = player.getInventory();
+        ItemStack mainHand = overrideMainHandSlot != -1
+                ? inventory.getItem(overrideMainHandSlot)
+                : inventory.getItemInMainHand();
 
-        ItemStack[] armor = player.getInventory().getArmorContents();
-        // Armor contents: [Boots, Leggings, Chestplate, Helmet]
-        // Indices: 0=Boots, 1=Leggings, 2=Chestplate, 3=Helmet
-        
-        processItem(armor[0], totals, EquipmentSlot.FEET);
-        processItem(armor[1], totals, EquipmentSlot.LEGS);
-        processItem(armor[2], totals, EquipmentSlot.CHEST);
-        processItem(armor[3], totals, EquipmentSlot.HEAD);
-        
-        ItemStack mainHand;
-        if (overrideMainHandSlot != -1) {
-            mainHand = player.getInventory().getItem(overrideMainHandSlot);
-        } else {
-            mainHand = player.getInventory().getItemInMainHand();
+        updateSlot(state, 0, inventory.getBoots());
+        updateSlot(state, 1, inventory.getLeggings());
+        updateSlot(state, 2, inventory.getChestplate());
+        updateSlot(state, 3, inventory.getHelmet());
+        updateSlot(state, MAIN_HAND, mainHand);
+        updateSlot(state, 5, inventory.getItemInOffHand());
+
+        return state.applyDirty() || reset;
+    }
+
+    /**
+     * Descarta o cache de equipamento do jogador (ex: ao sair).
+     */
+    public static void clear(UUID uuid) {
+        STATES.remove(uuid);
+    }
+
+    /**
+     * Descarta o cache de todos os jogadores. Usado quando as definições de itens
+     * mudam, já que a contribuição de um item pode depender delas.
+     */
+    public static void invalidateAll() {
+        for (EquipmentState state : STATES.values()) {
+            state.data = null;
         }
+    }
+
+    private static void updateSlot(EquipmentState state, int slot, ItemStack current) {
+        ItemKey key = isEmpty(current) ? null : ItemKey.of(current);
+        if (state.known[slot] && Objects.equals(state.items[slot], key)) return;
 
-        processItem(mainHand, totals, EquipmentSlot.HAND);
-        processItem(player.getInventory().getItemInOffHand(), totals, EquipmentSlot.OFF_HAND);
+        double[] values = state.values[slot];
+        int[] attributes = state.attributes[slot];
 
-        // 3. Apply new modifiers
-        for (Map.Entry<String, Double> entry : totals.entrySet()) {
-            String attrId = entry.getKey();
-            double value = entry.getValue();
+        // Remove a contribuição antiga
+        for (int i = 0; i < state.counts[slot]; i++) {
+            int attribute = attributes[i];
+            values[attribute] = 0;
+            state.markDirty(attribute);
+        }
+        state.counts[slot] = 0;
 
-            AttributeInstance instance = attributeData.getInstance(attrId);
-            if (instance != null) {
-                instance.addModifier(new AttributeModifier("Equipment", value, AttributeOperation.ADD_NUMBER));
-                // ItemModule.getInstance().getPlugin().getLogger().info("DEBUG: Applied " + attrId + " -> " + value);
+        if (key != null) {
+            processItem(current, values, SLOTS[slot]);
+            for (int attribute = 0; attribute < values.length; attribute++) {
+                if (values[attribute] == 0) continue;
+                attributes[state.counts[slot]++] = attribute;
+                state.markDirty(attribute);
             }
         }
+
+        state.items[slot] = key;
+        state.known[slot] = true;
     }
 
-    private static void processItem(ItemStack itemStack, Map<String, Double> totals, EquipmentSlot currentSlot) {
-        if (itemStack == null) return;
-        
+    private static boolean isEmpty(ItemStack item) {
+        return item == null || item.getType().isAir();
+    }
+
+    /**
+     * Tudo de que a contribuição de um item depende. Mudanças na definição do
+     * item são cobertas por {@link #invalidateAll()}.
+     */
+    private record ItemKey(Material type, String id, byte[] stats) {
+
+        static ItemKey of(ItemStack item) {
+            return new ItemKey(item.getType(), ItemPDC.getMidgardId(item), ItemPDC.getStatsData(item));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ItemKey other && type == other.type
+                    && Objects.equals(id, other.id) && Arrays.equals(stats, other.stats);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(type, id) + Arrays.hashCode(stats);
+        }
+    }
+
+    private static void processItem(ItemStack itemStack, double[] totals, EquipmentSlot currentSlot) {
         String id = ItemModule.getInstance().getItemManager().getItemId(itemStack);
         MidgardItem item = (id != null) ? ItemModule.getInstance().getItemManager().getMidgardItem(id) : null;
 
@@ -181,36 +286,107 @@ public class AttributeUpdater {
                  else if (requiredSlotName.equalsIgnoreCase("HAND") && currentSlot == EquipmentSlot.HAND) valid = true;
                  
                  if (!valid) {
-                     // ItemModule.getInstance().getPlugin().getLogger().info("DEBUG: Invalid slot for " + id + ": " + currentSlot + " (Required: " + requiredSlotName + ")");
                      return;
                  }
             }
         } else {
             // Fallback validation for items not in registry or without ID
             if (!isValidSlot(itemStack, currentSlot)) {
-                // ItemModule.getInstance().getPlugin().getLogger().info("DEBUG: Invalid vanilla slot for " + itemStack.getType() + ": " + currentSlot);
                 return;
             }
         }
 
-        Map<ItemStat, Double> itemStats = ItemPDC.getStats(itemStack);
+        ItemStats itemStats = ItemPDC.readStats(itemStack);
         if (itemStats.isEmpty() && item != null) {
             // Fallback for legacy items
             for (Map.Entry<ItemStat, StatRange> statEntry : item.getStats().entrySet()) {
-                itemStats.put(statEntry.getKey(), statEntry.getValue().getMin());
+                addStat(totals, statEntry.getKey(), statEntry.getValue().getMin());
             }
+            return;
         }
-        
-        // ItemModule.getInstance().getPlugin().getLogger().info("DEBUG: Processing " + (id != null ? id : itemStack.getType()) + " in " + currentSlot + ". Stats: " + itemStats);
-
-        for (Map.Entry<ItemStat, Double> statEntry : itemStats.entrySet()) {
-            ItemStat stat = statEntry.getKey();
-            double value = statEntry.getValue();
-            
-            String attrId = STAT_MAPPING.get(stat);
-            if (attrId != null) {
-                totals.merge(attrId, value, (a, b) -> a + b);
+
+        for (int i = 0; i < itemStats.size(); i++) {
+            addStat(totals, itemStats.stat(i), itemStats.value(i));
+        }
+    }
+
+    private static void addStat(double[] totals, ItemStat stat, double value) {
+        int attribute = STAT_ATTRIBUTE[stat.ordinal()];
+        if (attribute >= 0) {
+            totals[attribute] += value;
+        }
+    }
+
+    /**
+     * Contribuição em cache de cada slot e o modificador aplicado por atributo.
+     */
+    private static final class EquipmentState {
+        CoreAttributeData data;
+        final ItemKey[] items = new ItemKey[SLOTS.length];
+        final boolean[] known = new boolean[SLOTS.length];
+        // Contribuição densa por slot e a lista dos atributos não nulos
+        final double[][] values = new double[SLOTS.length][ATTRIBUTE_IDS.length];
+        final int[][] attributes = new int[SLOTS.length][ATTRIBUTE_IDS.length];
+        final int[] counts = new int[SLOTS.length];
+
+        final AttributeModifier[] applied = new AttributeModifier[ATTRIBUTE_IDS.length];
+        final boolean[] dirty = new boolean[ATTRIBUTE_IDS.length];
+        final int[] dirtyList = new int[ATTRIBUTE_IDS.length];
+        int dirtyCount;
+
+        /**
+         * Recomeça do zero para um novo CoreAttributeData (perfil recarregado ou
+         * definições de itens alteradas).
+         */
+        void reset(CoreAttributeData data) {
+            this.data = data;
+            for (AttributeInstance instance : data.getInstances().values()) {
+                instance.removeModifier(MODIFIER_NAME);
+            }
+            Arrays.fill(items, null);
+            Arrays.fill(known, false);
+            for (int slot = 0; slot < SLOTS.length; slot++) {
+                Arrays.fill(values[slot], 0);
+            }
+            Arrays.fill(counts, 0);
+            Arrays.fill(applied, null);
+            Arrays.fill(dirty, false);
+            dirtyCount = 0;
+        }
+
+        void markDirty(int attribute) {
+            if (!dirty[attribute]) {
+                dirty[attribute] = true;
+                dirtyList[dirtyCount++] = attribute;
+            }
+        }
+
+        boolean applyDirty() {
+            boolean changed = dirtyCount > 0;
+            for (int i = 0; i < dirtyCount; i++) {
+                int attribute = dirtyList[i];
+                dirty[attribute] = false;
+
+                // Soma os slots em vez de acumular diferenças, sem erro de arredondamento
+                double total = 0;
+                for (int slot = 0; slot < SLOTS.length; slot++) {
+                    total += values[slot][attribute];
+                }
+
+                AttributeInstance instance = data.getInstance(ATTRIBUTE_IDS[attribute]);
+                if (instance == null) continue;
+
+                if (applied[attribute] != null) {
+                    instance.removeModifier(applied[attribute]);
+                    applied[attribute] = null;
+                }
+                if (total != 0) {
+                    applied[attribute] = new AttributeModifier(MODIFIER_NAME, total, AttributeOperation.ADD_NUMBER);
+                    instance.addModifier(applied[attribute]);
+                }
             }
+            dirtyCount = 0;
+            return changed;
         }
     }
 
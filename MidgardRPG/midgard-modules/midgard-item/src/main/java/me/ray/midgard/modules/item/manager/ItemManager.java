@@ -5,8 +5,12 @@ import me.ray.midgard.core.debug.MidgardLogger;
 import me.ray.midgard.modules.item.ItemModule;
 import me.ray.midgard.modules.item.model.MidgardItem;
 import me.ray.midgard.modules.item.model.MidgardItemImpl;
+import me.ray.midgard.modules.item.task.ItemMigrationWorker;
+import me.ray.midgard.modules.item.utils.ItemPDC;
+import me.ray.midgard.modules.item.utils.LoreFormatter;
 import me.ray.midgard.core.MidgardCore;
 import me.ray.midgard.core.text.MessageUtils;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
@@ -28,6 +32,16 @@ public class ItemManager {
 
     private final ItemModule module;
     private final Map<String, MidgardItem> itemMap;
+    private final NamespacedKey idKey;
+    private final NamespacedKey revKey;
+
+    // Carimbo do conjunto (id, revisão) de todos os itens; recalculado sob demanda
+    // Versão do trabalho feito por updateItem (ex: conversão de stats legados);
+    // mudar o valor invalida os marcadores de inventários já percorridos
+    private static final long MIGRATION_FORMAT = 2;
+
+    private long revisionStamp;
+    private boolean revisionStampDirty = true;
 
     /**
      * Construtor do ItemManager.
@@ -37,6 +51,8 @@ public class ItemManager {
     public ItemManager(ItemModule module) {
         this.module = module;
         this.itemMap = new HashMap<>();
+        this.idKey = new NamespacedKey(module.getPlugin(), "midgard_id");
+        this.revKey = new NamespacedKey(module.getPlugin(), "midgard_revision");
     }
 
     /**
@@ -50,6 +66,9 @@ public class ItemManager {
         }
 
         loadItemsFromFolder(itemsFolder);
+        AttributeUpdater.invalidateAll();
+        LoreFormatter.invalidateAll();
+        invalidateRevisionStamp();
         MidgardLogger.info("Carregados " + itemMap.size() + " itens.");
         MidgardLogger.debug(DebugCategory.ITEMS, "Carregamento de itens concluído. Total: %d", itemMap.size());
     }
@@ -61,6 +80,8 @@ public class ItemManager {
      */
     public void registerItem(MidgardItem item) {
         itemMap.put(item.getId(), item);
+        AttributeUpdater.invalidateAll();
+        invalidateRevisionStamp();
     }
 
     /**
@@ -69,7 +90,10 @@ public class ItemManager {
      * @param id ID do item a ser removido.
      */
     public void unregisterItem(String id) {
-        itemMap.remove(id);
+        MidgardItem removed = itemMap.remove(id);
+        if (removed != null) LoreFormatter.invalidate(removed);
+        AttributeUpdater.invalidateAll();
+        invalidateRevisionStamp();
     }
 
     private void loadItemsFromFolder(File folder) {
@@ -164,33 +188,43 @@ public class ItemManager {
                 .collect(Collectors.toList());
     }
 
-    public void updateAllOnlinePlayers() {
-        // Create a queue of players to update
-        final java.util.Queue<org.bukkit.entity.Player> playerQueue = new java.util.LinkedList<>(module.getPlugin().getServer().getOnlinePlayers());
-        
-        if (playerQueue.isEmpty()) return;
-
-        module.getPlugin().getLogger().info("Iniciando atualização de itens para " + playerQueue.size() + " jogadores...");
-
-        // Schedule a repeating task to process the queue
-        new org.bukkit.scheduler.BukkitRunnable() {
-            @Override
-            public void run() {
-                // Process up to 2 players per tick to avoid lag
-                for (int i = 0; i < 2; i++) {
-                    if (playerQueue.isEmpty()) {
-                        module.getPlugin().getLogger().info("Atualização de itens concluída.");
-                        this.cancel();
-                        return;
-                    }
-
-                    org.bukkit.entity.Player player = playerQueue.poll();
-                    if (player != null && player.isOnline()) {
-                        updateInventory(player);
-                    }
-                }
+    /**
+     * Identifica o conjunto atual de revisões: muda sempre que algum item é
+     * adicionado, removido ou tem a revisão alterada. Gravado no PDC de
+     * inventários já migrados (ver {@link ItemMigrationWorker}).
+     *
+     * @return Carimbo do conjunto de revisões.
+     */
+    public long getRevisionStamp() {
+        if (revisionStampDirty) {
+            long stamp = itemMap.size() + MIGRATION_FORMAT * 0x9E3779B97F4A7C15L;
+            for (MidgardItem item : itemMap.values()) {
+                // Soma de hashes misturados: independe da ordem do mapa
+                long h = item.getId().hashCode() * 31L + item.getRevisionId();
+                h *= 0x9E3779B97F4A7C15L;
+                stamp += h ^ (h >>> 32);
             }
-        }.runTaskTimer(module.getPlugin(), 1L, 1L);
+            revisionStamp = stamp;
+            revisionStampDirty = false;
+        }
+        return revisionStamp;
+    }
+
+    /**
+     * Força o recálculo do carimbo (ex: após salvar ou mudar a revisão de um item).
+     */
+    public void invalidateRevisionStamp() {
+        revisionStampDirty = true;
+    }
+
+    /**
+     * Agenda a migração dos inventários de todos os jogadores online.
+     * Chamado após mudar a revisão de um item.
+     */
+    public void updateAllOnlinePlayers() {
+        invalidateRevisionStamp();
+        ItemMigrationWorker worker = module.getMigrationWorker();
+        if (worker != null) worker.enqueueOnlinePlayers();
     }
 
     public void updateInventory(org.bukkit.entity.Player player) {
@@ -214,18 +248,21 @@ public class ItemManager {
         }
     }
 
+    /**
+     * Reconstrói o item se a definição tiver revisão mais nova que a do item;
+     * na revisão atual, converte stats ainda gravados em chaves legadas.
+     * Lê o PDC sem clonar o ItemMeta.
+     *
+     * @return Item reconstruído ou convertido, ou null se já está atualizado ou não é um item Midgard.
+     */
     public ItemStack updateItem(ItemStack item) {
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) return null;
-
-        NamespacedKey idKey = new NamespacedKey(module.getPlugin(), "midgard_id");
-        NamespacedKey revKey = new NamespacedKey(module.getPlugin(), "midgard_revision");
+        if (!item.hasItemMeta()) return null;
+        PersistentDataContainerView pdc = item.getPersistentDataContainer();
 
-        String id = meta.getPersistentDataContainer().get(idKey, PersistentDataType.STRING);
+        String id = pdc.get(idKey, PersistentDataType.STRING);
         if (id == null) return null;
 
-        Integer currentRev = meta.getPersistentDataContainer().get(revKey, PersistentDataType.INTEGER);
-        if (currentRev == null) currentRev = 1;
+        int currentRev = pdc.getOrDefault(revKey, PersistentDataType.INTEGER, 1);
 
         MidgardItem template = getMidgardItem(id);
         if (template == null) return null;
@@ -236,6 +273,13 @@ public class ItemManager {
             return newItem;
         }
 
+        // Revisão atual, mas stats ainda no formato de uma chave por stat
+        if (ItemPDC.hasLegacyStats(item)) {
+            ItemStack migrated = item.clone();
+            migrated.editMeta(ItemPDC::migrateLegacyStats);
+            return migrated;
+        }
+
         return null;
     }
 
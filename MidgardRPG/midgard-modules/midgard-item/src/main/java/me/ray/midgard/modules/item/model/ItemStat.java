@@ -1,113 +1,149 @@
 package me.ray.midgard.modules.item.model;
 
+/**
+ * Stats de item. O {@link #getId() id} numérico é o que fica gravado no PDC dos
+ * itens ({@link me.ray.midgard.modules.item.utils.ItemStats}), então a ordem das
+ * constantes pode mudar livremente. Novos stats recebem um id ainda não usado;
+ * ids de stats removidos não devem ser reaproveitados.
+ */
 public enum ItemStat {
-    ATTACK_DAMAGE("attack-damage", "Dano de Ataque"),
-    ATTACK_SPEED("attack-speed", "Velocidade de Ataque"),
-    CRITICAL_STRIKE_CHANCE("critical-strike-chance", "Chance de Crítico"),
-    CRITICAL_STRIKE_POWER("critical-strike-power", "Dano Crítico"),
-    BLOCK_POWER("block-power", "Poder de Bloqueio"),
-    BLOCK_RATING("block-rating", "Taxa de Bloqueio"),
-    DODGE_RATING("dodge-rating", "Esquiva"),
-    PARRY_RATING("parry-rating", "Aparar"),
-    ARMOR("armor", "Armadura"),
-    ARMOR_TOUGHNESS("armor-toughness", "Resistência de Armadura"),
-    MAX_HEALTH("max-health", "Vida Máxima"),
-    MAX_MANA("max-mana", "Mana Máxima"),
-    MAX_STAMINA("max-stamina", "Stamina Máxima"),
-    MOVEMENT_SPEED("movement-speed", "Velocidade de Movimento"),
-    TWO_HANDED("two-handed", "Duas Mãos"),
-    UNBREAKABLE("unbreakable", "Indestrutível"),
-    REQUIRED_LEVEL("required-level", "Nível Necessário"),
-    SKILL_CRITICAL_STRIKE_CHANCE("skill-critical-strike-chance", "Chance de Crítico de Habilidade"),
-    SKILL_CRITICAL_STRIKE_POWER("skill-critical-strike-power", "Dano Crítico de Habilidade"),
-    BLOCK_COOLDOWN_REDUCTION("block-cooldown-reduction", "Redução de Cooldown de Bloqueio"),
-    DODGE_COOLDOWN_REDUCTION("dodge-cooldown-reduction", "Redução de Cooldown de Esquiva"),
-    PARRY_COOLDOWN_REDUCTION("parry-cooldown-reduction", "Redução de Cooldown de Aparar"),
-    COOLDOWN_REDUCTION("cooldown-reduction", "Redução de Cooldown"),
-    WEAPON_DAMAGE("weapon-damage", "Dano da Arma"),
-    SKILL_DAMAGE("skill-damage", "Dano de Habilidade"),
-    PROJECTILE_DAMAGE("projectile-damage", "Dano de Projétil"),
-    PHYSICAL_DAMAGE("physical-damage", "Dano Físico"),
-    MAGIC_DAMAGE("magic-damage", "Dano Mágico"),
-    UNDEAD_DAMAGE("undead-damage", "Dano contra Mortos-Vivos"),
-    DAMAGE_REDUCTION("damage-reduction", "Redução de Dano"),
-    DEFENSE("defense", "Defesa"),
-    FALL_DAMAGE_REDUCTION("fall-damage-reduction", "Redução de Dano de Queda"),
-    PROJECTILE_DAMAGE_REDUCTION("projectile-damage-reduction", "Redução de Dano de Projétil"),
-    PHYSICAL_DAMAGE_REDUCTION("physical-damage-reduction", "Redução de Dano Físico"),
-    MAGIC_DAMAGE_REDUCTION("magic-damage-reduction", "Redução de Dano Mágico"),
-    FIRE_DAMAGE_REDUCTION("fire-damage-reduction", "Redução de Dano de Fogo"),
-    LIFESTEAL("lifesteal", "Roubo de Vida"),
-    PVE_DAMAGE_REDUCTION("pve-damage-reduction", "Redução de Dano PvE"),
-    PVP_DAMAGE_REDUCTION("pvp-damage-reduction", "Redução de Dano PvP"),
-    SPELL_VAMPIRISM("spell-vampirism", "Vampirismo de Feitiço"),
-    GRAVITY("gravity", "Gravidade"),
-    KNOCKBACK_RESISTANCE("knockback-resistance", "Resistência a Repulsão"),
-    MAX_MANA_REGENERATION("max-mana-regeneration", "Regeneração de Mana Máxima"),
-    STAMINA_REGENERATION("stamina-regeneration", "Regeneração de Stamina"),
-    MAX_STAMINA_REGENERATION("max-stamina-regeneration", "Regeneração de Stamina Máxima"),
-    MAX_STELLIUM("max-stellium", "Stellium Máximo"),
-    MAX_ABSORPTION("max-absorption", "Absorção Máxima"),
-    ADDITIONAL_EXPERIENCE("additional-experience", "Experiência Adicional"),
-    HEALTH_REGENERATION("health-regeneration", "Regeneração de Vida"),
-    MAX_HEALTH_REGENERATION("max-health-regeneration", "Regeneração de Vida Máxima"),
-    MYLUCK("myluck", "Sorte"),
-    MANA_REGENERATION("mana-regeneration", "Regeneração de Mana"),
-    SUCCESS_RATE("success-rate", "Taxa de Sucesso"),
-    SAFE_FALL_DISTANCE("safe-fall-distance", "Distância de Queda Segura"),
-    SCALE("scale", "Escala"),
-    STEP_HEIGHT("step-height", "Altura do Degrau"),
-    BURNING_TIME("burning-time", "Tempo de Queima"),
-    JUMP_STRENGTH("jump-strength", "Força do Pulo"),
-    EXPLOSION_KNOCKBACK_RESISTANCE("explosion-knockback-resistance", "Resistência a Repulsão de Explosão"),
-    MINING_EFFICIENCY("mining-efficiency", "Eficiência de Mineração"),
-    MOVEMENT_EFFICIENCY("movement-efficiency", "Eficiência de Movimento"),
-    BONUS_OXYGEN("bonus-oxygen", "Oxigênio Bônus"),
-    SNEAKING_SPEED("sneaking-speed", "Velocidade Agachado"),
-    SUBMERGED_MINING_SPEED("submerged-mining-speed", "Velocidade de Mineração Submersa"),
-    SWEEPING_DAMAGE_RATIO("sweeping-damage-ratio", "Taxa de Dano de Varredura"),
-    WATER_MOVEMENT_EFFICIENCY("water-movement-efficiency", "Eficiência de Movimento na Água"),
-    MINING_SPEED("mining-speed", "Velocidade de Mineração"),
-    BLOCK_INTERACTION_RANGE("block-interaction-range", "Alcance de Interação com Blocos"),
-    ENTITY_INTERACTION_RANGE("entity-interaction-range", "Alcance de Interação com Entidades"),
-    FALL_DAMAGE_MULTIPLIER("fall-damage-multiplier", "Multiplicador de Dano de Queda"),
-    ITEM_COOLDOWN("item-cooldown", "Cooldown do Item"),
+    ATTACK_DAMAGE(0, "attack-damage", "Dano de Ataque"),
+    ATTACK_SPEED(1, "attack-speed", "Velocidade de Ataque"),
+    CRITICAL_STRIKE_CHANCE(2, "critical-strike-chance", "Chance de Crítico"),
+    CRITICAL_STRIKE_POWER(3, "critical-strike-power", "Dano Crítico"),
+    BLOCK_POWER(4, "block-power", "Poder de Bloqueio"),
+    BLOCK_RATING(5, "block-rating", "Taxa de Bloqueio"),
+    DODGE_RATING(6, "dodge-rating", "Esquiva"),
+    PARRY_RATING(7, "parry-rating", "Aparar"),
+    ARMOR(8, "armor", "Armadura"),
+    ARMOR_TOUGHNESS(9, "armor-toughness", "Resistência de Armadura"),
+    MAX_HEALTH(10, "max-health", "Vida Máxima"),
+    MAX_MANA(11, "max-mana", "Mana Máxima"),
+    MAX_STAMINA(12, "max-stamina", "Stamina Máxima"),
+    MOVEMENT_SPEED(13, "movement-speed", "Velocidade de Movimento"),
+    TWO_HANDED(14, "two-handed", "Duas Mãos"),
+    UNBREAKABLE(15, "unbreakable", "Indestrutível"),
+    REQUIRED_LEVEL(16, "required-level", "Nível Necessário"),
+    SKILL_CRITICAL_STRIKE_CHANCE(17, "skill-critical-strike-chance", "Chance de Crítico de Habilidade"),
+    SKILL_CRITICAL_STRIKE_POWER(18, "skill-critical-strike-power", "Dano Crítico de Habilidade"),
+    BLOCK_COOLDOWN_REDUCTION(19, "block-cooldown-reduction", "Redução de Cooldown de Bloqueio"),
+    DODGE_COOLDOWN_REDUCTION(20, "dodge-cooldown-reduction", "Redução de Cooldown de Esquiva"),
+    PARRY_COOLDOWN_REDUCTION(21, "parry-cooldown-reduction", "Redução de Cooldown de Aparar"),
+    COOLDOWN_REDUCTION(22, "cooldown-reduction", "Redução de Cooldown"),
+    WEAPON_DAMAGE(23, "weapon-damage", "Dano da Arma"),
+    SKILL_DAMAGE(24, "skill-damage", "Dano de Habilidade"),
+    PROJECTILE_DAMAGE(25, "projectile-damage", "Dano de Projétil"),
+    PHYSICAL_DAMAGE(26, "physical-damage", "Dano Físico"),
+    MAGIC_DAMAGE(27, "magic-damage", "Dano Mágico"),
+    UNDEAD_DAMAGE(28, "undead-damage", "Dano contra Mortos-Vivos"),
+    DAMAGE_REDUCTION(29, "damage-reduction", "Redução de Dano"),
+    DEFENSE(30, "defense", "Defesa"),
+    FALL_DAMAGE_REDUCTION(31, "fall-damage-reduction", "Redução de Dano de Queda"),
+    PROJECTILE_DAMAGE_REDUCTION(32, "projectile-damage-reduction", "Redução de Dano de Projétil"),
+    PHYSICAL_DAMAGE_REDUCTION(33, "physical-damage-reduction", "Redução de Dano Físico"),
+    MAGIC_DAMAGE_REDUCTION(34, "magic-damage-reduction", "Redução de Dano Mágico"),
+    FIRE_DAMAGE_REDUCTION(35, "fire-damage-reduction", "Redução de Dano de Fogo"),
+    LIFESTEAL(36, "lifesteal", "Roubo de Vida"),
+    PVE_DAMAGE_REDUCTION(37, "pve-damage-reduction", "Redução de Dano PvE"),
+    PVP_DAMAGE_REDUCTION(38, "pvp-damage-reduction", "Redução de Dano PvP"),
+    SPELL_VAMPIRISM(39, "spell-vampirism", "Vampirismo de Feitiço"),
+    GRAVITY(40, "gravity", "Gravidade"),
+    KNOCKBACK_RESISTANCE(41, "knockback-resistance", "Resistência a Repulsão"),
+    MAX_MANA_REGENERATION(42, "max-mana-regeneration", "Regeneração de Mana Máxima"),
+    STAMINA_REGENERATION(43, "stamina-regeneration", "Regeneração de Stamina"),
+    MAX_STAMINA_REGENERATION(44, "max-stamina-regeneration", "Regeneração de Stamina Máxima"),
+    MAX_STELLIUM(45, "max-stellium", "Stellium Máximo"),
+    MAX_ABSORPTION(46, "max-absorption", "Absorção Máxima"),
+    ADDITIONAL_EXPERIENCE(47, "additional-experience", "Experiência Adicional"),
+    HEALTH_REGENERATION(48, "health-regeneration", "Regeneração de Vida"),
+    MAX_HEALTH_REGENERATION(49, "max-health-regeneration", "Regeneração de Vida Máxima"),
+    MYLUCK(50, "myluck", "Sorte"),
+    MANA_REGENERATION(51, "mana-regeneration", "Regeneração de Mana"),
+    SUCCESS_RATE(52, "success-rate", "Taxa de Sucesso"),
+    SAFE_FALL_DISTANCE(53, "safe-fall-distance", "Distância de Queda Segura"),
+    SCALE(54, "scale", "Escala"),
+    STEP_HEIGHT(55, "step-height", "Altura do Degrau"),
+    BURNING_TIME(56, "burning-time", "Tempo de Queima"),
+    JUMP_STRENGTH(57, "jump-strength", "Força do Pulo"),
+    EXPLOSION_KNOCKBACK_RESISTANCE(58, "explosion-knockback-resistance", "Resistência a Repulsão de Explosão"),
+    MINING_EFFICIENCY(59, "mining-efficiency", "Eficiência de Mineração"),
+    MOVEMENT_EFFICIENCY(60, "movement-efficiency", "Eficiência de Movimento"),
+    BONUS_OXYGEN(61, "bonus-oxygen", "Oxigênio Bônus"),
+    SNEAKING_SPEED(62, "sneaking-speed", "Velocidade Agachado"),
+    SUBMERGED_MINING_SPEED(63, "submerged-mining-speed", "Velocidade de Mineração Submersa"),
+    SWEEPING_DAMAGE_RATIO(64, "sweeping-damage-ratio", "Taxa de Dano de Varredura"),
+    WATER_MOVEMENT_EFFICIENCY(65, "water-movement-efficiency", "Eficiência de Movimento na Água"),
+    MINING_SPEED(66, "mining-speed", "Velocidade de Mineração"),
+    BLOCK_INTERACTION_RANGE(67, "block-interaction-range", "Alcance de Interação com Blocos"),
+    ENTITY_INTERACTION_RANGE(68, "entity-interaction-range", "Alcance de Interação com Entidades"),
+    FALL_DAMAGE_MULTIPLIER(69, "fall-damage-multiplier", "Multiplicador de Dano de Queda"),
+    ITEM_COOLDOWN(70, "item-cooldown", "Cooldown do Item"),
     
     // Elemental Damage
-    FIRE_DAMAGE("fire-damage", "Dano de Fogo"),
-    ICE_DAMAGE("ice-damage", "Dano de Gelo"),
-    LIGHT_DAMAGE("light-damage", "Dano de Luz"),
-    DARKNESS_DAMAGE("darkness-damage", "Dano de Escuridão"),
-    DIVINE_DAMAGE("divine-damage", "Dano Divino"),
+    FIRE_DAMAGE(71, "fire-damage", "Dano de Fogo"),
+    ICE_DAMAGE(72, "ice-damage", "Dano de Gelo"),
+    LIGHT_DAMAGE(73, "light-damage", "Dano de Luz"),
+    DARKNESS_DAMAGE(74, "darkness-damage", "Dano de Escuridão"),
+    DIVINE_DAMAGE(75, "divine-damage", "Dano Divino"),
 
     // Missing RPG Stats
-    STRENGTH("strength", "Força"),
-    INTELLIGENCE("intelligence", "Inteligência"),
-    DEXTERITY("dexterity", "Destreza"),
+    STRENGTH(76, "strength", "Força"),
+    INTELLIGENCE(77, "intelligence", "Inteligência"),
+    DEXTERITY(78, "dexterity", "Destreza"),
     
-    ACCURACY("accuracy", "Precisão"),
-    CRITICAL_RESISTANCE("critical-resistance", "Resistência Crítica"),
-    THORNS("thorns", "Espinhos"),
-    MAGIC_RESISTANCE("magic-resistance", "Resistência Mágica"),
+    ACCURACY(79, "accuracy", "Precisão"),
+    CRITICAL_RESISTANCE(80, "critical-resistance", "Resistência Crítica"),
+    THORNS(81, "thorns", "Espinhos"),
+    MAGIC_RESISTANCE(82, "magic-resistance", "Resistência Mágica"),
     
-    ARMOR_PENETRATION("armor-penetration", "Penetração de Armadura"),
-    ARMOR_PENETRATION_FLAT("armor-penetration-flat", "Penetração de Armadura (Flat)"),
-    MAGIC_PENETRATION("magic-penetration", "Penetração Mágica"),
-    MAGIC_PENETRATION_FLAT("magic-penetration-flat", "Penetração Mágica (Flat)"),
+    ARMOR_PENETRATION(83, "armor-penetration", "Penetração de Armadura"),
+    ARMOR_PENETRATION_FLAT(84, "armor-penetration-flat", "Penetração de Armadura (Flat)"),
+    MAGIC_PENETRATION(85, "magic-penetration", "Penetração Mágica"),
+    MAGIC_PENETRATION_FLAT(86, "magic-penetration-flat", "Penetração Mágica (Flat)"),
     
-    ICE_DAMAGE_REDUCTION("ice-damage-reduction", "Redução de Dano de Gelo"),
-    LIGHT_DAMAGE_REDUCTION("light-damage-reduction", "Redução de Dano de Luz"),
-    DARKNESS_DAMAGE_REDUCTION("darkness-damage-reduction", "Redução de Dano de Escuridão"),
-    DIVINE_DAMAGE_REDUCTION("divine-damage-reduction", "Redução de Dano Divino");
+    ICE_DAMAGE_REDUCTION(87, "ice-damage-reduction", "Redução de Dano de Gelo"),
+    LIGHT_DAMAGE_REDUCTION(88, "light-damage-reduction", "Redução de Dano de Luz"),
+    DARKNESS_DAMAGE_REDUCTION(89, "darkness-damage-reduction", "Redução de Dano de Escuridão"),
+    DIVINE_DAMAGE_REDUCTION(90, "divine-damage-reduction", "Redução de Dano Divino");
 
+    private static final ItemStat[] BY_ID;
+
+    static {
+        int max = 0;
+        for (ItemStat stat : values()) max = Math.max(max, stat.id);
+        BY_ID = new ItemStat[max + 1];
+        for (ItemStat stat : values()) {
+            if (BY_ID[stat.id] != null) {
+                throw new IllegalStateException("ID de stat duplicado: " + stat.id + " (" + BY_ID[stat.id] + ", " + stat + ")");
+            }
+            BY_ID[stat.id] = stat;
+        }
+    }
+
+    private final int id;
     private final String path;
     private final String name;
 
-    ItemStat(String path, String name) {
+    ItemStat(int id, String path, String name) {
+        this.id = id;
         this.path = path;
         this.name = name;
     }
 
+    /**
+     * @return ID estável gravado no PDC dos itens.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return Stat com o ID informado, ou null se o ID não existe (stat removido).
+     */
+    public static ItemStat fromId(int id) {
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
+    }
+
     public String getPath() {
         return path;
     }
@@ -177,4 +177,10 @@ public interface MidgardItem {
 
     void save();
     ItemStack build();
+
+    /**
+     * Versão da definição; muda a cada alteração (setters e save()).
+     * Caches derivados da definição comparam com ela antes de reaproveitar.
+     */
+    int getDefinitionVersion();
 }
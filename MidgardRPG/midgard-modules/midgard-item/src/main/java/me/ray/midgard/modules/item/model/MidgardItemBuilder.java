@@ -58,6 +58,66 @@ public class MidgardItemBuilder {
      * @return O ItemStack configurado.
      */
     public ItemStack build() {
+        return instantiate(buildPrototype());
+    }
+
+    /**
+     * Indica se os stats do item têm faixa aleatória. Sem faixas, toda
+     * instância é idêntica e o protótipo já instanciado pode ser reaproveitado.
+     */
+    public boolean hasRandomStats() {
+        for (StatRange range : item.getStats().values()) {
+            if (range.getMin() != range.getMax()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Aplica sobre uma cópia do protótipo as partes de cada instância: stats
+     * sorteados, lore com os valores sorteados, inquebrável e modificadores de
+     * atributo vanilla.
+     *
+     * @param prototype Protótipo gerado por {@link #buildPrototype()} (não é alterado).
+     * @return Nova instância do item.
+     */
+    public ItemStack instantiate(ItemStack prototype) {
+        ItemStack itemStack = prototype.clone();
+        if (itemStack.getType().isAir()) return itemStack;
+
+        ItemMeta meta = itemStack.getItemMeta();
+        if (meta == null) return itemStack;
+
+        // Roll stats
+        Map<ItemStat, Double> rolledStats = new HashMap<>();
+        for (Map.Entry<ItemStat, StatRange> entry : item.getStats().entrySet()) {
+            double val = entry.getValue().getRandom();
+            if (val != 0) {
+                rolledStats.put(entry.getKey(), val);
+            }
+        }
+        ItemPDC.setStats(meta, rolledStats);
+
+        // Pass rolled stats to LoreFormatter to display exact values instead of ranges
+        List<Component> lore = LoreFormatter.formatLore(item, null, rolledStats);
+        meta.lore(lore);
+
+        if (rolledStats.containsKey(ItemStat.UNBREAKABLE) && rolledStats.get(ItemStat.UNBREAKABLE) > 0) {
+            meta.setUnbreakable(true);
+        }
+
+        applyAttributes(meta, rolledStats);
+
+        itemStack.setItemMeta(meta);
+        return itemStack;
+    }
+
+    /**
+     * Constrói a parte do item que não varia entre instâncias (nome, modelo,
+     * encantamentos, PDC de definição, engastes vazios, durabilidade inicial).
+     *
+     * @return O protótipo, ou AIR se o material for nulo.
+     */
+    public ItemStack buildPrototype() {
         if (item.getMaterial() == null) {
             ItemModule.getInstance().getPlugin().getLogger().warning("Material do item é nulo para o item: " + item.getId());
             return new ItemStack(Material.AIR);
@@ -66,23 +126,9 @@ public class MidgardItemBuilder {
         ItemMeta meta = itemStack.getItemMeta();
 
         if (meta != null) {
-            // Roll stats
-            Map<ItemStat, Double> rolledStats = new HashMap<>();
-            for (Map.Entry<ItemStat, StatRange> entry : item.getStats().entrySet()) {
-                double val = entry.getValue().getRandom();
-                if (val != 0) {
-                    rolledStats.put(entry.getKey(), val);
-                    ItemPDC.setStat(meta, entry.getKey(), val);
-                }
-            }
-
             if (item.getDisplayName() != null) {
                 meta.displayName(MessageUtils.parse(item.getDisplayName()));
             }
-            
-            // Pass rolled stats to LoreFormatter to display exact values instead of ranges
-            List<Component> lore = LoreFormatter.formatLore(item, null, rolledStats);
-            meta.lore(lore);
 
             if (item.getCustomModelData() != 0) {
                 setCustomModelData(meta, item.getCustomModelData());
@@ -187,10 +233,6 @@ public class MidgardItemBuilder {
                 ((Damageable) meta).setMaxDamage(item.getMaxVanillaDurability());
             }
 
-            if (rolledStats.containsKey(ItemStat.UNBREAKABLE) && rolledStats.get(ItemStat.UNBREAKABLE) > 0) {
-                meta.setUnbreakable(true);
-            }
-
             if (item.isHideEnchantments()) meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
             if (item.isHideTooltip()) meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
             if (item.isHideDurabilityBar()) meta.addItemFlags(ItemFlag.HIDE_UNBREAKABLE);
@@ -227,8 +269,6 @@ public class MidgardItemBuilder {
                 }
             }
 
-            applyAttributes(meta, rolledStats);
-
             if (meta instanceof ArmorMeta && item.getTrimMaterial() != null && !item.getTrimMaterial().isEmpty() && item.getTrimPattern() != null && !item.getTrimPattern().isEmpty()) {
                 try {
                     Registry<TrimMaterial> tmRegistry = getRegistry(TrimMaterial.class);
@@ -373,7 +413,7 @@ public class MidgardItemBuilder {
                 meta.getPersistentDataContainer().set(new NamespacedKey(ItemModule.getInstance().getPlugin(), "midgard_disable_advanced_enchants"), PersistentDataType.BYTE, (byte) 1);
             }
 
-            // Stats are already saved in the beginning of the method
+            // Stats, lore e modificadores de atributo são aplicados por instância (instantiate)
 
             if (item.getMaxStackSize() != 64) {
                 try {
@@ -7,12 +7,14 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
 import me.ray.midgard.modules.item.ItemModule;
 
+import me.ray.midgard.modules.item.utils.LoreFormatter;
 import me.ray.midgard.modules.item.utils.StatRange;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implementação padrão de um item do MidgardRPG.
@@ -38,6 +40,19 @@ public class MidgardItemImpl implements MidgardItem {
 
     private String categoryId;
 
+    // Incrementado a cada mudança na definição; caches derivados guardam a versão em que foram montados
+    private final AtomicInteger definitionVersion = new AtomicInteger();
+
+    // Protótipo do ItemStack para a definição atual
+    private volatile Prototype prototype;
+
+    /**
+     * @param stack Protótipo imutável (sempre clonado antes de sair daqui).
+     * @param complete true se os stats não têm faixa aleatória e o protótipo já é o item final.
+     * @param version Versão da definição usada para montar o protótipo.
+     */
+    private record Prototype(ItemStack stack, boolean complete, int version) {}
+
     /**
      * Construtor do MidgardItemImpl.
      *
@@ -71,11 +86,46 @@ public class MidgardItemImpl implements MidgardItem {
 
     /**
      * Constrói um ItemStack do Bukkit representando este item.
+     * <p>
+     * A parte fixa do item é montada uma vez (nome, lore, PDC, componentes) e
+     * guardada como protótipo; cada chamada clona o protótipo e aplica só o
+     * que varia por instância (stats sorteados e o que depende deles).
      *
      * @return ItemStack gerado.
      */
     public ItemStack build() {
-        return new MidgardItemBuilder(this).build();
+        MidgardItemBuilder builder = new MidgardItemBuilder(this);
+        Prototype current = prototype;
+        int version = definitionVersion.get();
+        if (current == null || current.version() != version) {
+            ItemStack stack = builder.buildPrototype();
+            boolean complete = !builder.hasRandomStats();
+            if (complete) {
+                stack = builder.instantiate(stack);
+            }
+            current = new Prototype(stack, complete, version);
+            prototype = current;
+        }
+        return current.complete() ? current.stack().clone() : builder.instantiate(current.stack());
+    }
+
+    @Override
+    public int getDefinitionVersion() {
+        return definitionVersion.get();
+    }
+
+    /**
+     * Marca a definição como alterada. Todo setter (direto ou via componentes)
+     * passa por aqui através de {@link #save()}; o protótipo e a lore compilada
+     * deixam de valer pela versão, mesmo que já estejam sendo montados.
+     */
+    void markChanged() {
+        definitionVersion.incrementAndGet();
+        prototype = null;
+        LoreFormatter.invalidate(this);
+        if (ItemModule.getInstance().getItemManager() != null) {
+            ItemModule.getInstance().getItemManager().invalidateRevisionStamp();
+        }
     }
 
 
@@ -255,6 +305,7 @@ public class MidgardItemImpl implements MidgardItem {
     public void setKeepSoulbind(boolean val) { updaterOptions.setKeepSoulbind(val); }
 
     public void save() {
+        markChanged();
         String categoryDirName = categoryId.toLowerCase();
         File itemsFolder = new File(ItemModule.getInstance().getDataFolder(), "item");
         File categoryFolder = new File(itemsFolder, categoryDirName);
@@ -1,48 +1,34 @@
 package me.ray.midgard.modules.item.task;
 
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.core.attribute.StatUpdateScheduler;
 import me.ray.midgard.modules.item.manager.AttributeUpdater;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
-
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
 
+/**
+ * Reconciliação periódica dos atributos de equipamento.
+ * <p>
+ * A detecção de troca de equipamento é feita por eventos
+ * ({@link me.ray.midgard.modules.item.listener.EquipmentChangeListener}); esta
+ * tarefa roda em intervalo longo só para cobrir mudanças que não disparam
+ * evento (ex: plugins que alteram o item sem passar pelo inventário). O
+ * {@link AttributeUpdater} já ignora slots cujo item não mudou.
+ */
 public class EquipmentUpdateTask implements Runnable {
 
-    private static final Map<UUID, Integer> equipmentHashes = new HashMap<>();
-
     @Override
     public void run() {
         for (Player player : Bukkit.getOnlinePlayers()) {
             try {
-                int currentHash = calculateEquipmentHash(player);
-                Integer lastHash = equipmentHashes.get(player.getUniqueId());
-
-                if (lastHash == null || lastHash != currentHash) {
-                    AttributeUpdater.updateAttributes(player);
-                    equipmentHashes.put(player.getUniqueId(), currentHash);
+                // Só agenda as fases seguintes se algo realmente mudou
+                StatUpdateScheduler scheduler = MidgardCore.getStatUpdateScheduler();
+                if (AttributeUpdater.updateAttributes(player) && scheduler != null) {
+                    scheduler.markDirty(player, StatUpdateScheduler.Phase.SCALING);
                 }
             } catch (Exception e) {
                 e.printStackTrace();
             }
         }
     }
-
-    private int calculateEquipmentHash(Player player) {
-        ItemStack[] armor = player.getInventory().getArmorContents();
-        ItemStack hand = player.getInventory().getItemInMainHand();
-        ItemStack offHand = player.getInventory().getItemInOffHand();
-        
-        int result = Arrays.hashCode(armor);
-        result = 31 * result + (hand != null ? hand.hashCode() : 0);
-        result = 31 * result + (offHand != null ? offHand.hashCode() : 0);
-        return result;
-    }
-    
-    public static void clearCache(UUID uuid) {
-        equipmentHashes.remove(uuid);
-    }
 }
@@ -0,0 +1,205 @@
+package me.ray.midgard.modules.item.task;
+
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.core.debug.DebugCategory;
+import me.ray.midgard.core.debug.MidgardLogger;
+import me.ray.midgard.core.text.MessageUtils;
+import me.ray.midgard.modules.item.ItemModule;
+import me.ray.midgard.modules.item.manager.ItemManager;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataHolder;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Migra itens de revisão antiga para a definição atual em segundo plano.
+ * <p>
+ * Inventários (de jogadores ou containers) entram numa fila e são percorridos
+ * slot a slot dentro de um orçamento de tempo por tick
+ * ({@code settings.item-migration.budget-ms}); um inventário grande continua
+ * de onde parou no tick seguinte. Ao terminar uma passada completa, o
+ * {@link ItemManager#getRevisionStamp() carimbo do conjunto de revisões} é
+ * gravado no PDC do dono (jogador, bloco ou entidade), e o inventário é
+ * ignorado nas próximas aberturas enquanto nenhuma revisão mudar. Itens que
+ * entram num inventário marcado (coleta, hoppers) são migrados pelo
+ * {@link me.ray.midgard.modules.item.listener.ItemUpdateListener}.
+ * <p>
+ * Inventários sem dono persistente (ex: baú duplo, GUIs) não recebem marcador
+ * e são percorridos a cada abertura, ainda dentro do orçamento.
+ */
+public class ItemMigrationWorker implements Runnable {
+
+    private final ItemModule module;
+    private final long budgetNanos;
+    private final NamespacedKey inventoryKey;
+    // Ender chest tem o jogador como dono; precisa de marcador próprio
+    private final NamespacedKey enderChestKey;
+
+    private final Deque<Job> queue = new ArrayDeque<>();
+    private final Set<Inventory> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public ItemMigrationWorker(ItemModule module, double budgetMillis) {
+        this.module = module;
+        this.budgetNanos = (long) (Math.max(0.1, budgetMillis) * 1_000_000L);
+        this.inventoryKey = new NamespacedKey(module.getPlugin(), "item_revision_set");
+        this.enderChestKey = new NamespacedKey(module.getPlugin(), "item_revision_set_ender");
+    }
+
+    /**
+     * Agenda o inventário do jogador, a menos que já esteja no conjunto de revisões atual.
+     */
+    public void enqueue(Player player) {
+        enqueue(player.getInventory(), player, inventoryKey, player);
+    }
+
+    /**
+     * Agenda um inventário aberto (container, ender chest, etc.), a menos que
+     * o dono já esteja marcado com o conjunto de revisões atual.
+     */
+    public void enqueue(Inventory inventory) {
+        if (inventory.getType() == InventoryType.PLAYER || inventory.getType() == InventoryType.CRAFTING) return;
+
+        InventoryHolder holder = inventory.getHolder(false);
+        PersistentDataHolder marker = holder instanceof PersistentDataHolder pdh ? pdh : null;
+        NamespacedKey key = inventory.getType() == InventoryType.ENDER_CHEST ? enderChestKey : inventoryKey;
+        enqueue(inventory, marker, key, null);
+    }
+
+    /**
+     * Agenda todos os jogadores online (ex: após mudar a revisão de um item).
+     */
+    public void enqueueOnlinePlayers() {
+        int before = queue.size();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            enqueue(player);
+        }
+        MidgardLogger.debug(DebugCategory.ITEMS, "Migração de itens: %d jogadores agendados.", queue.size() - before);
+    }
+
+    private void enqueue(Inventory inventory, PersistentDataHolder marker, NamespacedKey key, Player owner) {
+        long stamp = module.getItemManager().getRevisionStamp();
+        if (marker != null && isMarked(marker, key, stamp)) return;
+        if (!queued.add(inventory)) return;
+        queue.add(new Job(inventory, marker, key, owner));
+    }
+
+    private static boolean isMarked(PersistentDataHolder marker, NamespacedKey key, long stamp) {
+        Long current = marker.getPersistentDataContainer().get(key, PersistentDataType.LONG);
+        return current != null && current == stamp;
+    }
+
+    /**
+     * Descarta a fila (ex: ao desabilitar o módulo). Nada foi marcado para os
+     * inventários pendentes, então eles voltam à fila na próxima abertura.
+     */
+    public void clear() {
+        queue.clear();
+        queued.clear();
+    }
+
+    @Override
+    public void run() {
+        if (queue.isEmpty()) return;
+
+        ItemManager manager = module.getItemManager();
+        long deadline = System.nanoTime() + budgetNanos;
+
+        while (!queue.isEmpty() && System.nanoTime() < deadline) {
+            Job job = queue.peek();
+            if (!job.isValid()) {
+                finish(job);
+                continue;
+            }
+
+            if (job.stamp != manager.getRevisionStamp()) {
+                // Revisões mudaram no meio da passada: recomeça do zero
+                job.restart(manager.getRevisionStamp());
+            }
+
+            if (!job.step(manager, deadline)) continue;
+
+            if (job.marker != null) {
+                job.marker.getPersistentDataContainer().set(job.key, PersistentDataType.LONG, job.stamp);
+            }
+            if (job.updated && job.owner != null) {
+                MessageUtils.send(job.owner, MidgardCore.getLanguageManager().getMessage("item.common.updated_to_latest"));
+            }
+            finish(job);
+        }
+    }
+
+    private void finish(Job job) {
+        queue.poll();
+        queued.remove(job.inventory);
+    }
+
+    /**
+     * Passada em andamento sobre um inventário.
+     */
+    private static final class Job {
+
+        final Inventory inventory;
+        final PersistentDataHolder marker;
+        final NamespacedKey key;
+        final Player owner;
+
+        long stamp;
+        int slot;
+        boolean updated;
+
+        Job(Inventory inventory, PersistentDataHolder marker, NamespacedKey key, Player owner) {
+            this.inventory = inventory;
+            this.marker = marker;
+            this.key = key;
+            this.owner = owner;
+            this.stamp = ItemModule.getInstance().getItemManager().getRevisionStamp();
+        }
+
+        /**
+         * Jogador saiu ou container foi fechado: a passada é abandonada sem
+         * marcador e refeita no próximo login/abertura.
+         */
+        boolean isValid() {
+            if (owner != null) return owner.isOnline();
+            return !inventory.getViewers().isEmpty();
+        }
+
+        void restart(long stamp) {
+            this.stamp = stamp;
+            this.slot = 0;
+        }
+
+        /**
+         * Avança slot a slot até o fim do inventário ou do orçamento.
+         *
+         * @return true se a passada terminou.
+         */
+        boolean step(ItemManager manager, long deadline) {
+            int size = inventory.getSize();
+            while (slot < size) {
+                ItemStack item = inventory.getItem(slot);
+                if (item != null && item.hasItemMeta()) {
+                    ItemStack newItem = manager.updateItem(item);
+                    if (newItem != null) {
+                        inventory.setItem(slot, newItem);
+                        updated = true;
+                    }
+                }
+                slot++;
+                if (System.nanoTime() >= deadline) break;
+            }
+            return slot >= size;
+        }
+    }
+}
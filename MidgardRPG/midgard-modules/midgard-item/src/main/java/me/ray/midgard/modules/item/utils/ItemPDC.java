@@ -1,72 +1,220 @@
 package me.ray.midgard.modules.item.utils;
 
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import me.ray.midgard.modules.item.ItemModule;
 import me.ray.midgard.modules.item.model.ItemStat;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Acesso ao PDC dos itens Midgard.
+ * <p>
+ * Os stats ficam em uma única entrada binária ({@code stats}, ver
+ * {@link ItemStats}). Itens antigos, com uma chave {@code stat_<nome>} por
+ * stat, continuam legíveis; o {@code ItemManager.updateItem} converte esses
+ * itens ao passar por eles ({@link #migrateLegacyStats(ItemMeta)}), e qualquer
+ * escrita de stats também grava o formato novo e apaga as chaves antigas.
+ */
 public class ItemPDC {
 
     private static final NamespacedKey ID_KEY = new NamespacedKey(ItemModule.getInstance().getPlugin(), "midgard_id");
+    private static final NamespacedKey STATS_KEY = new NamespacedKey(ItemModule.getInstance().getPlugin(), "stats");
+
+    private static final Map<String, NamespacedKey> KEYS = new ConcurrentHashMap<>();
+    // Chave legada "stat_<nome>" -> stat
+    private static final Map<String, ItemStat> LEGACY_STATS = new HashMap<>();
+
+    static {
+        for (ItemStat stat : ItemStat.values()) {
+            LEGACY_STATS.put("stat_" + stat.name().toLowerCase(Locale.ROOT), stat);
+        }
+    }
+
+    private static NamespacedKey key(String key) {
+        return KEYS.computeIfAbsent(key, k -> new NamespacedKey(ItemModule.getInstance().getPlugin(), k));
+    }
 
     public static void setString(ItemMeta meta, String key, String value) {
-        meta.getPersistentDataContainer().set(new NamespacedKey(ItemModule.getInstance().getPlugin(), key), PersistentDataType.STRING, value);
+        meta.getPersistentDataContainer().set(key(key), PersistentDataType.STRING, value);
     }
 
     public static String getString(ItemMeta meta, String key) {
-        return meta.getPersistentDataContainer().get(new NamespacedKey(ItemModule.getInstance().getPlugin(), key), PersistentDataType.STRING);
+        return meta.getPersistentDataContainer().get(key(key), PersistentDataType.STRING);
     }
 
     public static void setDouble(ItemMeta meta, String key, double value) {
-        meta.getPersistentDataContainer().set(new NamespacedKey(ItemModule.getInstance().getPlugin(), key), PersistentDataType.DOUBLE, value);
+        meta.getPersistentDataContainer().set(key(key), PersistentDataType.DOUBLE, value);
     }
 
     public static double getDouble(ItemMeta meta, String key) {
-        return meta.getPersistentDataContainer().getOrDefault(new NamespacedKey(ItemModule.getInstance().getPlugin(), key), PersistentDataType.DOUBLE, 0.0);
+        return meta.getPersistentDataContainer().getOrDefault(key(key), PersistentDataType.DOUBLE, 0.0);
     }
-    
+
     public static boolean has(ItemMeta meta, String key) {
-        return meta.getPersistentDataContainer().has(new NamespacedKey(ItemModule.getInstance().getPlugin(), key), PersistentDataType.STRING) ||
-               meta.getPersistentDataContainer().has(new NamespacedKey(ItemModule.getInstance().getPlugin(), key), PersistentDataType.DOUBLE) ||
-               meta.getPersistentDataContainer().has(new NamespacedKey(ItemModule.getInstance().getPlugin(), key), PersistentDataType.INTEGER);
+        NamespacedKey namespacedKey = key(key);
+        return meta.getPersistentDataContainer().has(namespacedKey, PersistentDataType.STRING) ||
+               meta.getPersistentDataContainer().has(namespacedKey, PersistentDataType.DOUBLE) ||
+               meta.getPersistentDataContainer().has(namespacedKey, PersistentDataType.INTEGER);
     }
 
+    // ============================================
+    // STATS
+    // ============================================
+
     public static void setStat(ItemMeta meta, ItemStat stat, double value) {
-        setDouble(meta, "stat_" + stat.name().toLowerCase(), value);
+        Map<ItemStat, Double> stats = readStats(meta).toMap();
+        stats.put(stat, value);
+        setStats(meta, stats);
+    }
+
+    /**
+     * Substitui todos os stats do item por uma única escrita no PDC.
+     */
+    public static void setStats(ItemMeta meta, Map<ItemStat, Double> stats) {
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        removeLegacyStats(pdc);
+        if (stats.isEmpty()) {
+            pdc.remove(STATS_KEY);
+        } else {
+            pdc.set(STATS_KEY, PersistentDataType.BYTE_ARRAY, ItemStats.of(stats).encode());
+        }
     }
 
     public static double getStat(ItemMeta meta, ItemStat stat) {
-        return getDouble(meta, "stat_" + stat.name().toLowerCase());
+        return readStats(meta).get(stat);
     }
-    
+
     public static boolean hasStat(ItemMeta meta, ItemStat stat) {
-        return meta.getPersistentDataContainer().has(new NamespacedKey(ItemModule.getInstance().getPlugin(), "stat_" + stat.name().toLowerCase()), PersistentDataType.DOUBLE);
+        return readStats(meta).has(stat);
+    }
+
+    /**
+     * Lê os stats sem clonar o ItemMeta.
+     */
+    public static ItemStats readStats(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return ItemStats.EMPTY;
+        return readStats(item.getPersistentDataContainer());
+    }
+
+    public static ItemStats readStats(ItemMeta meta) {
+        return readStats(meta.getPersistentDataContainer());
+    }
+
+    private static ItemStats readStats(PersistentDataContainerView pdc) {
+        if (pdc.isEmpty()) return ItemStats.EMPTY;
+
+        byte[] data = pdc.get(STATS_KEY, PersistentDataType.BYTE_ARRAY);
+        if (data != null) {
+            ItemStats stats = ItemStats.decode(data);
+            if (stats != null) return stats;
+        }
+        return readLegacyStats(pdc);
+    }
+
+    /**
+     * Stats do item como bytes empacotados, sem clonar o ItemMeta: a entrada
+     * gravada, ou os stats legados empacotados na hora. Serve para comparar
+     * itens pelo que contribuem sem percorrer o meta inteiro.
+     *
+     * @return Bytes dos stats, ou null se o item não tem stats.
+     */
+    public static byte[] getStatsData(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return null;
+        PersistentDataContainerView pdc = item.getPersistentDataContainer();
+        if (pdc.isEmpty()) return null;
+
+        byte[] data = pdc.get(STATS_KEY, PersistentDataType.BYTE_ARRAY);
+        if (data != null) return data;
+        ItemStats legacy = readLegacyStats(pdc);
+        return legacy.isEmpty() ? null : legacy.encode();
     }
 
     public static Map<ItemStat, Double> getStats(ItemStack item) {
-        Map<ItemStat, Double> stats = new HashMap<>();
-        if (item == null || !item.hasItemMeta()) return stats;
-        
-        ItemMeta meta = item.getItemMeta();
-        for (ItemStat stat : ItemStat.values()) {
-            if (hasStat(meta, stat)) {
-                stats.put(stat, getStat(meta, stat));
+        return readStats(item).toMap();
+    }
+
+    /**
+     * Converte as chaves {@code stat_<nome>} para a entrada empacotada.
+     *
+     * @return true se o meta foi alterado.
+     */
+    public static boolean migrateLegacyStats(ItemMeta meta) {
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        if (!hasLegacyStats(pdc)) return false;
+
+        Map<ItemStat, Double> stats = readStats(pdc).toMap();
+        if (pdc.has(STATS_KEY, PersistentDataType.BYTE_ARRAY)) {
+            // Entrada nova já existe: as chaves antigas são só sobra
+            removeLegacyStats(pdc);
+        } else {
+            setStats(meta, stats);
+        }
+        return true;
+    }
+
+    /**
+     * @return true se o item ainda tem chaves {@code stat_<nome>} (sem clonar o ItemMeta).
+     */
+    public static boolean hasLegacyStats(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return false;
+        PersistentDataContainerView pdc = item.getPersistentDataContainer();
+        return !pdc.isEmpty() && hasLegacyStats(pdc);
+    }
+
+    private static ItemStats readLegacyStats(PersistentDataContainerView pdc) {
+        Map<ItemStat, Double> stats = null;
+        String namespace = STATS_KEY.getNamespace();
+        // Percorre só as chaves presentes no item em vez de testar todos os stats
+        for (NamespacedKey key : pdc.getKeys()) {
+            if (!key.getNamespace().equals(namespace)) continue;
+            ItemStat stat = LEGACY_STATS.get(key.getKey());
+            if (stat == null) continue;
+
+            Double value = pdc.get(key, PersistentDataType.DOUBLE);
+            if (value == null) continue;
+            if (stats == null) stats = new EnumMap<>(ItemStat.class);
+            stats.put(stat, value);
+        }
+        return stats != null ? ItemStats.of(stats) : ItemStats.EMPTY;
+    }
+
+    private static boolean hasLegacyStats(PersistentDataContainerView pdc) {
+        String namespace = STATS_KEY.getNamespace();
+        for (NamespacedKey key : pdc.getKeys()) {
+            if (key.getNamespace().equals(namespace) && LEGACY_STATS.containsKey(key.getKey())) return true;
+        }
+        return false;
+    }
+
+    private static void removeLegacyStats(PersistentDataContainer pdc) {
+        if (pdc.isEmpty()) return;
+        String namespace = STATS_KEY.getNamespace();
+        for (NamespacedKey key : pdc.getKeys()) {
+            if (key.getNamespace().equals(namespace) && LEGACY_STATS.containsKey(key.getKey())) {
+                pdc.remove(key);
             }
         }
-        return stats;
     }
-    
+
+    // ============================================
+    // ID
+    // ============================================
+
     public static void setMidgardId(ItemMeta meta, String id) {
         meta.getPersistentDataContainer().set(ID_KEY, PersistentDataType.STRING, id);
     }
-    
+
     public static String getMidgardId(ItemStack item) {
         if (item == null || !item.hasItemMeta()) return null;
-        return item.getItemMeta().getPersistentDataContainer().get(ID_KEY, PersistentDataType.STRING);
+        return item.getPersistentDataContainer().get(ID_KEY, PersistentDataType.STRING);
     }
 }
@@ -0,0 +1,137 @@
+package me.ray.midgard.modules.item.utils;
+
+import me.ray.midgard.modules.item.model.ItemStat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Stats de um item em arrays primitivos paralelos (ID do stat e valor).
+ * <p>
+ * É o formato decodificado da entrada única {@code midgard:stats} do PDC
+ * (ver {@link ItemPDC}). Binário, versão 1: versão (1 byte), quantidade
+ * (short) e, por stat, o {@link ItemStat#getId() ID estável} (short) seguido
+ * do valor (double). O ID não depende da ordem do enum; IDs sem stat
+ * correspondente (stat removido) são ignorados.
+ * <p>
+ * Imutável; para alterar, use {@link #toMap()} e {@link #of(Map)}.
+ */
+public final class ItemStats {
+
+    public static final ItemStats EMPTY = new ItemStats(new short[0], new double[0]);
+
+    static final byte VERSION = 1;
+
+    private final short[] ids;
+    private final double[] values;
+
+    private ItemStats(short[] ids, double[] values) {
+        this.ids = ids;
+        this.values = values;
+    }
+
+    public static ItemStats of(Map<ItemStat, Double> stats) {
+        if (stats.isEmpty()) return EMPTY;
+
+        short[] ids = new short[stats.size()];
+        double[] values = new double[stats.size()];
+        int size = 0;
+        for (Map.Entry<ItemStat, Double> entry : stats.entrySet()) {
+            if (entry.getValue() == null) continue;
+            ids[size] = (short) entry.getKey().getId();
+            values[size] = entry.getValue();
+            size++;
+        }
+        return size == ids.length
+                ? new ItemStats(ids, values)
+                : new ItemStats(Arrays.copyOf(ids, size), Arrays.copyOf(values, size));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public ItemStat stat(int index) {
+        return ItemStat.fromId(ids[index]);
+    }
+
+    public double value(int index) {
+        return values[index];
+    }
+
+    public boolean has(ItemStat stat) {
+        return indexOf(stat) >= 0;
+    }
+
+    /**
+     * @return Valor do stat, ou 0 se ausente.
+     */
+    public double get(ItemStat stat) {
+        int index = indexOf(stat);
+        return index >= 0 ? values[index] : 0.0;
+    }
+
+    public Map<ItemStat, Double> toMap() {
+        Map<ItemStat, Double> map = new EnumMap<>(ItemStat.class);
+        for (int i = 0; i < ids.length; i++) {
+            map.put(ItemStat.fromId(ids[i]), values[i]);
+        }
+        return map;
+    }
+
+    private int indexOf(ItemStat stat) {
+        short id = (short) stat.getId();
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) return i;
+        }
+        return -1;
+    }
+
+    // ============================================
+    // BINÁRIO
+    // ============================================
+
+    byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(3 + ids.length * 10);
+        buffer.put(VERSION);
+        buffer.putShort((short) ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            buffer.putShort(ids[i]);
+            buffer.putDouble(values[i]);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @return Stats decodificados, ou null se a versão é desconhecida ou os dados estão truncados.
+     */
+    static ItemStats decode(byte[] data) {
+        if (data == null || data.length < 3 || data[0] != VERSION) return null;
+
+        ByteBuffer buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+        int count = buffer.getShort() & 0xFFFF;
+        if (buffer.remaining() < count * 10) return null;
+
+        short[] ids = new short[count];
+        double[] values = new double[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            short id = buffer.getShort();
+            double value = buffer.getDouble();
+            if (ItemStat.fromId(id) == null) continue;
+            ids[size] = id;
+            values[size] = value;
+            size++;
+        }
+        if (size == 0) return EMPTY;
+        return size == count
+                ? new ItemStats(ids, values)
+                : new ItemStats(Arrays.copyOf(ids, size), Arrays.copyOf(values, size));
+    }
+}
@@ -13,7 +13,22 @@ import org.bukkit.inventory.ItemStack;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Monta a lore dos itens a partir de {@code settings.lore-format}.
+ * <p>
+ * O formato é compilado uma vez por item ({@link CompiledLore}): linhas fixas
+ * viram componentes prontos e linhas com valor variável (valor do stat, tipo
+ * e gema do engaste) viram componentes com um marcador no lugar do valor.
+ * Stats zerados são descartados na compilação. Na renderização o marcador é
+ * trocado pelo texto do valor, sem passar pelo MiniMessage de novo.
+ * <p>
+ * Cada lore compilada guarda a {@link MidgardItem#getDefinitionVersion() versão
+ * da definição} usada; qualquer edição do item (GUI, comandos, save()) muda a
+ * versão e a lore é recompilada no próximo uso. Recarregar os itens descarta
+ * tudo ({@link #invalidateAll()}).
+ */
 public class LoreFormatter {
 
     private static final List<ItemStat> ELEMENTAL_STATS = java.util.Arrays.asList(
@@ -24,6 +39,13 @@ public class LoreFormatter {
             ItemStat.DIVINE_DAMAGE
     );
 
+    // Marcadores de slot (área de uso privado do Unicode, não aparecem em configs)
+    private static final String VALUE_SLOT = "\uE000";
+    private static final String TYPE_SLOT = "\uE001";
+    private static final String GEM_SLOT = "\uE002";
+
+    private static final Map<MidgardItem, CompiledLore> COMPILED = new ConcurrentHashMap<>();
+
     public static List<Component> formatLore(MidgardItem item) {
         return formatLore(item, null, null);
     }
@@ -33,7 +55,54 @@ public class LoreFormatter {
     }
 
     public static List<Component> formatLore(MidgardItem item, SocketData socketData, Map<ItemStat, Double> statsOverride) {
-        List<Component> lore = new ArrayList<>();
+        int version = item.getDefinitionVersion();
+        CompiledLore compiled = COMPILED.get(item);
+        if (compiled == null || compiled.version() != version) {
+            compiled = compile(item, version);
+            COMPILED.put(item, compiled);
+        }
+        return compiled.render(socketData, statsOverride);
+    }
+
+    public static List<Component> formatLore(ItemStack itemStack) {
+        String id = ItemModule.getInstance().getItemManager().getItemId(itemStack);
+        if (id == null) return new ArrayList<>();
+        MidgardItem item = ItemModule.getInstance().getItemManager().getMidgardItem(id);
+        if (item == null) return new ArrayList<>();
+
+        SocketData socketData = SocketData.fromItem(itemStack);
+
+        // Read stats from PDC
+        Map<ItemStat, Double> statsOverride = new java.util.HashMap<>();
+        ItemStats stats = ItemPDC.readStats(itemStack);
+        for (int i = 0; i < stats.size(); i++) {
+            if (stats.value(i) > 0) {
+                statsOverride.put(stats.stat(i), stats.value(i));
+            }
+        }
+
+        return formatLore(item, socketData, statsOverride);
+    }
+
+    /**
+     * Descarta a lore compilada de um item (ex: após editar a definição).
+     */
+    public static void invalidate(MidgardItem item) {
+        COMPILED.remove(item);
+    }
+
+    /**
+     * Descarta todas as lores compiladas (ex: reload da config ou dos itens).
+     */
+    public static void invalidateAll() {
+        COMPILED.clear();
+    }
+
+    // ============================================
+    // COMPILAÇÃO
+    // ============================================
+
+    private static CompiledLore compile(MidgardItem item, int version) {
         FileConfiguration config = ItemModule.getInstance().getConfig();
         List<String> layout = config.getStringList("settings.lore-format.layout");
 
@@ -49,138 +118,100 @@ public class LoreFormatter {
 
         boolean hasElementsTag = layout.contains("{elements}");
 
+        List<Section> sections = new ArrayList<>();
         for (String section : layout) {
-            List<Component> sectionLore = new ArrayList<>();
             switch (section) {
                 case "{displayed-type}":
                     if (item.getDisplayedType() != null && !item.getDisplayedType().isEmpty()) {
-                        sectionLore.add(MessageUtils.parse(item.getDisplayedType()));
+                        sections.add(new FixedSection(List.of(MessageUtils.parse(item.getDisplayedType()))));
                     }
                     break;
                 case "{stats}":
-                    sectionLore.addAll(formatStats(item, config, hasElementsTag, statsOverride));
+                    sections.add(compileStats(item, config, stat -> !hasElementsTag || !ELEMENTAL_STATS.contains(stat)));
                     break;
                 case "{elements}":
-                    sectionLore.addAll(formatElements(item, config, statsOverride));
+                    sections.add(compileStats(item, config, ELEMENTAL_STATS::contains));
                     break;
                 case "{sockets}":
-                    sectionLore.addAll(formatSockets(item, config, socketData));
+                    sections.add(compileSockets(item, config));
                     break;
                 case "{abilities}":
-                    sectionLore.addAll(formatAbilities(item, config));
+                    sections.add(compileAbilities(item, config));
                     break;
                 case "{lore}":
                     if (item.getLore() != null) {
+                        List<Component> lines = new ArrayList<>();
                         for (String line : item.getLore()) {
-                            sectionLore.add(MessageUtils.parse("<gray>" + line));
+                            lines.add(MessageUtils.parse("<gray>" + line));
                         }
+                        sections.add(new FixedSection(lines));
                     }
                     break;
                 default:
-                    sectionLore.add(MessageUtils.parse(section));
+                    sections.add(new FixedSection(List.of(MessageUtils.parse(section))));
                     break;
             }
-
-            if (!sectionLore.isEmpty()) {
-                if (!lore.isEmpty()) {
-                    lore.add(Component.empty());
-                }
-                lore.addAll(sectionLore);
-            }
         }
 
-        return lore;
+        return new CompiledLore(sections, version);
     }
 
-    public static List<Component> formatLore(ItemStack itemStack) {
-        String id = ItemModule.getInstance().getItemManager().getItemId(itemStack);
-        if (id == null) return new ArrayList<>();
-        MidgardItem item = ItemModule.getInstance().getItemManager().getMidgardItem(id);
-        if (item == null) return new ArrayList<>();
-        
-        SocketData socketData = SocketData.fromItem(itemStack);
-
-        // Read stats from PDC
-        Map<ItemStat, Double> statsOverride = new java.util.HashMap<>();
-        if (itemStack.hasItemMeta()) {
-             for (ItemStat stat : ItemStat.values()) {
-                 double val = ItemPDC.getStat(itemStack.getItemMeta(), stat);
-                 if (val > 0) {
-                     statsOverride.put(stat, val);
-                 }
-             }
-        }
-
-        return formatLore(item, socketData, statsOverride);
-    }
-
-
-    private static List<Component> formatStats(MidgardItem item, FileConfiguration config, boolean excludeElements, Map<ItemStat, Double> statsOverride) {
-        List<Component> statsLore = new ArrayList<>();
-        Map<ItemStat, StatRange> stats = item.getStats();
-
-        if (stats.isEmpty()) return statsLore;
-
-        for (Map.Entry<ItemStat, StatRange> entry : stats.entrySet()) {
+    private static Section compileStats(MidgardItem item, FileConfiguration config, java.util.function.Predicate<ItemStat> filter) {
+        List<StatSlot> slots = new ArrayList<>();
+        for (Map.Entry<ItemStat, StatRange> entry : item.getStats().entrySet()) {
             if (entry.getValue().getMax() == 0 && entry.getValue().getMin() == 0) continue;
-            if (excludeElements && ELEMENTAL_STATS.contains(entry.getKey())) continue;
-
-            double val = -1;
-            if (statsOverride != null && statsOverride.containsKey(entry.getKey())) {
-                val = statsOverride.get(entry.getKey());
-            }
+            if (!filter.test(entry.getKey())) continue;
 
             String statKey = entry.getKey().name();
             String format = config.getString("settings.lore-format.stats." + statKey);
-            
+
             if (format == null) {
                 format = config.getString("settings.lore-format.stats.default", "<gray>■ {name}: <white>{value}");
             }
 
-            String valueStr = (val != -1) ? formatValue(val) : formatValue(entry.getValue());
-
             String line = format
                     .replace("{name}", entry.getKey().getName())
-                    .replace("{value}", valueStr);
+                    .replace("{value}", VALUE_SLOT);
 
-            statsLore.add(MessageUtils.parse(line));
+            slots.add(new StatSlot(entry.getKey(), MessageUtils.parse(line), formatValue(entry.getValue())));
         }
-        
-        return statsLore;
+        return new StatSection(slots);
     }
 
-    private static List<Component> formatElements(MidgardItem item, FileConfiguration config, Map<ItemStat, Double> statsOverride) {
-        List<Component> elementsLore = new ArrayList<>();
-        Map<ItemStat, StatRange> stats = item.getStats();
-
-        if (stats.isEmpty()) return elementsLore;
+    private static Section compileSockets(MidgardItem item, FileConfiguration config) {
+        // Fallback to item definition (all empty)
+        List<String> types = item.getGemSockets();
+        List<SocketEntry> defaults = new ArrayList<>();
+        if (types != null) {
+            for (String type : types) defaults.add(new SocketEntry(type, null));
+        }
 
-        for (Map.Entry<ItemStat, StatRange> entry : stats.entrySet()) {
-            if (entry.getValue().getMax() == 0 && entry.getValue().getMin() == 0) continue;
-            if (!ELEMENTAL_STATS.contains(entry.getKey())) continue;
+        String separator = config.getString("settings.lore-format.sockets.separator", "");
+        String emptyFormat = config.getString("settings.lore-format.sockets.empty", "<green>◆ Engaste de {type} Vazio");
+        String filledFormat = config.getString("settings.lore-format.sockets.filled", "<green>◆ {gem}");
 
-            double val = -1;
-            if (statsOverride != null && statsOverride.containsKey(entry.getKey())) {
-                val = statsOverride.get(entry.getKey());
-            }
+        return new SocketSection(
+                defaults,
+                separator.isEmpty() ? null : MessageUtils.parse(separator),
+                MessageUtils.parse(emptyFormat.replace("{type}", TYPE_SLOT)),
+                MessageUtils.parse(filledFormat.replace("{gem_name}", GEM_SLOT).replace("{gem}", GEM_SLOT).replace("{type}", TYPE_SLOT)));
+    }
 
-            String statKey = entry.getKey().name();
-            String format = config.getString("settings.lore-format.stats." + statKey);
-            
-            if (format == null) {
-                format = config.getString("settings.lore-format.stats.default", "<gray>■ {name}: <white>{value}");
-            }
+    private static Section compileAbilities(MidgardItem item, FileConfiguration config) {
+        List<Component> abilitiesLore = new ArrayList<>();
+        List<String> abilities = item.getItemAbilities();
 
-            String valueStr = (val != -1) ? formatValue(val) : formatValue(entry.getValue());
+        if (abilities == null || abilities.isEmpty()) return new FixedSection(abilitiesLore);
 
-            String line = format
-                    .replace("{name}", entry.getKey().getName())
-                    .replace("{value}", valueStr);
+        String separator = config.getString("settings.lore-format.abilities.separator", "");
+        if (!separator.isEmpty()) abilitiesLore.add(MessageUtils.parse(separator));
 
-            elementsLore.add(MessageUtils.parse(line));
+        for (String ability : abilities) {
+             // Placeholder for ability formatting
+             abilitiesLore.add(MessageUtils.parse("<red>" + ability));
         }
-        
-        return elementsLore;
+
+        return new FixedSection(abilitiesLore);
     }
 
     private static String formatValue(StatRange range) {
@@ -199,59 +230,91 @@ public class LoreFormatter {
         }
     }
 
-    private static List<Component> formatSockets(MidgardItem item, FileConfiguration config, SocketData socketData) {
-        List<Component> socketsLore = new ArrayList<>();
-        List<SocketEntry> sockets;
-        
-        if (socketData != null) {
-            sockets = socketData.getSockets();
-        } else {
-            // Fallback to item definition (all empty)
-            List<String> types = item.getGemSockets();
-            if (types == null || types.isEmpty()) return socketsLore;
-            sockets = new ArrayList<>();
-            for (String type : types) sockets.add(new SocketEntry(type, null));
-        }
-        
-        if (sockets.isEmpty()) return socketsLore;
+    /**
+     * Troca o marcador pelo texto, que herda o estilo do ponto onde o marcador estava.
+     */
+    private static Component fill(Component template, String slot, String value) {
+        return template.replaceText(builder -> builder.matchLiteral(slot).replacement(value));
+    }
 
-        String separator = config.getString("settings.lore-format.sockets.separator", "");
-        if (!separator.isEmpty()) socketsLore.add(MessageUtils.parse(separator));
+    // ============================================
+    // RENDERIZAÇÃO
+    // ============================================
 
-        String emptyFormat = config.getString("settings.lore-format.sockets.empty", "<green>◆ Engaste de {type} Vazio");
-        String filledFormat = config.getString("settings.lore-format.sockets.filled", "<green>◆ {gem}");
+    /**
+     * Lore de um item compilada em seções. Seções que renderizam vazias são
+     * omitidas; as demais são separadas por uma linha em branco.
+     */
+    private record CompiledLore(List<Section> sections, int version) {
+
+        List<Component> render(SocketData socketData, Map<ItemStat, Double> statsOverride) {
+            List<Component> lore = new ArrayList<>();
+            List<Component> sectionLore = new ArrayList<>();
+            for (Section section : sections) {
+                sectionLore.clear();
+                section.render(sectionLore, socketData, statsOverride);
 
-        for (SocketEntry entry : sockets) {
-            if (entry.isEmpty()) {
-                String line = emptyFormat.replace("{type}", entry.getType());
-                socketsLore.add(MessageUtils.parse(line));
-            } else {
-                String gemName = entry.getGemId(); 
-                MidgardItem gemItem = ItemModule.getInstance().getItemManager().getMidgardItem(entry.getGemId());
-                if (gemItem != null) gemName = gemItem.getDisplayName();
-                
-                String line = filledFormat.replace("{gem}", gemName).replace("{type}", entry.getType());
-                socketsLore.add(MessageUtils.parse(line));
+                if (!sectionLore.isEmpty()) {
+                    if (!lore.isEmpty()) {
+                        lore.add(Component.empty());
+                    }
+                    lore.addAll(sectionLore);
+                }
             }
+            return lore;
         }
-
-        return socketsLore;
     }
 
-    private static List<Component> formatAbilities(MidgardItem item, FileConfiguration config) {
-        List<Component> abilitiesLore = new ArrayList<>();
-        List<String> abilities = item.getItemAbilities();
-        
-        if (abilities == null || abilities.isEmpty()) return abilitiesLore;
+    private interface Section {
+        void render(List<Component> out, SocketData socketData, Map<ItemStat, Double> statsOverride);
+    }
 
-        String separator = config.getString("settings.lore-format.abilities.separator", "");
-        if (!separator.isEmpty()) abilitiesLore.add(MessageUtils.parse(separator));
+    private record FixedSection(List<Component> lines) implements Section {
+        @Override
+        public void render(List<Component> out, SocketData socketData, Map<ItemStat, Double> statsOverride) {
+            out.addAll(lines);
+        }
+    }
 
-        for (String ability : abilities) {
-             // Placeholder for ability formatting
-             abilitiesLore.add(MessageUtils.parse("<red>" + ability));
+    /**
+     * @param template Linha com {@link #VALUE_SLOT} no lugar do valor.
+     * @param rangeText Texto da faixa do template, usado quando o item não tem valor sorteado.
+     */
+    private record StatSlot(ItemStat stat, Component template, String rangeText) {}
+
+    private record StatSection(List<StatSlot> slots) implements Section {
+        @Override
+        public void render(List<Component> out, SocketData socketData, Map<ItemStat, Double> statsOverride) {
+            for (StatSlot slot : slots) {
+                Double value = statsOverride != null ? statsOverride.get(slot.stat()) : null;
+                out.add(fill(slot.template(), VALUE_SLOT, value != null ? formatValue(value) : slot.rangeText()));
+            }
         }
+    }
 
-        return abilitiesLore;
+    private record SocketSection(List<SocketEntry> defaults, Component separator,
+                                 Component empty, Component filled) implements Section {
+        @Override
+        public void render(List<Component> out, SocketData socketData, Map<ItemStat, Double> statsOverride) {
+            List<SocketEntry> sockets = socketData != null ? socketData.getSockets() : defaults;
+            if (sockets.isEmpty()) return;
+
+            if (separator != null) out.add(separator);
+
+            for (SocketEntry entry : sockets) {
+                if (entry.isEmpty()) {
+                    out.add(fill(empty, TYPE_SLOT, entry.getType()));
+                } else {
+                    MidgardItem gemItem = ItemModule.getInstance().getItemManager().getMidgardItem(entry.getGemId());
+                    // Nome da gema é MiniMessage; MessageUtils.parse usa o cache de componentes
+                    Component gemName = gemItem != null
+                            ? MessageUtils.parse(gemItem.getDisplayName())
+                            : Component.text(entry.getGemId());
+
+                    out.add(fill(filled.replaceText(builder -> builder.matchLiteral(GEM_SLOT).replacement(gemName)),
+                            TYPE_SLOT, entry.getType()));
+                }
+            }
+        }
     }
 }
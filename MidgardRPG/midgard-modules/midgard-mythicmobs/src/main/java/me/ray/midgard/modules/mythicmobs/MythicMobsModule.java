@@ -1,9 +1,15 @@
 package me.ray.midgard.modules.mythicmobs;
 
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import io.lumine.mythic.bukkit.MythicBukkit;
 import io.lumine.mythic.bukkit.events.MythicConditionLoadEvent;
 import io.lumine.mythic.bukkit.events.MythicDropLoadEvent;
 import io.lumine.mythic.bukkit.events.MythicMechanicLoadEvent;
+import io.lumine.mythic.bukkit.events.MythicMobSpawnEvent;
 import io.lumine.mythic.bukkit.events.MythicTargeterLoadEvent;
+import io.lumine.mythic.core.mobs.ActiveMob;
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.core.spatial.SpatialIndex;
 import me.ray.midgard.modules.mythicmobs.conditions.MidgardAttributeCondition;
 import me.ray.midgard.modules.mythicmobs.conditions.MidgardClassCondition;
 import me.ray.midgard.modules.mythicmobs.conditions.MidgardLevelCondition;
@@ -24,11 +30,61 @@ import me.ray.midgard.modules.mythicmobs.mechanics.MidgardPlayerAttributeMechani
 import me.ray.midgard.modules.mythicmobs.mechanics.MidgardShieldMechanic;
 import me.ray.midgard.modules.mythicmobs.mechanics.MidgardStaminaMechanic;
 import me.ray.midgard.modules.mythicmobs.targeters.MidgardClassTargeter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class MythicMobsModule implements Listener {
 
+    private final List<LivingEntity> pendingTrack = new ArrayList<>();
+
+    public MythicMobsModule() {
+        // Mobs já vivos quando o plugin habilita entram no índice espacial
+        SpatialIndex index = MidgardCore.getSpatialIndex();
+        if (index == null) return;
+        for (ActiveMob mob : MythicBukkit.inst().getMobManager().getActiveMobs()) {
+            if (mob.getEntity().getBukkitEntity() instanceof LivingEntity living) {
+                index.track(living);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onMobSpawn(MythicMobSpawnEvent event) {
+        SpatialIndex index = MidgardCore.getSpatialIndex();
+        if (index != null && event.getEntity() instanceof LivingEntity living) {
+            index.track(living);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAdd(EntityAddToWorldEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity living)) return;
+        // Mobs recarregados com o chunk: o MythicMobs registra o ActiveMob depois
+        // deste evento, então a verificação fica para o próximo tick, em lote
+        pendingTrack.add(living);
+        if (pendingTrack.size() == 1) {
+            Bukkit.getScheduler().runTask(MidgardCore.getPlugin(), this::trackPending);
+        }
+    }
+
+    private void trackPending() {
+        SpatialIndex index = MidgardCore.getSpatialIndex();
+        if (index != null) {
+            for (LivingEntity living : pendingTrack) {
+                if (living.isValid() && MythicBukkit.inst().getMobManager().isActiveMob(living.getUniqueId())) {
+                    index.track(living);
+                }
+            }
+        }
+        pendingTrack.clear();
+    }
+
     @EventHandler
     public void onMechanicLoad(MythicMechanicLoadEvent event) {
         try {
@@ -10,13 +10,13 @@ import io.lumine.mythic.bukkit.BukkitAdapter;
 import io.lumine.mythic.bukkit.MythicBukkit;
 import me.ray.midgard.core.MidgardCore;
 import me.ray.midgard.core.profile.MidgardProfile;
+import me.ray.midgard.core.spatial.SpatialIndex;
 import me.ray.midgard.modules.combat.CombatData;
+import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class MidgardLevelScaleMechanic implements ITargetedEntitySkill {
 
@@ -36,16 +36,15 @@ public class MidgardLevelScaleMechanic implements ITargetedEntitySkill {
     public SkillResult castAtEntity(SkillMetadata data, AbstractEntity target) {
         if (!MythicBukkit.inst().getMobManager().isActiveMob(target)) return SkillResult.INVALID_TARGET;
         
-        // Run on main thread because getNearbyEntities requires it
+        // Run on main thread because the spatial index is main-thread only
         org.bukkit.Bukkit.getScheduler().runTask(MidgardCore.getPlugin(), () -> {
             ActiveMob mob = MythicBukkit.inst().getMobManager().getActiveMob(target.getUniqueId()).orElse(null);
-            if (mob == null) return;
+            SpatialIndex index = MidgardCore.getSpatialIndex();
+            if (mob == null || index == null) return;
             
             Entity bukkitEntity = BukkitAdapter.adapt(target);
-            List<Player> players = bukkitEntity.getNearbyEntities(radius, radius, radius).stream()
-                    .filter(e -> e instanceof Player)
-                    .map(e -> (Player) e)
-                    .collect(Collectors.toList());
+            Location center = bukkitEntity.getLocation();
+            List<Player> players = index.getPlayersInBox(center, radius, radius, radius);
             
             if (players.isEmpty()) return;
             
@@ -66,36 +65,40 @@ public class MidgardLevelScaleMechanic implements ITargetedEntitySkill {
                     break;
                     
                 case "HIGHEST":
-                    targetLevel = players.stream()
-                            .mapToInt(this::getLevel)
-                            .max()
-                            .orElse(1);
+                    targetLevel = Integer.MIN_VALUE;
+                    for (Player p : players) targetLevel = Math.max(targetLevel, getLevel(p));
                     break;
                     
                 case "LOWEST":
-                    targetLevel = players.stream()
-                            .mapToInt(this::getLevel)
-                            .min()
-                            .orElse(1);
+                    targetLevel = Integer.MAX_VALUE;
+                    for (Player p : players) targetLevel = Math.min(targetLevel, getLevel(p));
                     break;
-                    
+
                 case "NEAREST":
-                    Player nearest = players.stream()
-                            .min(Comparator.comparingDouble(p -> p.getLocation().distanceSquared(bukkitEntity.getLocation())))
-                            .orElse(null);
-                    if (nearest != null) targetLevel = getLevel(nearest);
+                    double best = Double.MAX_VALUE;
+                    for (Player p : players) {
+                        double distance = p.getLocation().distanceSquared(center);
+                        if (distance < best) {
+                            best = distance;
+                            targetLevel = getLevel(p);
+                        }
+                    }
                     break;
             }
             
-            // Apply modifiers
-            int finalLevel = (int) ((targetLevel * multiplier) + add);
-            if (finalLevel < 1) finalLevel = 1;
-            
-            mob.setLevel(finalLevel);
+            applyLevel(mob, targetLevel);
         });
         
         return SkillResult.SUCCESS;
     }
+
+    private void applyLevel(ActiveMob mob, int targetLevel) {
+        // Apply modifiers
+        int finalLevel = (int) ((targetLevel * multiplier) + add);
+        if (finalLevel < 1) finalLevel = 1;
+        
+        mob.setLevel(finalLevel);
+    }
     
     private int getLevel(Player player) {
         MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
@@ -12,8 +12,10 @@ import me.ray.midgard.core.attribute.AttributeInstance;
 import me.ray.midgard.core.attribute.AttributeModifier;
 import me.ray.midgard.core.attribute.AttributeOperation;
 import me.ray.midgard.core.attribute.CoreAttributeData;
+import me.ray.midgard.core.attribute.StatUpdateScheduler;
 import me.ray.midgard.core.profile.MidgardProfile;
-import me.ray.midgard.modules.item.manager.AttributeUpdater;
+import me.ray.midgard.modules.combat.CombatManager;
+import me.ray.midgard.modules.combat.listener.StatScalingListener;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
@@ -72,13 +74,13 @@ public class MidgardPlayerAttributeMechanic implements ITargetedEntitySkill {
                 AttributeModifier modifier = new AttributeModifier(modId, modValue, AttributeOperation.ADD_NUMBER);
                 
                 instance.addModifier(modifier);
-                AttributeUpdater.updateAttributes(player);
+                refresh(player);
 
                 // Schedule Removal
                 Bukkit.getScheduler().runTaskLater(MidgardCore.getPlugin(), () -> {
                     if (player.isOnline()) {
                         instance.removeModifier(modifier);
-                        AttributeUpdater.updateAttributes(player);
+                        refresh(player);
                     }
                 }, durationTicks);
             }
@@ -97,9 +99,22 @@ public class MidgardPlayerAttributeMechanic implements ITargetedEntitySkill {
                     instance.setBaseValue(instance.getBaseValue() - value);
                     break;
             }
-            AttributeUpdater.updateAttributes(player);
+            refresh(player);
         }
         
         return SkillResult.SUCCESS;
     }
+
+    private static void refresh(Player player) {
+        // Atributo alterado diretamente: recalcula o escalonamento no fim do tick
+        StatUpdateScheduler scheduler = MidgardCore.getStatUpdateScheduler();
+        if (scheduler != null) {
+            scheduler.markDirty(player, StatUpdateScheduler.Phase.SCALING);
+        } else {
+            // Mesmo trabalho das fases SCALING e HEALTH, agora
+            StatScalingListener.updateStats(player);
+            CombatManager combatManager = CombatManager.getInstance();
+            if (combatManager != null) combatManager.refreshHealth(player);
+        }
+    }
 }
@@ -7,6 +7,7 @@ import io.lumine.mythic.api.skills.targeters.IEntityTargeter;
 import io.lumine.mythic.bukkit.BukkitAdapter;
 import me.ray.midgard.core.MidgardCore;
 import me.ray.midgard.core.profile.MidgardProfile;
+import me.ray.midgard.core.spatial.SpatialIndex;
 import me.ray.midgard.modules.classes.ClassData;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Entity;
@@ -29,16 +30,17 @@ public class MidgardClassTargeter implements IEntityTargeter {
     public Collection<AbstractEntity> getEntities(SkillMetadata data) {
         Set<AbstractEntity> targets = new HashSet<>();
         Entity caster = BukkitAdapter.adapt(data.getCaster().getEntity());
-        
-        for (Entity entity : caster.getNearbyEntities(radius, radius, radius)) {
-            if (entity instanceof Player player) {
-                MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
-                if (profile != null) {
-                    ClassData classData = profile.getOrCreateData(ClassData.class);
-                    if (classData.getClassName().equalsIgnoreCase(className)) {
-                        // Explicit cast to help compiler if needed
-                        targets.add(BukkitAdapter.adapt((Entity) player));
-                    }
+        SpatialIndex index = MidgardCore.getSpatialIndex();
+        if (index == null) return targets;
+
+        for (Player player : index.getPlayersInBox(caster.getLocation(), radius, radius, radius)) {
+            if (player == caster) continue;
+            MidgardProfile profile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
+            if (profile != null) {
+                ClassData classData = profile.getOrCreateData(ClassData.class);
+                if (classData.getClassName().equalsIgnoreCase(className)) {
+                    // Explicit cast to help compiler if needed
+                    targets.add(BukkitAdapter.adapt((Entity) player));
                 }
             }
         }
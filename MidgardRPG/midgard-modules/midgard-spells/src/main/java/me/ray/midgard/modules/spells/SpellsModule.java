@@ -5,11 +5,16 @@ import me.ray.midgard.core.command.BukkitCommandWrapper;
 import me.ray.midgard.core.utils.CommandRegisterUtils;
 import me.ray.midgard.modules.spells.command.SpellCommand;
 import me.ray.midgard.modules.spells.command.SkillsCommand;
+import me.ray.midgard.modules.spells.listener.MythicReloadListener;
 import me.ray.midgard.modules.spells.listener.SpellsListener;
 import me.ray.midgard.modules.spells.api.ResourceProvider;
+import me.ray.midgard.modules.spells.api.SpellDamageApplier;
+import me.ray.midgard.modules.spells.integration.CombatDamageApplier;
 import me.ray.midgard.modules.spells.integration.CombatModuleBridge;
 import me.ray.midgard.modules.spells.integration.DummyResourceProvider;
+import me.ray.midgard.modules.spells.integration.VanillaDamageApplier;
 import me.ray.midgard.modules.spells.manager.SpellManager;
+import me.ray.midgard.modules.spells.projectile.ProjectileEngine;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.YamlConfiguration;
 import java.io.File;
@@ -20,7 +25,10 @@ public class SpellsModule extends RPGModule {
 
     private SpellManager spellManager;
     private SpellsListener spellsListener;
+    private SkillBarTask skillBarTask;
     private ResourceProvider resourceProvider;
+    private SpellDamageApplier damageApplier;
+    private ProjectileEngine projectileEngine;
     private YamlConfiguration messagesConfig;
 
     public SpellsModule() {
@@ -32,6 +40,10 @@ public class SpellsModule extends RPGModule {
         loadMessages();
         
         setupResourceProvider();
+
+        // Projéteis nativos: uma única tarefa por tick para todos os casters
+        this.projectileEngine = new ProjectileEngine(damageApplier);
+        this.projectileEngine.runTaskTimer(getPlugin(), 1L, 1L);
         
         this.spellManager = new SpellManager(this);
         this.spellManager.loadSpells();
@@ -41,6 +53,7 @@ public class SpellsModule extends RPGModule {
         
         // Register MythicMobs Integration
         if (Bukkit.getPluginManager().isPluginEnabled("MythicMobs")) {
+            Bukkit.getPluginManager().registerEvents(new MythicReloadListener(this), getPlugin());
             getPlugin().getLogger().info("SpellsModule: MythicMobs integration enabled.");
         }
         
@@ -56,7 +69,8 @@ public class SpellsModule extends RPGModule {
         // Não precisam estar no /midgard - são comandos de jogador
         
         // Start SkillBar Task
-        new SkillBarTask(this).runTaskTimer(getPlugin(), 0L, 5L);
+        this.skillBarTask = new SkillBarTask(this);
+        this.skillBarTask.runTaskTimer(getPlugin(), 0L, SkillBarTask.PERIOD_TICKS);
         
         getPlugin().getLogger().info("SpellsModule enabled!");
     }
@@ -64,6 +78,15 @@ public class SpellsModule extends RPGModule {
     @Override
     public void onDisable() {
         // Cleanup if needed
+        if (projectileEngine != null) {
+            projectileEngine.cancel();
+            projectileEngine.clear();
+            projectileEngine = null;
+        }
+        if (skillBarTask != null) {
+            skillBarTask.cancel();
+            skillBarTask = null;
+        }
         this.spellManager = null;
     }
 
@@ -80,13 +103,16 @@ public class SpellsModule extends RPGModule {
             try {
                 Class.forName("me.ray.midgard.modules.combat.CombatData");
                 this.resourceProvider = new CombatModuleBridge();
+                this.damageApplier = new CombatDamageApplier();
                 me.ray.midgard.core.debug.MidgardLogger.info("SpellsModule: Hooked into Midgard-Combat for resources.");
             } catch (ClassNotFoundException e) {
                 this.resourceProvider = new DummyResourceProvider();
+                this.damageApplier = new VanillaDamageApplier();
                 me.ray.midgard.core.debug.MidgardLogger.warn("SpellsModule: Combat module loaded but CombatData class not found. Using dummy resources.");
             }
         } else {
             this.resourceProvider = new DummyResourceProvider();
+            this.damageApplier = new VanillaDamageApplier();
         }
     }
 
@@ -94,6 +120,18 @@ public class SpellsModule extends RPGModule {
         return resourceProvider;
     }
 
+    public SpellDamageApplier getDamageApplier() {
+        return damageApplier;
+    }
+
+    public ProjectileEngine getProjectileEngine() {
+        return projectileEngine;
+    }
+
+    public SkillBarTask getSkillBarTask() {
+        return skillBarTask;
+    }
+
     public SpellManager getSpellManager() {
         return spellManager;
     }
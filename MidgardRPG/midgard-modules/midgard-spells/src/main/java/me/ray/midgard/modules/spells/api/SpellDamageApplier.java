@@ -0,0 +1,10 @@
+package me.ray.midgard.modules.spells.api;
+
+import org.bukkit.entity.LivingEntity;
+
+/**
+ * Aplica o dano de spells nativas (projéteis/hitscan) em um alvo.
+ */
+public interface SpellDamageApplier {
+    void damage(LivingEntity caster, LivingEntity target, double amount, String type, String element);
+}
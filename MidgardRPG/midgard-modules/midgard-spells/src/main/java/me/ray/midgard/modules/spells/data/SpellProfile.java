@@ -1,5 +1,7 @@
 package me.ray.midgard.modules.spells.data;
 
+import me.ray.midgard.core.cooldown.CooldownRegistry;
+import me.ray.midgard.core.cooldown.PlayerCooldowns;
 import me.ray.midgard.core.profile.ModuleData;
 import java.util.HashMap;
 import java.util.Map;
@@ -14,9 +16,13 @@ public class SpellProfile implements ModuleData {
     // Combo Mapping: Slot (1-6) -> ComboBinding
     private final Map<Integer, ComboBinding> comboSlots = new HashMap<>();
     
-    // Cooldowns: Spell ID -> Expiration Timestamp (System.currentTimeMillis)
+    // Legado: Spell ID -> Expiration Timestamp (System.currentTimeMillis).
+    // Migrado para o PlayerCooldowns do perfil em bindCooldowns(); só é usado sem store.
     private final Map<String, Long> cooldowns = new HashMap<>();
 
+    // Store compartilhado (perfil do jogador); ligado por SpellManager.getProfile
+    private transient PlayerCooldowns cooldownStore;
+
 
     // Spells Desbloqueados
     private final java.util.Set<String> unlockedSpells = new java.util.HashSet<>();
@@ -97,17 +103,62 @@ public class SpellProfile implements ModuleData {
         }
     }
 
+    /**
+     * Chave interna do cooldown de uma spell.
+     */
+    public static String cooldownKey(String spellId) {
+        return "spell:" + spellId;
+    }
+
+    /**
+     * Liga o store de cooldowns compartilhado e migra os cooldowns legados.
+     */
+    public void bindCooldowns(PlayerCooldowns store) {
+        if (cooldownStore == store) return;
+        this.cooldownStore = store;
+        if (!cooldowns.isEmpty()) {
+            for (Map.Entry<String, Long> entry : cooldowns.entrySet()) {
+                store.setExpiryMillis(CooldownRegistry.intern(cooldownKey(entry.getKey()), true), entry.getValue());
+            }
+            cooldowns.clear();
+        }
+    }
+
+    /**
+     * Verificação do caminho quente: ID pré-resolvido ({@code Spell#getCooldownId()}).
+     */
+    public boolean isOnCooldown(int cooldownId) {
+        return cooldownStore != null && cooldownStore.isActive(cooldownId);
+    }
+
+    public int getCooldownRemainingTicks(int cooldownId) {
+        return cooldownStore != null ? cooldownStore.getRemainingTicks(cooldownId) : 0;
+    }
+
+    public void setCooldown(int cooldownId, double seconds) {
+        if (cooldownStore != null) cooldownStore.set(cooldownId, PlayerCooldowns.toTicks(seconds));
+    }
+
     public boolean isOnCooldown(String spellId) {
-        return cooldowns.containsKey(spellId) && cooldowns.get(spellId) > System.currentTimeMillis();
+        if (cooldownStore == null) {
+            return cooldowns.containsKey(spellId) && cooldowns.get(spellId) > System.currentTimeMillis();
+        }
+        int id = CooldownRegistry.find(cooldownKey(spellId));
+        return id >= 0 && cooldownStore.isActive(id);
     }
     
     public long getCooldownRemainingKey(String spellId) {
         if (!isOnCooldown(spellId)) return 0;
-        return cooldowns.get(spellId) - System.currentTimeMillis();
+        if (cooldownStore == null) return cooldowns.get(spellId) - System.currentTimeMillis();
+        return cooldownStore.getRemainingMillis(CooldownRegistry.find(cooldownKey(spellId)));
     }
     
     public void setCooldown(String spellId, double seconds) {
-        cooldowns.put(spellId, System.currentTimeMillis() + (long)(seconds * 1000L));
+        if (cooldownStore == null) {
+            cooldowns.put(spellId, System.currentTimeMillis() + (long)(seconds * 1000L));
+            return;
+        }
+        setCooldown(CooldownRegistry.intern(cooldownKey(spellId), true), seconds);
     }
 
     public java.util.Set<String> getUnlockedSpells() {
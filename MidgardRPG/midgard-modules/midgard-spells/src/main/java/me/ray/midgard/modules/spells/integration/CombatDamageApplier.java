@@ -0,0 +1,32 @@
+package me.ray.midgard.modules.spells.integration;
+
+import me.ray.midgard.modules.combat.DamageOverrideContext;
+import me.ray.midgard.modules.spells.api.SpellDamageApplier;
+import org.bukkit.entity.LivingEntity;
+
+/**
+ * Encaminha o dano das spells para o DamageHandler do Midgard-Combat, do mesmo
+ * jeito que a mecânica midgardDamage do MythicMobs: o tipo, elemento e valor vão
+ * pelo {@link DamageOverrideContext} e o dano é disparado pelo Bukkit.
+ */
+public class CombatDamageApplier implements SpellDamageApplier {
+
+    @Override
+    public void damage(LivingEntity caster, LivingEntity target, double amount, String type, String element) {
+        if (element != null) {
+            DamageOverrideContext.setForcedElement(target, element);
+        }
+        if (type != null) {
+            DamageOverrideContext.setForcedType(target, type);
+        }
+        DamageOverrideContext.setForcedDamage(target, amount);
+
+        try {
+            target.setNoDamageTicks(0);
+            target.setLastDamage(0);
+            target.damage(amount, caster);
+        } finally {
+            DamageOverrideContext.clear(target);
+        }
+    }
+}
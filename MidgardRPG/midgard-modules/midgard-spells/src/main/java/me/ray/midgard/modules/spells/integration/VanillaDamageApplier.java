@@ -0,0 +1,16 @@
+package me.ray.midgard.modules.spells.integration;
+
+import me.ray.midgard.modules.spells.api.SpellDamageApplier;
+import org.bukkit.entity.LivingEntity;
+
+/**
+ * Dano vanilla, usado quando o Midgard-Combat não está carregado.
+ */
+public class VanillaDamageApplier implements SpellDamageApplier {
+
+    @Override
+    public void damage(LivingEntity caster, LivingEntity target, double amount, String type, String element) {
+        target.setNoDamageTicks(0);
+        target.damage(amount, caster);
+    }
+}
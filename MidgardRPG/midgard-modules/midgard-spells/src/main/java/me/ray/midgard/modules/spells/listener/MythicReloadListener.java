@@ -0,0 +1,25 @@
+package me.ray.midgard.modules.spells.listener;
+
+import io.lumine.mythic.bukkit.events.MythicReloadedEvent;
+import me.ray.midgard.modules.spells.SpellsModule;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+
+/**
+ * Re-resolve os handles de skill das spells quando o MythicMobs recarrega.
+ */
+public class MythicReloadListener implements Listener {
+
+    private final SpellsModule module;
+
+    public MythicReloadListener(SpellsModule module) {
+        this.module = module;
+    }
+
+    @EventHandler
+    public void onMythicReload(MythicReloadedEvent event) {
+        if (module.getSpellManager() != null) {
+            module.getSpellManager().resolveSkills();
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package me.ray.midgard.modules.spells.listener;
 
+import me.ray.midgard.core.text.ActionBarOverride;
 import me.ray.midgard.core.text.MessageUtils;
 import me.ray.midgard.modules.spells.SpellsModule;
 import me.ray.midgard.modules.spells.data.SpellProfile;
+import me.ray.midgard.modules.spells.manager.ComboTrie;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
@@ -18,15 +21,17 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
-import org.bukkit.metadata.FixedMetadataValue;
-
 public class SpellsListener implements Listener {
 
     private final SpellsModule module;
-    private final Map<UUID, StringBuilder> comboBuffer = new HashMap<>();
-    private final Map<UUID, Integer> comboTasks = new HashMap<>();
-    private final Map<UUID, Long> lastClick = new HashMap<>();
-    private static final String COMBO_META = "midgard_combo_active";
+    private final Map<UUID, ComboState> combos = new HashMap<>();
+
+    // Ticks sem clique até o combo expirar (1.5s)
+    private static final int COMBO_TIMEOUT_TICKS = 30;
+    // Debounce para evitar duplo clique (Main Hand + Off Hand), ~100ms
+    private static final int COMBO_DEBOUNCE_TICKS = 2;
+    // Tempo exibindo "Combo Falhou" antes do overlay voltar
+    private static final int COMBO_FAIL_HOLD_TICKS = 20;
 
     public SpellsListener(SpellsModule module) {
         this.module = module;
@@ -35,10 +40,8 @@ public class SpellsListener implements Listener {
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
-        comboBuffer.remove(player.getUniqueId());
-        comboTasks.remove(player.getUniqueId());
-        lastClick.remove(player.getUniqueId());
-        player.removeMetadata(COMBO_META, module.getPlugin());
+        combos.remove(player.getUniqueId());
+        ActionBarOverride.release(player);
         module.getSpellManager().disableCastingMode(player);
     }
     
@@ -95,86 +98,103 @@ public class SpellsListener implements Listener {
         if (profile == null || profile.getCastingStyle() != SpellProfile.CastingStyle.COMBO) {
             return; 
         }
-        
-        // Debounce para evitar duplo clique (Main Hand + Off Hand)
-        long now = System.currentTimeMillis();
-        long last = lastClick.getOrDefault(player.getUniqueId(), 0L);
-        if (now - last < 100) return; // 100ms debounce
-        lastClick.put(player.getUniqueId(), now);
-
-        String clickType = (action == Action.LEFT_CLICK_AIR || action == Action.LEFT_CLICK_BLOCK) ? "L" : "R";
 
-        updateCombo(player, clickType);
+        int input = (action == Action.LEFT_CLICK_AIR || action == Action.LEFT_CLICK_BLOCK) ? ComboTrie.LEFT : ComboTrie.RIGHT;
+        updateCombo(player, profile, input);
     }
 
-    private void updateCombo(Player player, String click) {
-        UUID uuid = player.getUniqueId();
-        
-        // Cancel existing clear task
-        if (comboTasks.containsKey(uuid)) {
-            Bukkit.getScheduler().cancelTask(comboTasks.get(uuid));
-        }
+    private void updateCombo(Player player, SpellProfile profile, int input) {
+        ComboTrie trie = module.getSpellManager().getComboTrie();
+        int now = Bukkit.getCurrentTick();
 
-        StringBuilder builder = comboBuffer.computeIfAbsent(uuid, k -> new StringBuilder());
-        builder.append(click);
-        
-        // Set metadata to block CombatOverlay
-        if (!player.hasMetadata(COMBO_META)) {
-            player.setMetadata(COMBO_META, new FixedMetadataValue(module.getPlugin(), true));
+        ComboState state = combos.computeIfAbsent(player.getUniqueId(), k -> new ComboState());
+        if (now - state.lastInputTick < COMBO_DEBOUNCE_TICKS) return;
+
+        // Timeout checado de forma preguiçosa: o combo anterior expirou sem novos cliques
+        if (state.trie != trie || now - state.lastInputTick > COMBO_TIMEOUT_TICKS) {
+            state.reset(trie);
         }
-        
+        state.lastInputTick = now;
+        state.advance(trie, input);
+
+        // Segura a action bar (CombatOverlay) enquanto o combo está aberto
+        ActionBarOverride.hold(player, COMBO_TIMEOUT_TICKS);
+
         // Visual Feedback
-        String visualCombo = builder.toString()
-                .replace("L", "<yellow>L</yellow>")
-                .replace("R", "<btn:red>R</btn:red>"); // Assuming btn tag isn't real, just using simple colors
-        
-        // Let's use standard naming: L (Left), R (Right)
-        String display = builder.toString()
-                .replace("L", "<bold><gradient:#3498db:#2980b9>E</gradient></bold>") // Esquerdo
-                .replace("R", "<bold><gradient:#e74c3c:#c0392b>D</gradient></bold>"); // Direito
-        
-        MessageUtils.sendActionBar(player, "<gray>Combo: " + display);
-        player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 0.5f, click.equals("L") ? 1.5f : 1.0f);
+        player.sendActionBar(state.node != ComboTrie.NONE ? trie.displayAt(state.node) : ComboTrie.render(state.sequence()));
+        player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 0.5f, input == ComboTrie.LEFT ? 1.5f : 1.0f);
 
-        // Check if valid combo exists
-        String currentCombo = builder.toString();
-        
-        // 1. Check Profile Bindings (Personal overrides)
-        SpellProfile profile = module.getSpellManager().getProfile(player);
-        String spellId = (profile != null) ? profile.getSpellByCombo(currentCombo) : null;
-        
+        String spellId = resolveSpell(trie, state, profile);
         if (spellId != null) {
             // Found a match!
             boolean casted = module.getSpellManager().castSpell(player, spellId);
             if (casted) {
                 player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 2.0f);
             }
-            builder.setLength(0); // Reset after cast attempt
-            player.removeMetadata(COMBO_META, module.getPlugin()); // Release lock immediately on success
-            MessageUtils.sendActionBar(player, ""); // Clear action bar
-        } else {
-            // No exact match yet, but limit length
-            if (currentCombo.length() >= 3) { // Max combo size 3
-                builder.setLength(0);
-                MessageUtils.sendActionBar(player, "<red>Combo Falhou");
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 0.5f);
-                
-                // Clear metadata after short delay to show "Failed" message? 
-                // Actually better to clear immediately or after a tiny delay so overlay comes back
-                Bukkit.getScheduler().runTaskLater(module.getPlugin(), () -> {
-                     player.removeMetadata(COMBO_META, module.getPlugin());
-                }, 20L); // Show failure for 1s
-                
-            } else {
-                // Schedule clear
-                int taskId = Bukkit.getScheduler().scheduleSyncDelayedTask(module.getPlugin(), () -> {
-                    comboBuffer.remove(uuid);
-                    player.removeMetadata(COMBO_META, module.getPlugin()); // Release lock on timeout
-                    MessageUtils.sendActionBar(player, "");
-                }, 30L); // 1.5 seconds to finish combo
-                comboTasks.put(uuid, taskId);
+            state.reset(trie); // Reset after cast attempt
+            ActionBarOverride.release(player); // Release lock immediately on success
+            player.sendActionBar(Component.empty()); // Clear action bar
+            if (module.getSkillBarTask() != null) module.getSkillBarTask().refresh(player);
+        } else if (state.length >= trie.getMaxLength() || (state.node != ComboTrie.NONE && trie.isLeaf(state.node))) {
+            // Nenhum combo continua por aqui
+            state.reset(trie);
+            MessageUtils.sendActionBar(player, "<red>Combo Falhou");
+            player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 0.5f);
+            ActionBarOverride.hold(player, COMBO_FAIL_HOLD_TICKS); // Show failure for 1s
+        }
+    }
+
+    /**
+     * Resolve a spell do combo atual. No caminho da trie usa o slot terminado pelo nó;
+     * nós sem slot e sequências personalizadas (fora da trie, via /spell combo) caem
+     * na busca do perfil.
+     */
+    private String resolveSpell(ComboTrie trie, ComboState state, SpellProfile profile) {
+        if (state.node != ComboTrie.NONE) {
+            int slot = trie.slotAt(state.node);
+            if (slot != 0) {
+                SpellProfile.ComboBinding binding = profile.getComboSlot(slot);
+                if (binding != null && binding.getSpellId() != null
+                        && trie.sequenceAt(state.node).equalsIgnoreCase(binding.getSequence())) {
+                    return binding.getSpellId();
+                }
             }
+            return profile.getSpellByCombo(trie.sequenceAt(state.node));
         }
+        return profile.getSpellByCombo(state.sequence());
     }
 
+    /**
+     * Estado de combo de um jogador: nó atual na trie e os cliques feitos (bits).
+     */
+    private static final class ComboState {
+        ComboTrie trie;
+        int node = ComboTrie.ROOT;
+        int bits;
+        int length;
+        int lastInputTick = Integer.MIN_VALUE / 2;
+
+        void reset(ComboTrie trie) {
+            this.trie = trie;
+            this.node = ComboTrie.ROOT;
+            this.bits = 0;
+            this.length = 0;
+        }
+
+        void advance(ComboTrie trie, int input) {
+            if (node != ComboTrie.NONE) node = trie.next(node, input);
+            if (length < Integer.SIZE - 1) {
+                bits |= input << length;
+                length++;
+            }
+        }
+
+        String sequence() {
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.append(((bits >> i) & 1) == ComboTrie.LEFT ? 'L' : 'R');
+            }
+            return sb.toString();
+        }
+    }
 }
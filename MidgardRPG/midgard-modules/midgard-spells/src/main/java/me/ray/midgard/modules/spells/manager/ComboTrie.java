@@ -0,0 +1,138 @@
+package me.ray.midgard.modules.spells.manager;
+
+import me.ray.midgard.core.debug.MidgardLogger;
+import me.ray.midgard.core.text.MessageUtils;
+import net.kyori.adventure.text.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trie binária (L/R) das sequências de combo configuradas.
+ * <p>
+ * Cada nó é um índice; avançar com um clique é uma leitura de array. Os nós
+ * guardam o slot de combo que terminam (se houver), a sequência percorrida e o
+ * texto de feedback já compilado, então o listener não monta strings por clique.
+ */
+public final class ComboTrie {
+
+    public static final int ROOT = 0;
+    public static final int LEFT = 0;
+    public static final int RIGHT = 1;
+    public static final int NONE = -1;
+
+    private static final String LEFT_DISPLAY = "<bold><gradient:#3498db:#2980b9>E</gradient></bold>"; // Esquerdo
+    private static final String RIGHT_DISPLAY = "<bold><gradient:#e74c3c:#c0392b>D</gradient></bold>"; // Direito
+
+    private final int[] children; // node * 2 + input -> child node or NONE
+    private final int[] slots;    // node -> combo slot ending here, or 0
+    private final String[] sequences;
+    private final Component[] displays;
+    private final int maxLength;
+
+    private ComboTrie(int[] children, int[] slots, String[] sequences, Component[] displays, int maxLength) {
+        this.children = children;
+        this.slots = slots;
+        this.sequences = sequences;
+        this.displays = displays;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Constrói a trie a partir do mapa slot -> sequência (ex.: 1 -> "LLR").
+     */
+    public static ComboTrie build(Map<Integer, String> combos) {
+        List<int[]> nodeChildren = new ArrayList<>();
+        List<Integer> nodeSlots = new ArrayList<>();
+        List<String> nodeSequences = new ArrayList<>();
+        nodeChildren.add(new int[]{NONE, NONE});
+        nodeSlots.add(0);
+        nodeSequences.add("");
+        int maxLength = 0;
+
+        for (Map.Entry<Integer, String> entry : combos.entrySet()) {
+            String sequence = entry.getValue().toUpperCase();
+            if (sequence.isEmpty() || !sequence.chars().allMatch(c -> c == 'L' || c == 'R')) {
+                MidgardLogger.warn("Combo inválido para o slot %d: '%s' (use apenas L e R)", entry.getKey(), entry.getValue());
+                continue;
+            }
+
+            int node = ROOT;
+            for (int i = 0; i < sequence.length(); i++) {
+                int input = sequence.charAt(i) == 'L' ? LEFT : RIGHT;
+                int child = nodeChildren.get(node)[input];
+                if (child == NONE) {
+                    child = nodeChildren.size();
+                    nodeChildren.add(new int[]{NONE, NONE});
+                    nodeSlots.add(0);
+                    nodeSequences.add(sequence.substring(0, i + 1));
+                    nodeChildren.get(node)[input] = child;
+                }
+                node = child;
+            }
+
+            if (nodeSlots.get(node) != 0) {
+                MidgardLogger.warn("Combo '%s' usado pelos slots %d e %d; mantendo o primeiro.", sequence, nodeSlots.get(node), entry.getKey());
+            } else {
+                nodeSlots.set(node, entry.getKey());
+            }
+            maxLength = Math.max(maxLength, sequence.length());
+        }
+
+        int size = nodeChildren.size();
+        int[] children = new int[size * 2];
+        int[] slots = new int[size];
+        String[] sequences = nodeSequences.toArray(new String[0]);
+        Component[] displays = new Component[size];
+        for (int node = 0; node < size; node++) {
+            children[node * 2] = nodeChildren.get(node)[LEFT];
+            children[node * 2 + 1] = nodeChildren.get(node)[RIGHT];
+            slots[node] = nodeSlots.get(node);
+            displays[node] = render(sequences[node]);
+        }
+        return new ComboTrie(children, slots, sequences, displays, maxLength);
+    }
+
+    /**
+     * Compila o feedback "Combo: ..." de uma sequência L/R.
+     */
+    public static Component render(String sequence) {
+        return MessageUtils.parse("<gray>Combo: " + sequence
+                .replace("L", LEFT_DISPLAY)
+                .replace("R", RIGHT_DISPLAY));
+    }
+
+    /**
+     * @return Nó após o clique, ou {@link #NONE} se nenhum combo continua por ele.
+     */
+    public int next(int node, int input) {
+        return children[node * 2 + input];
+    }
+
+    /**
+     * @return Slot de combo que termina neste nó, ou 0.
+     */
+    public int slotAt(int node) {
+        return slots[node];
+    }
+
+    public boolean isLeaf(int node) {
+        return children[node * 2] == NONE && children[node * 2 + 1] == NONE;
+    }
+
+    public String sequenceAt(int node) {
+        return sequences[node];
+    }
+
+    /**
+     * @return Feedback "Combo: ..." pré-compilado do nó.
+     */
+    public Component displayAt(int node) {
+        return displays[node];
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+}
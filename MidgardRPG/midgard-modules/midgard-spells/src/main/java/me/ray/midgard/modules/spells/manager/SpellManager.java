@@ -1,14 +1,25 @@
 package me.ray.midgard.modules.spells.manager;
 
 import io.lumine.mythic.api.MythicProvider;
+import io.lumine.mythic.api.adapters.AbstractEntity;
 import io.lumine.mythic.api.skills.Skill;
+import io.lumine.mythic.api.skills.SkillCaster;
+import io.lumine.mythic.api.skills.SkillMetadata;
+import io.lumine.mythic.bukkit.BukkitAdapter;
 import io.lumine.mythic.bukkit.MythicBukkit;
+import io.lumine.mythic.core.skills.SkillMetadataImpl;
+import io.lumine.mythic.core.skills.SkillTriggers;
+import me.ray.midgard.core.cooldown.PlayerCooldowns;
+import me.ray.midgard.core.debug.DebugCategory;
 import me.ray.midgard.core.debug.MidgardLogger;
 import me.ray.midgard.core.profile.MidgardProfile;
 import me.ray.midgard.core.MidgardCore;
 import me.ray.midgard.modules.spells.SpellsModule;
 import me.ray.midgard.modules.spells.data.SpellProfile;
+import me.ray.midgard.modules.spells.obj.CastResult;
 import me.ray.midgard.modules.spells.obj.Spell;
+import me.ray.midgard.modules.spells.projectile.ProjectileSpec;
+import org.bukkit.Location;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
@@ -26,6 +37,7 @@ public class SpellManager {
     private final Map<UUID, Integer> castingAnchors = new HashMap<>();
 
     private final Map<Integer, String> defaultCombos = new HashMap<>();
+    private ComboTrie comboTrie;
 
     public SpellManager(SpellsModule module) {
         this.module = module;
@@ -56,12 +68,18 @@ public class SpellManager {
                 }
             }
         }
+
+        this.comboTrie = ComboTrie.build(defaultCombos);
     }
     
     public String getDefaultCombo(int slot) {
         return defaultCombos.getOrDefault(slot, "Undefined");
     }
 
+    public ComboTrie getComboTrie() {
+        return comboTrie;
+    }
+
     public SpellsModule getModule() {
         return module;
     }
@@ -181,10 +199,43 @@ public class SpellManager {
             double stamina = config.getDouble("stamina");
             List<String> lore = config.getStringList("lore");
             Spell spell = new Spell(id, mythicSkill, name, lore, cooldown, mana, stamina);
+            ConfigurationSection projectile = config.getConfigurationSection("projectile");
+            if (projectile != null) {
+                spell.setProjectile(ProjectileSpec.fromConfig(id, projectile));
+            }
             loadedSpells.put(id, spell);
         }
         
         MidgardLogger.info("Loaded " + loadedSpells.size() + " spells from " + spellsFolder.getPath());
+        resolveSkills();
+    }
+
+    /**
+     * Resolve o handle da skill do MythicMobs de cada spell. Chamado no load e
+     * quando o MythicMobs recarrega, para que o cast não consulte o SkillManager.
+     */
+    public void resolveSkills() {
+        int missing = 0;
+        for (Spell spell : loadedSpells.values()) {
+            if (spell.isNative()) continue;
+            String skillName = spell.getMythicSkillName();
+            Skill skill = null;
+            if (skillName != null) {
+                try {
+                    skill = MythicProvider.get().getSkillManager().getSkill(skillName).orElse(null);
+                } catch (Throwable e) {
+                    // MythicMobs not loaded yet; resolved again on MythicReloadedEvent
+                }
+            }
+            spell.setMythicSkill(skill);
+            if (skill == null) {
+                missing++;
+                MidgardLogger.debug(DebugCategory.SPELLS, "Skill MythicMobs '%s' da spell %s não encontrada.", (Object) skillName, spell.getId());
+            }
+        }
+        if (missing > 0) {
+            MidgardLogger.warn("%d spell(s) com skill MythicMobs não resolvida.", missing);
+        }
     }
 
     private void createDefaultSpell(File folder, String fileName) {
@@ -214,59 +265,114 @@ public class SpellManager {
     public SpellProfile getProfile(Player player) {
         MidgardProfile coreProfile = MidgardCore.getProfileManager().getProfile(player.getUniqueId());
         if (coreProfile == null) return null; 
-        return coreProfile.getOrCreateData(SpellProfile.class);
+        SpellProfile profile = coreProfile.getOrCreateData(SpellProfile.class);
+        profile.bindCooldowns(coreProfile.getOrCreateData(PlayerCooldowns.class));
+        return profile;
     }
 
-    public boolean castSpell(Player player, String spellId) {
+    /**
+     * Tenta lançar uma spell, sem enviar mensagens.
+     * Ordem das verificações: cooldown, skill resolvida, skill utilizável pelo
+     * caster e por último mana. Uma skill que não pode ser usada retorna
+     * {@link CastResult#CAST_FAILED} antes de cobrar mana ou iniciar o cooldown.
+     *
+     * @return Código do resultado.
+     */
+    public CastResult tryCast(Player player, String spellId) {
         Spell spell = getSpell(spellId);
-        if (spell == null) return false;
+        if (spell == null) return CastResult.UNKNOWN_SPELL;
 
         SpellProfile profile = getProfile(player);
-        if (profile == null) return false;
-        
-        if (profile.isOnCooldown(spellId)) {
-            long remaining = profile.getCooldownRemainingKey(spellId) / 1000;
-            String cooldownMsg = module.getMessage("casting.on_cooldown")
-                .replace("%spell%", spell.getDisplayName())
-                .replace("%time%", String.valueOf(remaining));
-            me.ray.midgard.core.text.MessageUtils.send(player, cooldownMsg);
-            return false;
+        if (profile == null) return CastResult.NO_PROFILE;
+
+        if (profile.isOnCooldown(spell.getCooldownId())) return CastResult.ON_COOLDOWN;
+        if (!spell.isNative() && !spell.isSkillResolved()) return CastResult.SKILL_NOT_FOUND;
+
+        SkillMetadata data = null;
+        if (!spell.isNative()) {
+            data = prepareMythicCast(player, spell.getMythicSkill());
+            if (data == null) return CastResult.CAST_FAILED;
         }
 
         // Check Mana/Stamina
-        if (!module.getResourceProvider().consumeMana(player, spell.getManaCost())) {
-             me.ray.midgard.core.text.MessageUtils.send(player, module.getMessage("casting.no_mana"));
-             return false;
+        if (!module.getResourceProvider().consumeMana(player, spell.getManaCost())) return CastResult.NO_MANA;
+
+        // Cast
+        if (spell.isNative()) {
+            Location eye = player.getEyeLocation();
+            module.getProjectileEngine().launch(player, spell.getProjectile(), eye, eye.getDirection());
+        } else if (!executeMythicSkill(player, spell.getMythicSkill(), data)) {
+            return CastResult.CAST_FAILED;
         }
+        profile.setCooldown(spell.getCooldownId(), spell.getCooldown());
+        return CastResult.SUCCESS;
+    }
 
-        String skillName = spell.getMythicSkillName();
-        
-        // Validate Skill
-        Optional<Skill> mythicSkill = MythicProvider.get().getSkillManager().getSkill(skillName);
-        if (mythicSkill.isEmpty()) {
-            String errorMsg = module.getMessage("errors.config_error")
-                .replace("%skill%", skillName);
-            me.ray.midgard.core.text.MessageUtils.send(player, errorMsg);
+    /**
+     * Monta a metadata do cast com o jogador como caster, gatilho e origem
+     * (a mesma de {@code APIHelper.castSkill}, sem buscar a skill pelo nome)
+     * e verifica se a skill pode ser usada agora.
+     *
+     * @return Metadata pronta, ou null se a skill não é utilizável.
+     */
+    private SkillMetadata prepareMythicCast(Player player, Skill skill) {
+        try {
+            AbstractEntity caster = BukkitAdapter.adapt(player);
+            SkillCaster skillCaster = MythicBukkit.inst().getSkillManager().getCaster(caster);
+            SkillMetadata data = new SkillMetadataImpl(SkillTriggers.API, skillCaster, caster,
+                    BukkitAdapter.adapt(player.getLocation()), null, null, 1.0f);
+            return skill.isUsable(data) ? data : null;
+        } catch (Exception e) {
+            MidgardLogger.error("Erro ao preparar skill MythicMobs " + skill.getInternalName() + " para " + player.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Executa a skill já resolvida com a metadata de {@link #prepareMythicCast}.
+     */
+    private boolean executeMythicSkill(Player player, Skill skill, SkillMetadata data) {
+        try {
+            skill.execute(data);
+            return true;
+        } catch (Exception e) {
+            MidgardLogger.error("Erro ao lançar skill MythicMobs " + skill.getInternalName() + " para " + player.getName(), e);
             return false;
         }
+    }
 
-        // Cast
-        boolean success = MythicBukkit.inst().getAPIHelper().castSkill(player, skillName);
-        if (success) {
-            profile.setCooldown(spellId, spell.getCooldown());
-            if (module.getConfig().getBoolean("general.show_cast_messages", true)) {
-                String castMsg = module.getMessage("casting.spell_cast")
-                    .replace("%spell%", spell.getDisplayName());
-                me.ray.midgard.core.text.MessageUtils.send(player, castMsg);
+    public boolean castSpell(Player player, String spellId) {
+        CastResult result = tryCast(player, spellId);
+        Spell spell = getSpell(spellId);
+
+        switch (result) {
+            case SUCCESS -> {
+                if (module.getConfig().getBoolean("general.show_cast_messages", true)) {
+                    send(player, "casting.spell_cast", "%spell%", spell.getDisplayName());
+                }
+            }
+            case ON_COOLDOWN -> {
+                long remaining = getProfile(player).getCooldownRemainingTicks(spell.getCooldownId()) / 20;
+                send(player, "casting.on_cooldown", "%spell%", spell.getDisplayName(), "%time%", String.valueOf(remaining));
+            }
+            case NO_MANA -> send(player, "casting.no_mana");
+            case SKILL_NOT_FOUND -> send(player, "errors.config_error", "%skill%", spell.getMythicSkillName());
+            default -> {
+                // UNKNOWN_SPELL, NO_PROFILE, CAST_FAILED: silencioso, como antes
             }
         }
-        
-        // Cleanup? 
-        // Usually fine to leave variables as they are scoped to "last cast state" or overwrite next time.
-        // If we want to be safe, we can clear them later, but that might clear variables for other skills running async.
-        // A unique prefix like "spell_midgard_var_" is safer.
+        return result.isSuccess();
+    }
 
-        return success;
+    /**
+     * Substitui os pares {@code chave, valor} e envia pelo MessageUtils, que aplica o PlaceholderAPI.
+     */
+    private void send(Player player, String path, String... placeholders) {
+        String message = module.getMessage(path);
+        for (int i = 0; i + 1 < placeholders.length; i += 2) {
+            message = message.replace(placeholders[i], placeholders[i + 1]);
+        }
+        me.ray.midgard.core.text.MessageUtils.send(player, message);
     }
 
 }
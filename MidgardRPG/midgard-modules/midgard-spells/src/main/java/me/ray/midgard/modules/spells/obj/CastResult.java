@@ -0,0 +1,19 @@
+package me.ray.midgard.modules.spells.obj;
+
+/**
+ * Resultado de uma tentativa de cast. Falhas são reportadas pelo código,
+ * sem montar mensagens; o feedback ao jogador é decidido por quem chamou.
+ */
+public enum CastResult {
+    SUCCESS,
+    UNKNOWN_SPELL,
+    NO_PROFILE,
+    ON_COOLDOWN,
+    SKILL_NOT_FOUND,
+    NO_MANA,
+    CAST_FAILED;
+
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+}
@@ -1,5 +1,10 @@
 package me.ray.midgard.modules.spells.obj;
 
+import io.lumine.mythic.api.skills.Skill;
+import me.ray.midgard.core.cooldown.CooldownRegistry;
+import me.ray.midgard.modules.spells.data.SpellProfile;
+import me.ray.midgard.modules.spells.projectile.ProjectileSpec;
+
 import java.util.List;
 
 public class Spell {
@@ -11,6 +16,13 @@ public class Spell {
     private final double cooldown; // seconds
     private final double manaCost;
     private final double staminaCost;
+    private final int cooldownId;
+
+    // Handle resolvido no load e a cada reload do MythicMobs; null se a skill não existe
+    private volatile Skill mythicSkill;
+
+    // Projétil nativo; quando presente substitui a skill do MythicMobs
+    private ProjectileSpec projectile;
 
     
     public Spell(String id, String mythicSkillName, String displayName, List<String> lore, double cooldown, double manaCost, double staminaCost) {
@@ -21,6 +33,7 @@ public class Spell {
         this.cooldown = cooldown;
         this.manaCost = manaCost;
         this.staminaCost = staminaCost;
+        this.cooldownId = CooldownRegistry.intern(SpellProfile.cooldownKey(id), true);
     }
 
     public String getId() {
@@ -52,4 +65,37 @@ public class Spell {
         return staminaCost;
     }
 
+    /**
+     * @return ID interno do cooldown desta spell (persistido no perfil).
+     */
+    public int getCooldownId() {
+        return cooldownId;
+    }
+
+    public Skill getMythicSkill() {
+        return mythicSkill;
+    }
+
+    public void setMythicSkill(Skill mythicSkill) {
+        this.mythicSkill = mythicSkill;
+    }
+
+    public boolean isSkillResolved() {
+        return mythicSkill != null;
+    }
+
+    public ProjectileSpec getProjectile() {
+        return projectile;
+    }
+
+    public void setProjectile(ProjectileSpec projectile) {
+        this.projectile = projectile;
+    }
+
+    /**
+     * @return true se a spell é executada pelo engine de projéteis nativo.
+     */
+    public boolean isNative() {
+        return projectile != null;
+    }
 }
@@ -0,0 +1,43 @@
+package me.ray.midgard.modules.spells.projectile;
+
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+
+/**
+ * Visual padrão configurável: partícula de rastro a cada tick e partícula de
+ * impacto ao atingir algo.
+ */
+public final class ParticleVisual implements ProjectileVisual {
+
+    private final Particle trail;
+    private final int count;
+    private final Particle impact;
+
+    public ParticleVisual(Particle trail, int count, Particle impact) {
+        this.trail = trail;
+        this.count = Math.max(1, count);
+        this.impact = impact;
+    }
+
+    @Override
+    public void onTick(World world, double x, double y, double z) {
+        if (trail != null) {
+            world.spawnParticle(trail, x, y, z, count, 0.05, 0.05, 0.05, 0.0);
+        }
+    }
+
+    @Override
+    public void onHit(LivingEntity target, double x, double y, double z) {
+        if (impact != null) {
+            target.getWorld().spawnParticle(impact, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
+        }
+    }
+
+    @Override
+    public void onEnd(World world, double x, double y, double z, boolean impact) {
+        if (impact && this.impact != null) {
+            world.spawnParticle(this.impact, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
+        }
+    }
+}
@@ -0,0 +1,500 @@
+package me.ray.midgard.modules.spells.projectile;
+
+import me.ray.midgard.core.utils.RayTraceUtils;
+import me.ray.midgard.modules.spells.api.SpellDamageApplier;
+import org.bukkit.Chunk;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Simulação nativa dos projéteis de spells.
+ * <p>
+ * Todos os projéteis ativos ficam em arrays planos (posição, velocidade, alcance
+ * restante...) e são avançados juntos em uma única tarefa por tick, em vez de um
+ * timer e uma busca de entidades por projétil. A cada tick:
+ * <ol>
+ *     <li>aplica a gravidade e coleta, uma vez, as entidades dos chunks cruzados
+ *     pelos segmentos do tick em um {@link SpatialHash} compartilhado;</li>
+ *     <li>para cada projétil, testa blocos com {@link RayTraceUtils} e entidades
+ *     do hash com um teste segmento x caixa, em ordem de distância;</li>
+ *     <li>compacta os arrays removendo os projéteis que terminaram.</li>
+ * </ol>
+ * Acertos chamam o {@link ProjectileHitHandler} do projétil; o padrão aplica o
+ * dano da spec pelo {@link SpellDamageApplier}. Hitscan não é simulado: é
+ * resolvido no lançamento com um raytrace.
+ */
+public class ProjectileEngine extends BukkitRunnable {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final double CELL_SIZE = 4.0;
+    // Meia-largura máxima das entidades coletadas pelo chunk em que estão
+    private static final double ENTITY_MARGIN = 2.0;
+    private static final double BEAM_STEP = 0.5;
+    private static final double EPSILON = 1.0E-9;
+    // Limite de mundos distintos por tick imposto pela chave do hash
+    private static final int MAX_WORLD_SLOTS = 64;
+
+    private final ProjectileHitHandler defaultHandler;
+    private final SpatialHash hash = new SpatialHash(CELL_SIZE);
+
+    private int count;
+    private double[] posX;
+    private double[] posY;
+    private double[] posZ;
+    private double[] velX;
+    private double[] velY;
+    private double[] velZ;
+    private double[] traveled;
+    private int[] ticksLeft;
+    private int[] pierceLeft;
+    private int[] slots;
+    private int[] hitCounts;
+    private int[][] hitIds;
+    private boolean[] alive;
+    private ProjectileSpec[] specs;
+    private LivingEntity[] casters;
+    private World[] worlds;
+    private ProjectileHitHandler[] handlers;
+
+    private World[] worldSlots = new World[4];
+    private int worldSlotCount;
+
+    private double[] candidateT = new double[8];
+    private int[] candidateIndex = new int[8];
+
+    public ProjectileEngine(SpellDamageApplier damageApplier) {
+        this.defaultHandler = (caster, target, spec) ->
+                damageApplier.damage(caster, target, spec.damage(), spec.damageType(), spec.element());
+        allocate(INITIAL_CAPACITY);
+    }
+
+    // ============================================
+    // LANÇAMENTO
+    // ============================================
+
+    public void launch(LivingEntity caster, ProjectileSpec spec, Location origin, Vector direction) {
+        launch(caster, spec, origin, direction, defaultHandler);
+    }
+
+    /**
+     * Lança um projétil (ou resolve um hitscan) a partir de {@code origin}.
+     */
+    public void launch(LivingEntity caster, ProjectileSpec spec, Location origin, Vector direction, ProjectileHitHandler handler) {
+        if (spec.hitscan()) {
+            hitscan(caster, spec, origin, direction, handler);
+            return;
+        }
+
+        double length = direction.length();
+        if (length < EPSILON || origin.getWorld() == null) return;
+
+        if (count == posX.length) allocate(count * 2);
+        int i = count++;
+        double scale = spec.speed() / length;
+        posX[i] = origin.getX();
+        posY[i] = origin.getY();
+        posZ[i] = origin.getZ();
+        velX[i] = direction.getX() * scale;
+        velY[i] = direction.getY() * scale;
+        velZ[i] = direction.getZ() * scale;
+        traveled[i] = 0.0;
+        ticksLeft[i] = spec.maxTicks();
+        pierceLeft[i] = spec.pierce();
+        hitIds[i] = spec.pierce() > 0 ? new int[spec.pierce() + 1] : null;
+        hitCounts[i] = 0;
+        alive[i] = true;
+        specs[i] = spec;
+        casters[i] = caster;
+        worlds[i] = origin.getWorld();
+        handlers[i] = handler;
+
+        spec.visual().onLaunch(worlds[i], posX[i], posY[i], posZ[i]);
+    }
+
+    /**
+     * Resolve um hitscan: raytrace imediato até o primeiro bloco ou entidade.
+     *
+     * @return Entidade atingida, ou null.
+     */
+    public LivingEntity hitscan(LivingEntity caster, ProjectileSpec spec, Location origin, Vector direction, ProjectileHitHandler handler) {
+        World world = origin.getWorld();
+        if (world == null || direction.lengthSquared() < EPSILON) return null;
+
+        Vector dir = direction.clone().normalize();
+        int casterId = caster.getEntityId();
+        Predicate<Entity> filter = entity -> entity.getEntityId() != casterId
+                && entity instanceof LivingEntity living && isTargetable(living);
+
+        RayTraceResult result = spec.hitBlocks()
+                ? RayTraceUtils.rayTrace(origin, dir, spec.range(), spec.radius(), filter)
+                : world.rayTraceEntities(origin, dir, spec.range(), spec.radius(), filter);
+
+        double distance = spec.range();
+        LivingEntity target = null;
+        if (result != null) {
+            distance = result.getHitPosition().distance(origin.toVector());
+            if (result.getHitEntity() instanceof LivingEntity living) target = living;
+        }
+
+        double ox = origin.getX(), oy = origin.getY(), oz = origin.getZ();
+        double dx = dir.getX(), dy = dir.getY(), dz = dir.getZ();
+        ProjectileVisual visual = spec.visual();
+        visual.onLaunch(world, ox, oy, oz);
+        for (double d = BEAM_STEP; d < distance; d += BEAM_STEP) {
+            visual.onTick(world, ox + dx * d, oy + dy * d, oz + dz * d);
+        }
+
+        double ex = ox + dx * distance, ey = oy + dy * distance, ez = oz + dz * distance;
+        if (target != null) {
+            visual.onHit(target, ex, ey, ez);
+            handler.onHit(caster, target, spec);
+        }
+        visual.onEnd(world, ex, ey, ez, result != null);
+        return target;
+    }
+
+    public ProjectileHitHandler getDefaultHandler() {
+        return defaultHandler;
+    }
+
+    public int getActiveCount() {
+        return count;
+    }
+
+    /**
+     * Descarta todos os projéteis sem disparar callbacks.
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) release(i);
+        count = 0;
+        hash.clear();
+    }
+
+    // ============================================
+    // SIMULAÇÃO
+    // ============================================
+
+    @Override
+    public void run() {
+        if (count == 0) return;
+
+        // Projéteis lançados durante os callbacks entram no próximo tick
+        int active = count;
+        indexEntities(active);
+
+        for (int i = 0; i < active; i++) {
+            if (alive[i]) step(i);
+        }
+
+        compact();
+        hash.clear();
+    }
+
+    private void indexEntities(int active) {
+        hash.clear();
+        Arrays.fill(worldSlots, 0, worldSlotCount, null);
+        worldSlotCount = 0;
+
+        for (int i = 0; i < active; i++) {
+            velY[i] -= specs[i].gravity();
+
+            World world = worlds[i];
+            int slot = worldSlot(world);
+            slots[i] = slot;
+            if (slot < 0) continue;
+
+            double reach = specs[i].radius() + ENTITY_MARGIN;
+            int minChunkX = (int) Math.floor(Math.min(posX[i], posX[i] + velX[i]) - reach) >> 4;
+            int maxChunkX = (int) Math.floor(Math.max(posX[i], posX[i] + velX[i]) + reach) >> 4;
+            int minChunkZ = (int) Math.floor(Math.min(posZ[i], posZ[i] + velZ[i]) - reach) >> 4;
+            int maxChunkZ = (int) Math.floor(Math.max(posZ[i], posZ[i] + velZ[i]) + reach) >> 4;
+
+            for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+                for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                    if (hash.markChunk(slot, cx, cz) && world.isChunkLoaded(cx, cz)) {
+                        indexChunk(world.getChunkAt(cx, cz), slot);
+                    }
+                }
+            }
+        }
+    }
+
+    private void indexChunk(Chunk chunk, int slot) {
+        for (Entity entity : chunk.getEntities()) {
+            if (entity instanceof LivingEntity living && isTargetable(living)) {
+                hash.insert(slot, living, living.getBoundingBox());
+            }
+        }
+    }
+
+    private void step(int i) {
+        ProjectileSpec spec = specs[i];
+        LivingEntity caster = casters[i];
+        if (!caster.isValid() || --ticksLeft[i] < 0) {
+            end(i, false);
+            return;
+        }
+
+        double x = posX[i], y = posY[i], z = posZ[i];
+        double dx = velX[i], dy = velY[i], dz = velZ[i];
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (length < EPSILON) {
+            end(i, false);
+            return;
+        }
+
+        // Fração do segmento deste tick que ainda vale (alcance e blocos)
+        double remaining = spec.range() - traveled[i];
+        boolean expires = length >= remaining;
+        double limit = expires ? remaining / length : 1.0;
+
+        boolean blocked = false;
+        if (spec.hitBlocks()) {
+            double blockDistance = RayTraceUtils.rayTraceBlocks(worlds[i], x, y, z, dx, dy, dz, length * limit);
+            if (blockDistance >= 0) {
+                limit = blockDistance / length;
+                blocked = true;
+            }
+        }
+
+        int candidates = collectCandidates(i, x, y, z, dx, dy, dz, limit);
+        for (int c = 0; c < candidates; c++) {
+            LivingEntity target = hash.entity(candidateIndex[c]);
+            if (!target.isValid() || target.isDead()) continue;
+
+            double t = candidateT[c];
+            recordHit(i, target.getEntityId());
+            spec.visual().onHit(target, x + dx * t, y + dy * t, z + dz * t);
+            handlers[i].onHit(caster, target, spec);
+
+            if (--pierceLeft[i] < 0) {
+                moveTo(i, t, length);
+                end(i, true);
+                return;
+            }
+        }
+
+        moveTo(i, limit, length);
+        spec.visual().onTick(worlds[i], posX[i], posY[i], posZ[i]);
+
+        if (blocked) {
+            end(i, true);
+        } else if (expires) {
+            end(i, false);
+        }
+    }
+
+    /**
+     * Entidades cruzadas pelo segmento até {@code limit}, ordenadas pela distância.
+     */
+    private int collectCandidates(int i, double x, double y, double z, double dx, double dy, double dz, double limit) {
+        if (slots[i] < 0) return 0;
+
+        double r = specs[i].radius();
+        double ex = x + dx * limit, ez = z + dz * limit;
+        int found = hash.query(slots[i], Math.min(x, ex) - r, Math.min(z, ez) - r, Math.max(x, ex) + r, Math.max(z, ez) + r);
+
+        int casterId = casters[i].getEntityId();
+        int n = 0;
+        for (int k = 0; k < found; k++) {
+            int index = hash.result(k);
+            int id = hash.entity(index).getEntityId();
+            if (id == casterId || wasHit(i, id)) continue;
+
+            double t = intersect(x, y, z, dx, dy, dz,
+                    hash.bound(index, 0) - r, hash.bound(index, 1) - r, hash.bound(index, 2) - r,
+                    hash.bound(index, 3) + r, hash.bound(index, 4) + r, hash.bound(index, 5) + r);
+            if (t < 0 || t > limit) continue;
+
+            if (n == candidateT.length) {
+                candidateT = Arrays.copyOf(candidateT, n * 2);
+                candidateIndex = Arrays.copyOf(candidateIndex, n * 2);
+            }
+            int p = n++;
+            while (p > 0 && candidateT[p - 1] > t) {
+                candidateT[p] = candidateT[p - 1];
+                candidateIndex[p] = candidateIndex[p - 1];
+                p--;
+            }
+            candidateT[p] = t;
+            candidateIndex[p] = index;
+        }
+        return n;
+    }
+
+    /**
+     * Teste de slab entre o segmento {@code p + t * d} e uma caixa.
+     *
+     * @return Menor t >= 0 dentro da caixa, ou -1 se não cruza.
+     */
+    static double intersect(double x, double y, double z, double dx, double dy, double dz,
+                            double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        double tMin = 0.0;
+        double tMax = Double.MAX_VALUE;
+
+        if (Math.abs(dx) < EPSILON) {
+            if (x < minX || x > maxX) return -1;
+        } else {
+            double t1 = (minX - x) / dx, t2 = (maxX - x) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return -1;
+        }
+
+        if (Math.abs(dy) < EPSILON) {
+            if (y < minY || y > maxY) return -1;
+        } else {
+            double t1 = (minY - y) / dy, t2 = (maxY - y) / dy;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return -1;
+        }
+
+        if (Math.abs(dz) < EPSILON) {
+            if (z < minZ || z > maxZ) return -1;
+        } else {
+            double t1 = (minZ - z) / dz, t2 = (maxZ - z) / dz;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return -1;
+        }
+        return tMin;
+    }
+
+    private static boolean isTargetable(LivingEntity entity) {
+        if (entity instanceof ArmorStand || entity.isDead()) return false;
+        return !(entity instanceof Player player) || player.getGameMode() != GameMode.SPECTATOR;
+    }
+
+    private void moveTo(int i, double t, double length) {
+        posX[i] += velX[i] * t;
+        posY[i] += velY[i] * t;
+        posZ[i] += velZ[i] * t;
+        traveled[i] += length * t;
+    }
+
+    private void end(int i, boolean impact) {
+        alive[i] = false;
+        specs[i].visual().onEnd(worlds[i], posX[i], posY[i], posZ[i], impact);
+    }
+
+    private boolean wasHit(int i, int entityId) {
+        int[] ids = hitIds[i];
+        if (ids == null) return false;
+        for (int k = 0; k < hitCounts[i]; k++) {
+            if (ids[k] == entityId) return true;
+        }
+        return false;
+    }
+
+    private void recordHit(int i, int entityId) {
+        int[] ids = hitIds[i];
+        if (ids != null && hitCounts[i] < ids.length) {
+            ids[hitCounts[i]++] = entityId;
+        }
+    }
+
+    private int worldSlot(World world) {
+        for (int s = 0; s < worldSlotCount; s++) {
+            if (worldSlots[s] == world) return s;
+        }
+        if (worldSlotCount == MAX_WORLD_SLOTS) return -1;
+        if (worldSlotCount == worldSlots.length) worldSlots = Arrays.copyOf(worldSlots, worldSlotCount * 2);
+        worldSlots[worldSlotCount] = world;
+        return worldSlotCount++;
+    }
+
+    // ============================================
+    // ARMAZENAMENTO
+    // ============================================
+
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            if (!alive[read]) continue;
+            if (write != read) move(read, write);
+            write++;
+        }
+        for (int i = write; i < count; i++) release(i);
+        count = write;
+    }
+
+    private void move(int from, int to) {
+        posX[to] = posX[from];
+        posY[to] = posY[from];
+        posZ[to] = posZ[from];
+        velX[to] = velX[from];
+        velY[to] = velY[from];
+        velZ[to] = velZ[from];
+        traveled[to] = traveled[from];
+        ticksLeft[to] = ticksLeft[from];
+        pierceLeft[to] = pierceLeft[from];
+        hitCounts[to] = hitCounts[from];
+        hitIds[to] = hitIds[from];
+        alive[to] = true;
+        specs[to] = specs[from];
+        casters[to] = casters[from];
+        worlds[to] = worlds[from];
+        handlers[to] = handlers[from];
+    }
+
+    private void release(int i) {
+        alive[i] = false;
+        hitIds[i] = null;
+        specs[i] = null;
+        casters[i] = null;
+        worlds[i] = null;
+        handlers[i] = null;
+    }
+
+    private void allocate(int capacity) {
+        if (posX == null) {
+            posX = new double[capacity];
+            posY = new double[capacity];
+            posZ = new double[capacity];
+            velX = new double[capacity];
+            velY = new double[capacity];
+            velZ = new double[capacity];
+            traveled = new double[capacity];
+            ticksLeft = new int[capacity];
+            pierceLeft = new int[capacity];
+            slots = new int[capacity];
+            hitCounts = new int[capacity];
+            hitIds = new int[capacity][];
+            alive = new boolean[capacity];
+            specs = new ProjectileSpec[capacity];
+            casters = new LivingEntity[capacity];
+            worlds = new World[capacity];
+            handlers = new ProjectileHitHandler[capacity];
+            return;
+        }
+        posX = Arrays.copyOf(posX, capacity);
+        posY = Arrays.copyOf(posY, capacity);
+        posZ = Arrays.copyOf(posZ, capacity);
+        velX = Arrays.copyOf(velX, capacity);
+        velY = Arrays.copyOf(velY, capacity);
+        velZ = Arrays.copyOf(velZ, capacity);
+        traveled = Arrays.copyOf(traveled, capacity);
+        ticksLeft = Arrays.copyOf(ticksLeft, capacity);
+        pierceLeft = Arrays.copyOf(pierceLeft, capacity);
+        slots = Arrays.copyOf(slots, capacity);
+        hitCounts = Arrays.copyOf(hitCounts, capacity);
+        hitIds = Arrays.copyOf(hitIds, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        specs = Arrays.copyOf(specs, capacity);
+        casters = Arrays.copyOf(casters, capacity);
+        worlds = Arrays.copyOf(worlds, capacity);
+        handlers = Arrays.copyOf(handlers, capacity);
+    }
+}
@@ -0,0 +1,12 @@
+package me.ray.midgard.modules.spells.projectile;
+
+import org.bukkit.entity.LivingEntity;
+
+/**
+ * Callback de acerto de um projétil ou hitscan. O padrão do engine aplica o
+ * dano da spec pelo {@link me.ray.midgard.modules.spells.api.SpellDamageApplier}.
+ */
+@FunctionalInterface
+public interface ProjectileHitHandler {
+    void onHit(LivingEntity caster, LivingEntity target, ProjectileSpec spec);
+}
@@ -0,0 +1,72 @@
+package me.ray.midgard.modules.spells.projectile;
+
+import me.ray.midgard.core.debug.MidgardLogger;
+import org.bukkit.Particle;
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Definição imutável de um projétil nativo, lida da seção {@code projectile}
+ * do arquivo da spell.
+ *
+ * @param hitscan    Acerto instantâneo por raytrace em vez de simulação.
+ * @param speed      Blocos por tick.
+ * @param radius     Raio de colisão com entidades.
+ * @param range      Distância máxima percorrida.
+ * @param gravity    Aceleração vertical por tick (blocos/tick²).
+ * @param pierce     Quantas entidades extras o projétil atravessa.
+ * @param hitBlocks  Se colide com blocos sólidos.
+ * @param damage     Dano base repassado ao DamageHandler.
+ * @param damageType Categoria de dano (PHYSICAL, MAGICAL, GLOBAL...).
+ * @param element    Elemento forçado, ou null.
+ * @param visual     Ganchos visuais.
+ */
+public record ProjectileSpec(boolean hitscan, double speed, double radius, double range, double gravity,
+                             int pierce, boolean hitBlocks, double damage, String damageType, String element,
+                             ProjectileVisual visual) {
+
+    private static final double MIN_SPEED = 0.05;
+
+    /**
+     * @return Ticks até o projétil expirar pelo alcance.
+     */
+    public int maxTicks() {
+        return hitscan ? 0 : (int) Math.ceil(range / speed) + 1;
+    }
+
+    public static ProjectileSpec fromConfig(String spellId, ConfigurationSection section) {
+        Particle trail = particle(spellId, section.getString("particle"));
+        Particle impact = particle(spellId, section.getString("impact-particle"));
+        ProjectileVisual visual = trail != null || impact != null
+                ? new ParticleVisual(trail, section.getInt("particle-count", 1), impact)
+                : ProjectileVisual.NONE;
+
+        String element = section.getString("element");
+        return new ProjectileSpec(
+                section.getBoolean("hitscan", false),
+                Math.max(MIN_SPEED, section.getDouble("speed", 1.0)),
+                Math.max(0.0, section.getDouble("radius", 0.3)),
+                Math.max(0.0, section.getDouble("range", 30.0)),
+                section.getDouble("gravity", 0.0),
+                Math.max(0, section.getInt("pierce", 0)),
+                section.getBoolean("hit-blocks", true),
+                section.getDouble("damage", 0.0),
+                section.getString("damage-type", "MAGICAL").toUpperCase(),
+                element != null ? element.toLowerCase() : null,
+                visual);
+    }
+
+    private static Particle particle(String spellId, String name) {
+        if (name == null || name.isEmpty()) return null;
+        try {
+            Particle particle = Particle.valueOf(name.toUpperCase());
+            if (particle.getDataType() != Void.class) {
+                MidgardLogger.warn("Partícula %s da spell %s exige dados extras e não é suportada.", name, spellId);
+                return null;
+            }
+            return particle;
+        } catch (IllegalArgumentException e) {
+            MidgardLogger.warn("Partícula inválida na spell %s: %s", spellId, name);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package me.ray.midgard.modules.spells.projectile;
+
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+
+/**
+ * Ganchos visuais de um projétil. Chamados na thread principal pelo
+ * {@link ProjectileEngine}; as coordenadas são passadas como primitivos para
+ * que implementações simples não precisem alocar Locations por tick.
+ */
+public interface ProjectileVisual {
+
+    ProjectileVisual NONE = new ProjectileVisual() {
+    };
+
+    default void onLaunch(World world, double x, double y, double z) {
+    }
+
+    /**
+     * Posição do projétil após o movimento do tick (ou um ponto do feixe, no hitscan).
+     */
+    default void onTick(World world, double x, double y, double z) {
+    }
+
+    default void onHit(LivingEntity target, double x, double y, double z) {
+    }
+
+    /**
+     * @param impact true se terminou em um bloco ou entidade, false se expirou.
+     */
+    default void onEnd(World world, double x, double y, double z, boolean impact) {
+    }
+}
@@ -0,0 +1,224 @@
+package me.ray.midgard.modules.spells.projectile;
+
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.BoundingBox;
+
+import java.util.Arrays;
+
+/**
+ * Hash espacial 2D (X/Z) de entidades, reconstruído a cada tick pelo
+ * {@link ProjectileEngine}.
+ * <p>
+ * As entidades ficam em arrays planos (caixa em {@code boxes}, 6 doubles por
+ * entidade) e cada célula é uma lista encadeada em {@code entryNext}. As tabelas
+ * são limpas por carimbo, então reconstruir o hash não aloca depois de aquecido.
+ * A chave da célula inclui o slot do mundo, permitindo vários mundos no mesmo hash.
+ */
+final class SpatialHash {
+
+    private final double cellSize;
+
+    private LivingEntity[] entities = new LivingEntity[64];
+    private double[] boxes = new double[64 * 6];
+    private int[] marks = new int[64];
+    private int entityCount;
+
+    private int[] entryEntity = new int[128];
+    private int[] entryNext = new int[128];
+    private int entryCount;
+
+    private final CellTable cells = new CellTable(256);
+    private final CellTable chunks = new CellTable(64);
+
+    private int[] results = new int[32];
+    private int queryMark;
+
+    SpatialHash(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    void clear() {
+        Arrays.fill(entities, 0, entityCount, null);
+        entityCount = 0;
+        entryCount = 0;
+        cells.clear();
+        chunks.clear();
+    }
+
+    /**
+     * Marca um chunk como já coletado neste tick.
+     *
+     * @return true se o chunk ainda não tinha sido marcado.
+     */
+    boolean markChunk(int worldSlot, int chunkX, int chunkZ) {
+        return chunks.put(key(worldSlot, chunkX, chunkZ), 1) == -1;
+    }
+
+    void insert(int worldSlot, LivingEntity entity, BoundingBox box) {
+        if (entityCount == entities.length) {
+            int capacity = entities.length * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            boxes = Arrays.copyOf(boxes, capacity * 6);
+            marks = Arrays.copyOf(marks, capacity);
+        }
+
+        int index = entityCount++;
+        entities[index] = entity;
+        marks[index] = 0;
+        int b = index * 6;
+        boxes[b] = box.getMinX();
+        boxes[b + 1] = box.getMinY();
+        boxes[b + 2] = box.getMinZ();
+        boxes[b + 3] = box.getMaxX();
+        boxes[b + 4] = box.getMaxY();
+        boxes[b + 5] = box.getMaxZ();
+
+        int minCellX = cell(boxes[b]);
+        int maxCellX = cell(boxes[b + 3]);
+        int minCellZ = cell(boxes[b + 2]);
+        int maxCellZ = cell(boxes[b + 5]);
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cz = minCellZ; cz <= maxCellZ; cz++) {
+                if (entryCount == entryEntity.length) {
+                    entryEntity = Arrays.copyOf(entryEntity, entryCount * 2);
+                    entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+                }
+                int entry = entryCount++;
+                entryEntity[entry] = index;
+                entryNext[entry] = cells.put(key(worldSlot, cx, cz), entry);
+            }
+        }
+    }
+
+    /**
+     * Coleta as entidades cujas células cruzam a área X/Z informada, sem repetir.
+     * Leia o resultado com {@link #result(int)}.
+     *
+     * @return Número de entidades encontradas.
+     */
+    int query(int worldSlot, double minX, double minZ, double maxX, double maxZ) {
+        if (++queryMark == 0) {
+            Arrays.fill(marks, 0);
+            queryMark = 1;
+        }
+
+        int found = 0;
+        int maxCellX = cell(maxX);
+        int maxCellZ = cell(maxZ);
+        for (int cx = cell(minX); cx <= maxCellX; cx++) {
+            for (int cz = cell(minZ); cz <= maxCellZ; cz++) {
+                for (int entry = cells.get(key(worldSlot, cx, cz)); entry != -1; entry = entryNext[entry]) {
+                    int index = entryEntity[entry];
+                    if (marks[index] == queryMark) continue;
+                    marks[index] = queryMark;
+                    if (found == results.length) results = Arrays.copyOf(results, found * 2);
+                    results[found++] = index;
+                }
+            }
+        }
+        return found;
+    }
+
+    int result(int i) {
+        return results[i];
+    }
+
+    LivingEntity entity(int index) {
+        return entities[index];
+    }
+
+    /**
+     * @param axis 0-2 mínimo X/Y/Z, 3-5 máximo X/Y/Z.
+     */
+    double bound(int index, int axis) {
+        return boxes[index * 6 + axis];
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    static long key(int worldSlot, int x, int z) {
+        return ((long) worldSlot << 58) | ((long) (x & 0x1FFFFFFF) << 29) | (z & 0x1FFFFFFF);
+    }
+
+    /**
+     * Tabela long -> int com endereçamento aberto e limpeza por carimbo.
+     */
+    private static final class CellTable {
+        private long[] keys;
+        private int[] values;
+        private int[] stamps;
+        private int size;
+        private int stamp = 1;
+
+        CellTable(int capacity) {
+            keys = new long[capacity];
+            values = new int[capacity];
+            stamps = new int[capacity];
+        }
+
+        void clear() {
+            size = 0;
+            if (++stamp == 0) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+        }
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; stamps[i] == stamp; i = (i + 1) & mask) {
+                if (keys[i] == key) return values[i];
+            }
+            return -1;
+        }
+
+        /**
+         * @return Valor anterior da chave, ou -1 se ela é nova.
+         */
+        int put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) grow();
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            for (; stamps[i] == stamp; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    int previous = values[i];
+                    values[i] = value;
+                    return previous;
+                }
+            }
+            stamps[i] = stamp;
+            keys[i] = key;
+            values[i] = value;
+            size++;
+            return -1;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            int[] oldStamps = stamps;
+            int oldStamp = stamp;
+
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            stamps = new int[oldKeys.length * 2];
+            stamp = 1;
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldStamps[j] != oldStamp) continue;
+                int i = mix(oldKeys[j]) & mask;
+                while (stamps[i] == stamp) i = (i + 1) & mask;
+                stamps[i] = stamp;
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -1,92 +1,286 @@
 package me.ray.midgard.modules.spells.task;
 
+import me.ray.midgard.core.text.ActionBarOverride;
 import me.ray.midgard.core.text.MessageUtils;
 import me.ray.midgard.modules.spells.SpellsModule;
 import me.ray.midgard.modules.spells.data.SpellProfile;
 import me.ray.midgard.modules.spells.manager.SpellManager;
 import me.ray.midgard.modules.spells.obj.Spell;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * Atualiza a action bar do modo de casting.
+ * <p>
+ * Cada slot guarda o estado com que foi desenhado (spell, status e segundo de
+ * cooldown). A cada execução só os slots cujo estado mudou são refeitos, a partir
+ * de segmentos pré-compilados por spell; se nada mudou o envio é pulado, exceto
+ * pelo reenvio na última execução antes de a action bar começar a desaparecer.
+ * <p>
+ * Enquanto outra mensagem reserva a action bar ({@link ActionBarOverride}) a barra
+ * não é enviada, e volta assim que a reserva termina; quem sobrescreve a action
+ * bar sem reserva chama {@link #refresh(Player)}.
+ */
 public class SkillBarTask extends BukkitRunnable {
 
+    private static final int SLOTS = 9;
+    private static final int COMBO_SLOTS = 6;
+    public static final long PERIOD_TICKS = 5L;
+    // O cliente mostra a action bar por 60 ticks; os últimos 20 são o fade-out
+    private static final int BAR_VISIBLE_TICKS = 40;
+    private static final int NEVER_SENT = Integer.MIN_VALUE / 2;
+
+    // Slot status codes; cooldown uses COOLDOWN + remaining seconds
+    private static final int EMPTY = 0;
+    private static final int ERROR = 1;
+    private static final int NO_MANA = 2;
+    private static final int READY = 3;
+    private static final int COMBO_SET = 4;
+    private static final int COMBO_DEFAULT = 5;
+    private static final int COOLDOWN = 16;
+
+    private static final Component SEPARATOR = Component.text("   ");
+    private static final Component COMBO_SEPARATOR = Component.text(" ");
+
     private final SpellsModule module;
     private final SpellManager manager;
 
+    private final Map<UUID, BarState> states = new HashMap<>();
+    private final Map<String, SpellSegments> segments = new HashMap<>();
+    private final Component[] emptySegments = new Component[SLOTS];
+    private final Component[] errorSegments = new Component[SLOTS];
+
     public SkillBarTask(SpellsModule module) {
         this.module = module;
         this.manager = module.getSpellManager();
+        for (int i = 0; i < SLOTS; i++) {
+            emptySegments[i] = MessageUtils.parse("<dark_gray>" + (i + 1) + ":✖");
+            errorSegments[i] = MessageUtils.parse("<red>" + (i + 1) + ":ERR");
+        }
     }
 
     @Override
     public void run() {
+        states.keySet().retainAll(manager.getCastingPlayers());
+
+        int tick = Bukkit.getCurrentTick();
         for (UUID uuid : manager.getCastingPlayers()) {
             Player player = Bukkit.getPlayer(uuid);
             if (player == null) continue;
 
-            updateActionBar(player);
+            updateActionBar(player, tick);
         }
     }
 
-    private void updateActionBar(Player player) {
+    private void updateActionBar(Player player, int tick) {
         SpellProfile profile = manager.getProfile(player);
         if (profile == null) return;
-        
+
+        BarState state = states.computeIfAbsent(player.getUniqueId(), id -> new BarState());
+        if (state.style != profile.getCastingStyle()) {
+            state.reset(profile.getCastingStyle());
+        }
+
+        if (ActionBarOverride.isHeld(player)) {
+            // A barra foi sobrescrita; reenvia assim que a reserva acabar
+            state.lastSent = NEVER_SENT;
+            return;
+        }
+
+        boolean changed = state.style == SpellProfile.CastingStyle.COMBO
+                ? updateCombo(profile, state)
+                : updateSkillBar(player, profile, state);
+
+        if (changed) {
+            state.bar = state.style == SpellProfile.CastingStyle.COMBO ? assembleCombo(state) : assembleSkillBar(state);
+        } else if (tick + PERIOD_TICKS < state.lastSent + BAR_VISIBLE_TICKS) {
+            // A próxima execução ainda chega antes do fade-out
+            return;
+        }
+
+        player.sendActionBar(state.bar);
+        state.lastSent = tick;
+    }
+
+    // ============================================
+    // SKILL BAR
+    // ============================================
+
+    private boolean updateSkillBar(Player player, SpellProfile profile, BarState state) {
         double currentMana = module.getResourceProvider().getMana(player);
+        boolean changed = false;
+
+        for (int i = 0; i < SLOTS; i++) {
+            String spellId = manager.getSkillInVirtualSlot(player, i);
+            Spell spell = spellId != null ? manager.getSpell(spellId) : null;
+
+            int status;
+            if (spellId == null) {
+                status = EMPTY;
+            } else if (spell == null) {
+                status = ERROR;
+            } else if (profile.isOnCooldown(spell.getCooldownId())) {
+                long cd = profile.getCooldownRemainingTicks(spell.getCooldownId()) / 20;
+                if (cd == 0) cd = 1;
+                status = COOLDOWN + (int) cd;
+            } else if (currentMana < spell.getManaCost()) {
+                status = NO_MANA;
+            } else {
+                status = READY;
+            }
 
-        StringBuilder bar = new StringBuilder();
-        
-        // Verifica o estilo
-        if (profile.getCastingStyle() == SpellProfile.CastingStyle.COMBO) {
-            bar.append(module.getMessage("actionbar.combo_prefix"));
-            for (int i = 1; i <= 6; i++) {
-                SpellProfile.ComboBinding binding = profile.getComboSlot(i);
-                String result;
-                if (binding != null && binding.getSpellId() != null) {
-                    Spell spell = manager.getSpell(binding.getSpellId());
-                    result = (spell != null) ? module.getMessage("actionbar.combo_set").replace("%sequence%", binding.getSequence()) 
-                                             : module.getMessage("actionbar.error");
-                } else {
-                     // Mostra sequencia vazia
-                     String seq = manager.getDefaultCombo(i);
-                     result = module.getMessage("actionbar.combo_default").replace("%sequence%", seq);
-                }
-                bar.append(result).append(" ");
+            if (status == state.status[i] && spell == state.spells[i]
+                    && (spell != null || Objects.equals(spellId, state.spellIds[i]))) {
+                continue;
             }
-        } else {
-            // Loop slots 1 to 6 (SkillBar Mode)
-            for (int i = 1; i <= 9; i++) {
-                String spellId = manager.getSkillInVirtualSlot(player, i - 1);
-                
-                if (spellId == null) {
-                   if (i <= 6) bar.append("<dark_gray>").append(i).append(":✖");
-                } else {
-                    Spell spell = manager.getSpell(spellId);
-                    if (spell == null) {
-                        bar.append("<red>").append(i).append(":ERR");
-                    } else {
-                        // Check status
-                        boolean cooldown = profile.isOnCooldown(spellId);
-                        boolean noMana = (currentMana < spell.getManaCost());
-                        
-                        if (cooldown) {
-                            long cd = profile.getCooldownRemainingKey(spellId) / 1000;
-                            if (cd == 0) cd = 1; 
-                            bar.append("<red>").append(i).append(":").append(spell.getDisplayName()).append(" ⏳").append(cd).append("s");
-                        } else if (noMana) {
-                            bar.append("<blue>").append(i).append(":").append(spell.getDisplayName());
-                        } else {
-                            bar.append("<green>").append(i).append(":").append(spell.getDisplayName());
-                        }
-                    }
-                }
-                 if (i < 9 && (i <= 6 || spellId != null)) bar.append("   ");
+
+            state.spellIds[i] = spellId;
+            state.spells[i] = spell;
+            state.status[i] = status;
+            state.segments[i] = renderSlot(i, spell, status);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private Component renderSlot(int index, Spell spell, int status) {
+        if (status == EMPTY) return index < COMBO_SLOTS ? emptySegments[index] : null;
+        if (status == ERROR) return errorSegments[index];
+
+        SpellSegments compiled = segments.get(spell.getId());
+        if (compiled == null || compiled.spell != spell) {
+            compiled = new SpellSegments(spell);
+            segments.put(spell.getId(), compiled);
+        }
+
+        if (status >= COOLDOWN) return compiled.cooldown(index, status - COOLDOWN);
+        return status == NO_MANA ? compiled.noMana(index) : compiled.ready(index);
+    }
+
+    private Component assembleSkillBar(BarState state) {
+        Component bar = Component.empty();
+        for (int i = 0; i < SLOTS; i++) {
+            if (state.segments[i] != null) bar = bar.append(state.segments[i]);
+            if (i < SLOTS - 1 && (i < COMBO_SLOTS || state.spellIds[i] != null)) bar = bar.append(SEPARATOR);
+        }
+        return bar;
+    }
+
+    // ============================================
+    // COMBO
+    // ============================================
+
+    private boolean updateCombo(SpellProfile profile, BarState state) {
+        boolean changed = false;
+
+        for (int i = 0; i < COMBO_SLOTS; i++) {
+            SpellProfile.ComboBinding binding = profile.getComboSlot(i + 1);
+
+            String sequence;
+            int status;
+            if (binding != null && binding.getSpellId() != null) {
+                sequence = binding.getSequence();
+                status = manager.getSpell(binding.getSpellId()) != null ? COMBO_SET : ERROR;
+            } else {
+                sequence = manager.getDefaultCombo(i + 1);
+                status = COMBO_DEFAULT;
+            }
+
+            if (status == state.status[i] && Objects.equals(sequence, state.spellIds[i])) {
+                continue;
+            }
+
+            state.spellIds[i] = sequence;
+            state.status[i] = status;
+            state.segments[i] = switch (status) {
+                case COMBO_SET -> MessageUtils.parse(module.getMessage("actionbar.combo_set").replace("%sequence%", sequence));
+                case COMBO_DEFAULT -> MessageUtils.parse(module.getMessage("actionbar.combo_default").replace("%sequence%", sequence));
+                default -> MessageUtils.parse(module.getMessage("actionbar.error"));
+            };
+            changed = true;
+        }
+        return changed;
+    }
+
+    private Component assembleCombo(BarState state) {
+        Component bar = MessageUtils.parse(module.getMessage("actionbar.combo_prefix"));
+        for (int i = 0; i < COMBO_SLOTS; i++) {
+            bar = bar.append(state.segments[i]).append(COMBO_SEPARATOR);
+        }
+        return bar;
+    }
+
+    /**
+     * Força o reenvio da barra na próxima execução (ex: após limpar a action bar).
+     */
+    public void refresh(Player player) {
+        BarState state = states.get(player.getUniqueId());
+        if (state != null) state.lastSent = NEVER_SENT;
+    }
+
+    // ============================================
+    // STATE
+    // ============================================
+
+    private static final class BarState {
+        SpellProfile.CastingStyle style;
+        final String[] spellIds = new String[SLOTS]; // combo mode: sequence
+        final Spell[] spells = new Spell[SLOTS];
+        final int[] status = new int[SLOTS];
+        final Component[] segments = new Component[SLOTS];
+        Component bar = Component.empty();
+        int lastSent = NEVER_SENT;
+
+        void reset(SpellProfile.CastingStyle style) {
+            this.style = style;
+            Arrays.fill(spellIds, null);
+            Arrays.fill(spells, null);
+            Arrays.fill(status, -1);
+            Arrays.fill(segments, null);
+        }
+    }
+
+    /**
+     * Segmentos pré-compilados de uma spell para cada slot (1-9).
+     */
+    private static final class SpellSegments {
+        final Spell spell;
+        private final Component[] ready = new Component[SLOTS];
+        private final Component[] noMana = new Component[SLOTS];
+        private final Component[] cooldownPrefix = new Component[SLOTS];
+
+        SpellSegments(Spell spell) {
+            this.spell = spell;
+        }
+
+        Component ready(int index) {
+            if (ready[index] == null) {
+                ready[index] = MessageUtils.parse("<green>" + (index + 1) + ":" + spell.getDisplayName());
+            }
+            return ready[index];
+        }
+
+        Component noMana(int index) {
+            if (noMana[index] == null) {
+                noMana[index] = MessageUtils.parse("<blue>" + (index + 1) + ":" + spell.getDisplayName());
+            }
+            return noMana[index];
+        }
+
+        Component cooldown(int index, int seconds) {
+            if (cooldownPrefix[index] == null) {
+                cooldownPrefix[index] = MessageUtils.parse("<red>" + (index + 1) + ":" + spell.getDisplayName() + " ⏳");
             }
+            return cooldownPrefix[index].append(Component.text(seconds + "s", NamedTextColor.RED));
         }
-        
-        MessageUtils.sendActionBar(player, bar.toString());
     }
 }
@@ -0,0 +1,74 @@
+package me.ray.midgard.modules.territory;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Guilda dona de chunks. O {@code id} numérico é o valor gravado no índice de
+ * claims (0 significa "sem dono"); ao apagar um território os claims dele
+ * são removidos antes, para que o ID possa ser reaproveitado sem herança.
+ */
+public class Territory {
+
+    private final int id;
+    private final String name;
+    private UUID leader;
+    private final Set<UUID> members = new HashSet<>();
+    private int claimCount;
+
+    public Territory(int id, String name, UUID leader) {
+        this.id = id;
+        this.name = name;
+        this.leader = leader;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * ID exposto pelo {@link me.ray.midgard.core.region.RegionManager}.
+     */
+    public String getRegionId() {
+        return "territory:" + name.toLowerCase(Locale.ROOT);
+    }
+
+    public UUID getLeader() {
+        return leader;
+    }
+
+    public void setLeader(UUID leader) {
+        this.leader = leader;
+    }
+
+    public boolean isMember(UUID uuid) {
+        return uuid.equals(leader) || members.contains(uuid);
+    }
+
+    public Set<UUID> getMembers() {
+        return Collections.unmodifiableSet(members);
+    }
+
+    public boolean addMember(UUID uuid) {
+        return members.add(uuid);
+    }
+
+    public boolean removeMember(UUID uuid) {
+        return members.remove(uuid);
+    }
+
+    public int getClaimCount() {
+        return claimCount;
+    }
+
+    void adjustClaimCount(int delta) {
+        claimCount += delta;
+    }
+}
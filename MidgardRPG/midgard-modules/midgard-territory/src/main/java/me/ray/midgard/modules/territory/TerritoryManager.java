@@ -0,0 +1,275 @@
+package me.ray.midgard.modules.territory;
+
+import me.ray.midgard.core.debug.MidgardLogger;
+import me.ray.midgard.core.region.RegionManager;
+import me.ray.midgard.modules.territory.claim.ClaimIndex;
+import me.ray.midgard.modules.territory.claim.RegionSnapshot;
+import me.ray.midgard.modules.territory.storage.TerritoryRepository;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Territórios e claims de chunks.
+ * <p>
+ * Cada mundo tem um {@link ClaimIndex}; os territórios ficam em um array
+ * indexado pelo ID gravado no índice, então {@link #getOwner(World, int, int)}
+ * não aloca nem percorre coleções. Alterações são gravadas em lote pelo
+ * {@link #flush()} periódico. Uso exclusivo da thread principal.
+ */
+public class TerritoryManager {
+
+    public static final String BYPASS_PERMISSION = "midgard.territory.bypass";
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_]{3,16}");
+
+    private final JavaPlugin plugin;
+    private final TerritoryRepository repository;
+    private final int maxClaims;
+
+    private final Map<UUID, ClaimIndex> indexes = new HashMap<>();
+    private Territory[] territories = new Territory[16];
+    private final Map<String, Territory> byName = new HashMap<>();
+    private final Map<UUID, Territory> byMember = new HashMap<>();
+    private int nextId = 1;
+    private boolean loaded;
+
+    // Eventos em sequência quase sempre vêm do mesmo mundo
+    private World lastWorld;
+    private ClaimIndex lastIndex;
+
+    public TerritoryManager(JavaPlugin plugin, TerritoryRepository repository, int maxClaims) {
+        this.plugin = plugin;
+        this.repository = repository;
+        this.maxClaims = maxClaims;
+    }
+
+    // ============================================
+    // CARREGAMENTO E PERSISTÊNCIA
+    // ============================================
+
+    /**
+     * Carrega os dados do banco de forma assíncrona e os aplica na thread principal.
+     */
+    public void load() {
+        repository.loadAll().thenAccept(data -> {
+            if (data == null) return;
+            Bukkit.getScheduler().runTask(plugin, () -> apply(data));
+        });
+    }
+
+    private void apply(TerritoryRepository.LoadedData data) {
+        for (Territory territory : data.territories()) {
+            register(territory);
+            nextId = Math.max(nextId, territory.getId() + 1);
+        }
+
+        int claims = 0;
+        for (Map.Entry<UUID, List<RegionSnapshot>> entry : data.regions().entrySet()) {
+            ClaimIndex index = indexes.computeIfAbsent(entry.getKey(), id -> new ClaimIndex());
+            for (RegionSnapshot snapshot : entry.getValue()) {
+                index.load(snapshot.regionX(), snapshot.regionZ(), snapshot.owners());
+            }
+            int[] count = new int[1];
+            index.forEach((chunkX, chunkZ, owner) -> {
+                Territory territory = getTerritory(owner);
+                if (territory != null) territory.adjustClaimCount(1);
+                count[0]++;
+            });
+            claims += count[0];
+        }
+
+        // Consultas feitas antes do carregamento podem ter guardado um índice nulo
+        lastWorld = null;
+        lastIndex = null;
+        loaded = true;
+        RegionManager.getInstance().invalidate();
+        MidgardLogger.info("Carregados %d territórios com %d chunks.", data.territories().size(), claims);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Envia as regiões alteradas para gravação assíncrona.
+     */
+    public void flush() {
+        for (Map.Entry<UUID, ClaimIndex> entry : indexes.entrySet()) {
+            if (!entry.getValue().hasDirty()) continue;
+            repository.saveRegions(entry.getKey(), entry.getValue().drainDirty());
+        }
+    }
+
+    /**
+     * Grava tudo de forma síncrona (desligamento).
+     */
+    public void shutdown() {
+        Map<UUID, List<RegionSnapshot>> remaining = new HashMap<>();
+        for (Map.Entry<UUID, ClaimIndex> entry : indexes.entrySet()) {
+            if (entry.getValue().hasDirty()) remaining.put(entry.getKey(), entry.getValue().drainDirty());
+        }
+        repository.flushSync(remaining);
+        lastWorld = null;
+        lastIndex = null;
+    }
+
+    // ============================================
+    // CONSULTAS
+    // ============================================
+
+    /**
+     * @return ID do território dono do chunk, ou {@link ClaimIndex#UNCLAIMED}.
+     */
+    public int getOwner(World world, int chunkX, int chunkZ) {
+        ClaimIndex index = lastIndex;
+        if (world != lastWorld) {
+            index = indexes.get(world.getUID());
+            lastWorld = world;
+            lastIndex = index;
+        }
+        return index != null ? index.owner(chunkX, chunkZ) : ClaimIndex.UNCLAIMED;
+    }
+
+    public Territory getTerritoryAt(World world, int chunkX, int chunkZ) {
+        return getTerritory(getOwner(world, chunkX, chunkZ));
+    }
+
+    /**
+     * Verifica se o jogador pode modificar o chunk (construir, interagir, ferir entidades).
+     */
+    public boolean canModify(Player player, World world, int chunkX, int chunkZ) {
+        int owner = getOwner(world, chunkX, chunkZ);
+        if (owner == ClaimIndex.UNCLAIMED) return true;
+
+        Territory territory = getTerritory(owner);
+        return territory == null || territory.isMember(player.getUniqueId()) || player.hasPermission(BYPASS_PERMISSION);
+    }
+
+    public Territory getTerritory(int id) {
+        return id > 0 && id < territories.length ? territories[id] : null;
+    }
+
+    public Territory getTerritory(String name) {
+        return byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public Territory getTerritoryOf(UUID member) {
+        return byMember.get(member);
+    }
+
+    public Collection<Territory> getTerritories() {
+        return Collections.unmodifiableCollection(byName.values());
+    }
+
+    // ============================================
+    // ALTERAÇÕES
+    // ============================================
+
+    public enum Result {
+        SUCCESS, INVALID_NAME, NAME_TAKEN, ALREADY_MEMBER, NOT_MEMBER, ALREADY_OWNED, OCCUPIED, LIMIT_REACHED, NOT_CLAIMED
+    }
+
+    public Result create(String name, Player leader) {
+        if (!NAME_PATTERN.matcher(name).matches()) return Result.INVALID_NAME;
+        if (getTerritory(name) != null) return Result.NAME_TAKEN;
+        if (byMember.containsKey(leader.getUniqueId())) return Result.ALREADY_MEMBER;
+
+        Territory territory = new Territory(nextId++, name, leader.getUniqueId());
+        register(territory);
+        repository.saveTerritory(territory);
+        return Result.SUCCESS;
+    }
+
+    public void delete(Territory territory) {
+        for (Map.Entry<UUID, ClaimIndex> entry : indexes.entrySet()) {
+            if (entry.getValue().clearOwner(territory.getId()) == 0) continue;
+            World world = Bukkit.getWorld(entry.getKey());
+            if (world != null) RegionManager.getInstance().invalidate(world);
+        }
+        // Claims apagados são gravados antes do território sumir do banco
+        flush();
+        repository.deleteTerritory(territory.getId());
+
+        territories[territory.getId()] = null;
+        byName.remove(territory.getName().toLowerCase(Locale.ROOT));
+        byMember.values().removeIf(t -> t == territory);
+    }
+
+    public Result claim(Territory territory, World world, int chunkX, int chunkZ) {
+        int owner = getOwner(world, chunkX, chunkZ);
+        if (owner == territory.getId()) return Result.ALREADY_OWNED;
+        if (owner != ClaimIndex.UNCLAIMED) return Result.OCCUPIED;
+        if (maxClaims > 0 && territory.getClaimCount() >= maxClaims) return Result.LIMIT_REACHED;
+
+        index(world).set(chunkX, chunkZ, territory.getId());
+        territory.adjustClaimCount(1);
+        RegionManager.getInstance().invalidateChunk(world, chunkX, chunkZ);
+        return Result.SUCCESS;
+    }
+
+    public Result unclaim(Territory territory, World world, int chunkX, int chunkZ) {
+        if (getOwner(world, chunkX, chunkZ) != territory.getId()) return Result.NOT_CLAIMED;
+
+        index(world).set(chunkX, chunkZ, ClaimIndex.UNCLAIMED);
+        territory.adjustClaimCount(-1);
+        RegionManager.getInstance().invalidateChunk(world, chunkX, chunkZ);
+        return Result.SUCCESS;
+    }
+
+    public Result addMember(Territory territory, UUID member) {
+        if (byMember.containsKey(member)) return Result.ALREADY_MEMBER;
+
+        territory.addMember(member);
+        byMember.put(member, territory);
+        repository.saveTerritory(territory);
+        return Result.SUCCESS;
+    }
+
+    public Result removeMember(Territory territory, UUID member) {
+        if (member.equals(territory.getLeader()) || !territory.removeMember(member)) return Result.NOT_MEMBER;
+
+        byMember.remove(member);
+        repository.saveTerritory(territory);
+        return Result.SUCCESS;
+    }
+
+    /**
+     * Esquece o mundo em cache para não segurar a referência após o unload.
+     */
+    public void onWorldUnload(World world) {
+        if (world == lastWorld) {
+            lastWorld = null;
+            lastIndex = null;
+        }
+    }
+
+    private ClaimIndex index(World world) {
+        ClaimIndex index = indexes.computeIfAbsent(world.getUID(), id -> new ClaimIndex());
+        if (world == lastWorld) lastIndex = index;
+        return index;
+    }
+
+    private void register(Territory territory) {
+        if (territory.getId() >= territories.length) {
+            territories = Arrays.copyOf(territories, Math.max(territories.length * 2, territory.getId() + 1));
+        }
+        territories[territory.getId()] = territory;
+        byName.put(territory.getName().toLowerCase(Locale.ROOT), territory);
+        byMember.put(territory.getLeader(), territory);
+        for (UUID member : territory.getMembers()) {
+            byMember.put(member, territory);
+        }
+    }
+}
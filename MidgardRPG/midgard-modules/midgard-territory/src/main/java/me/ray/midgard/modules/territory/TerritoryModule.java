@@ -0,0 +1,94 @@
+package me.ray.midgard.modules.territory;
+
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.core.RPGModule;
+import me.ray.midgard.core.database.DatabaseManager;
+import me.ray.midgard.core.region.RegionManager;
+import me.ray.midgard.modules.territory.command.TerritoryCommand;
+import me.ray.midgard.modules.territory.integration.TerritoryRegionProvider;
+import me.ray.midgard.modules.territory.listener.TerritoryProtectionListener;
+import me.ray.midgard.modules.territory.storage.TerritoryRepository;
+import org.bukkit.event.HandlerList;
+import org.bukkit.scheduler.BukkitTask;
+
+public class TerritoryModule extends RPGModule {
+
+    private static TerritoryModule instance;
+
+    private TerritoryManager territoryManager;
+    private TerritoryProtectionListener protectionListener;
+    private TerritoryRegionProvider regionProvider;
+    private TerritoryCommand command;
+    private BukkitTask saveTask;
+
+    public TerritoryModule() {
+        super("MidgardTerritory");
+    }
+
+    public static TerritoryModule getInstance() {
+        return instance;
+    }
+
+    @Override
+    public void onEnable() {
+        instance = this;
+
+        DatabaseManager databaseManager = MidgardCore.getDatabaseManager();
+        if (databaseManager == null) {
+            plugin.getLogger().severe("MidgardTerritory requer o banco de dados; módulo não habilitado.");
+            return;
+        }
+
+        TerritoryRepository repository = new TerritoryRepository(databaseManager);
+        territoryManager = new TerritoryManager(plugin, repository, getConfig().getInt("claims.max-per-territory", 64));
+        territoryManager.load();
+
+        protectionListener = new TerritoryProtectionListener(territoryManager, getConfig().getConfigurationSection("protection"));
+        plugin.getServer().getPluginManager().registerEvents(protectionListener, plugin);
+
+        RegionManager regionManager = RegionManager.getInstance();
+        regionProvider = new TerritoryRegionProvider(territoryManager, regionManager.getProvider());
+        regionManager.setProvider(regionProvider);
+
+        long interval = Math.max(1, getConfig().getInt("storage.save-interval-seconds", 30)) * 20L;
+        saveTask = plugin.getServer().getScheduler().runTaskTimer(plugin, territoryManager::flush, interval, interval);
+
+        command = new TerritoryCommand(territoryManager);
+        MidgardCore.getCommandManager().registerCommand(command);
+
+        plugin.getLogger().info("MidgardTerritory habilitado! Modulo de territorios carregado.");
+    }
+
+    @Override
+    public void onDisable() {
+        if (saveTask != null) {
+            saveTask.cancel();
+            saveTask = null;
+        }
+        if (protectionListener != null) {
+            HandlerList.unregisterAll(protectionListener);
+            protectionListener = null;
+        }
+
+        RegionManager regionManager = RegionManager.getInstance();
+        if (regionProvider != null && regionManager.getProvider() == regionProvider) {
+            regionManager.setProvider(regionProvider.getDelegate());
+        }
+        regionProvider = null;
+
+        if (command != null && MidgardCore.getCommandManager() != null) {
+            MidgardCore.getCommandManager().unregisterCommand(command.getName());
+            command.getAliases().forEach(MidgardCore.getCommandManager()::unregisterCommand);
+            command = null;
+        }
+        if (territoryManager != null) {
+            territoryManager.shutdown();
+            territoryManager = null;
+        }
+        instance = null;
+    }
+
+    public TerritoryManager getTerritoryManager() {
+        return territoryManager;
+    }
+}
@@ -0,0 +1,278 @@
+package me.ray.midgard.modules.territory.claim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Índice de claims de um mundo, organizado como os arquivos de região do
+ * Minecraft: cada região cobre 32x32 chunks e guarda o dono de cada chunk em
+ * um {@code int[1024]}. As regiões ficam em uma tabela long -> região com
+ * endereçamento aberto, indexada pelas coordenadas empacotadas, então
+ * {@link #owner(int, int)} é uma sondagem na tabela e um acesso a array.
+ * <p>
+ * Regiões sem nenhum claim são descartadas após serem persistidas. As
+ * alterações marcam a região como suja; {@link #drainDirty()} tira um
+ * snapshot delas para gravação assíncrona.
+ * <p>
+ * Não é thread-safe: use apenas na thread principal.
+ */
+public final class ClaimIndex {
+
+    public static final int UNCLAIMED = 0;
+
+    public static final int REGION_SHIFT = 5;
+    public static final int REGION_MASK = (1 << REGION_SHIFT) - 1;
+    public static final int REGION_AREA = 1 << (REGION_SHIFT * 2);
+
+    private long[] keys = new long[16];
+    private Region[] regions = new Region[16];
+    private int size;
+
+    // Eventos consecutivos costumam cair na mesma região
+    private Region last;
+
+    private final List<Region> dirty = new ArrayList<>();
+
+    /**
+     * @return ID do território dono do chunk, ou {@link #UNCLAIMED}.
+     */
+    public int owner(int chunkX, int chunkZ) {
+        Region region = region(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+        return region != null ? region.owners[index(chunkX, chunkZ)] : UNCLAIMED;
+    }
+
+    /**
+     * Define o dono do chunk ({@link #UNCLAIMED} remove o claim).
+     *
+     * @return Dono anterior.
+     */
+    public int set(int chunkX, int chunkZ, int owner) {
+        int regionX = chunkX >> REGION_SHIFT;
+        int regionZ = chunkZ >> REGION_SHIFT;
+        Region region = region(regionX, regionZ);
+        if (region == null) {
+            if (owner == UNCLAIMED) return UNCLAIMED;
+            region = insert(regionX, regionZ);
+        }
+
+        int index = index(chunkX, chunkZ);
+        int previous = region.owners[index];
+        if (previous == owner) return previous;
+
+        region.owners[index] = owner;
+        if (previous == UNCLAIMED) region.claimed++;
+        else if (owner == UNCLAIMED) region.claimed--;
+        markDirty(region);
+        return previous;
+    }
+
+    /**
+     * Remove todos os claims de um dono.
+     *
+     * @return Número de chunks liberados.
+     */
+    public int clearOwner(int owner) {
+        int cleared = 0;
+        for (Region region : regions) {
+            if (region == null || region.claimed == 0) continue;
+
+            int[] owners = region.owners;
+            int before = cleared;
+            for (int i = 0; i < REGION_AREA; i++) {
+                if (owners[i] == owner) {
+                    owners[i] = UNCLAIMED;
+                    cleared++;
+                }
+            }
+            if (cleared != before) {
+                region.claimed -= cleared - before;
+                markDirty(region);
+            }
+        }
+        return cleared;
+    }
+
+    /**
+     * Carrega uma região persistida, sem marcá-la como suja.
+     *
+     * @param owners Donos dos 1024 chunks (o array passa a pertencer ao índice).
+     */
+    public void load(int regionX, int regionZ, int[] owners) {
+        if (owners.length != REGION_AREA) {
+            throw new IllegalArgumentException("Região com " + owners.length + " chunks; esperado " + REGION_AREA);
+        }
+
+        int claimed = 0;
+        for (int owner : owners) {
+            if (owner != UNCLAIMED) claimed++;
+        }
+        if (claimed == 0) return;
+
+        Region region = region(regionX, regionZ);
+        if (region == null) region = insert(regionX, regionZ);
+        System.arraycopy(owners, 0, region.owners, 0, REGION_AREA);
+        region.claimed = claimed;
+    }
+
+    /**
+     * Percorre todos os claims do índice.
+     */
+    public void forEach(ClaimVisitor visitor) {
+        for (Region region : regions) {
+            if (region == null || region.claimed == 0) continue;
+            int baseX = region.x << REGION_SHIFT;
+            int baseZ = region.z << REGION_SHIFT;
+            for (int i = 0; i < REGION_AREA; i++) {
+                int owner = region.owners[i];
+                if (owner != UNCLAIMED) {
+                    visitor.visit(baseX + (i & REGION_MASK), baseZ + (i >> REGION_SHIFT), owner);
+                }
+            }
+        }
+    }
+
+    public boolean hasDirty() {
+        return !dirty.isEmpty();
+    }
+
+    /**
+     * Copia as regiões alteradas desde a última chamada e limpa as marcas.
+     * Regiões que ficaram vazias saem da tabela; o snapshot delas tem
+     * {@code owners == null}, indicando remoção.
+     */
+    public List<RegionSnapshot> drainDirty() {
+        if (dirty.isEmpty()) return List.of();
+
+        List<RegionSnapshot> snapshots = new ArrayList<>(dirty.size());
+        for (Region region : dirty) {
+            region.dirty = false;
+            if (region.claimed == 0) {
+                remove(region.x, region.z);
+                snapshots.add(new RegionSnapshot(region.x, region.z, null));
+            } else {
+                snapshots.add(new RegionSnapshot(region.x, region.z, region.owners.clone()));
+            }
+        }
+        dirty.clear();
+        return snapshots;
+    }
+
+    /**
+     * @return Número de regiões em memória.
+     */
+    public int getRegionCount() {
+        return size;
+    }
+
+    public static long regionKey(int regionX, int regionZ) {
+        return ((long) regionX << 32) | (regionZ & 0xFFFFFFFFL);
+    }
+
+    private static int index(int chunkX, int chunkZ) {
+        return ((chunkZ & REGION_MASK) << REGION_SHIFT) | (chunkX & REGION_MASK);
+    }
+
+    private void markDirty(Region region) {
+        if (!region.dirty) {
+            region.dirty = true;
+            dirty.add(region);
+        }
+    }
+
+    // ============================================
+    // TABELA DE REGIÕES
+    // ============================================
+
+    private Region region(int regionX, int regionZ) {
+        Region cached = last;
+        if (cached != null && cached.x == regionX && cached.z == regionZ) return cached;
+
+        long key = regionKey(regionX, regionZ);
+        int mask = keys.length - 1;
+        for (int i = mix(key) & mask; regions[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                last = regions[i];
+                return regions[i];
+            }
+        }
+        return null;
+    }
+
+    private Region insert(int regionX, int regionZ) {
+        if ((size + 1) * 2 > keys.length) grow();
+
+        Region region = new Region(regionX, regionZ);
+        long key = regionKey(regionX, regionZ);
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (regions[i] != null) i = (i + 1) & mask;
+        keys[i] = key;
+        regions[i] = region;
+        size++;
+        last = region;
+        return region;
+    }
+
+    private void remove(int regionX, int regionZ) {
+        long key = regionKey(regionX, regionZ);
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (regions[i] != null && keys[i] != key) i = (i + 1) & mask;
+        if (regions[i] == null) return;
+
+        if (last == regions[i]) last = null;
+        regions[i] = null;
+        size--;
+
+        // Deslocamento para trás: mantém as cadeias de sondagem sem lápides
+        int hole = i;
+        for (int j = (i + 1) & mask; regions[j] != null; j = (j + 1) & mask) {
+            int home = mix(keys[j]) & mask;
+            boolean movable = hole <= j ? (home <= hole || home > j) : (home <= hole && home > j);
+            if (movable) {
+                keys[hole] = keys[j];
+                regions[hole] = regions[j];
+                regions[j] = null;
+                hole = j;
+            }
+        }
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        Region[] oldRegions = regions;
+        keys = new long[oldKeys.length * 2];
+        regions = new Region[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldRegions[j] == null) continue;
+            int i = mix(oldKeys[j]) & mask;
+            while (regions[i] != null) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            regions[i] = oldRegions[j];
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Region {
+        final int x;
+        final int z;
+        final int[] owners = new int[REGION_AREA];
+        int claimed;
+        boolean dirty;
+
+        Region(int x, int z) {
+            this.x = x;
+            this.z = z;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ClaimVisitor {
+        void visit(int chunkX, int chunkZ, int owner);
+    }
+}
@@ -0,0 +1,13 @@
+package me.ray.midgard.modules.territory.claim;
+
+/**
+ * Cópia de uma região do {@link ClaimIndex} para persistência.
+ *
+ * @param owners Donos dos 1024 chunks, ou null se a região ficou vazia.
+ */
+public record RegionSnapshot(int regionX, int regionZ, int[] owners) {
+
+    public boolean isEmpty() {
+        return owners == null;
+    }
+}
@@ -0,0 +1,142 @@
+package me.ray.midgard.modules.territory.command;
+
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.core.command.MidgardCommand;
+import me.ray.midgard.core.i18n.LanguageManager;
+import me.ray.midgard.core.text.MessageUtils;
+import me.ray.midgard.modules.territory.Territory;
+import me.ray.midgard.modules.territory.TerritoryManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * /rpg territory &lt;create|delete|claim|unclaim|info|add|remove&gt;
+ */
+public class TerritoryCommand extends MidgardCommand {
+
+    private final TerritoryManager manager;
+
+    public TerritoryCommand(TerritoryManager manager) {
+        super("territory", "midgard.territory.use", true);
+        this.manager = manager;
+    }
+
+    @Override
+    public List<String> getAliases() {
+        return List.of("territorio", "guild");
+    }
+
+    @Override
+    public void execute(CommandSender sender, String[] args) {
+        Player player = (Player) sender;
+        if (args.length == 0) {
+            send(player, "territory.command.usage");
+            return;
+        }
+        if (!manager.isLoaded()) {
+            send(player, "territory.command.loading");
+            return;
+        }
+
+        String sub = args[0].toLowerCase(Locale.ROOT);
+        switch (sub) {
+            case "create" -> {
+                if (args.length < 2) {
+                    send(player, "territory.command.usage");
+                    return;
+                }
+                TerritoryManager.Result result = manager.create(args[1], player);
+                sendResult(player, result, "create", args[1]);
+            }
+            case "info" -> {
+                Chunk chunk = player.getLocation().getChunk();
+                Territory territory = manager.getTerritoryAt(player.getWorld(), chunk.getX(), chunk.getZ());
+                if (territory == null) {
+                    send(player, "territory.info.wilderness");
+                } else {
+                    OfflinePlayer leader = Bukkit.getOfflinePlayer(territory.getLeader());
+                    send(player, "territory.info.owned",
+                            "%territory%", territory.getName(),
+                            "%leader%", leader.getName() != null ? leader.getName() : territory.getLeader().toString(),
+                            "%claims%", String.valueOf(territory.getClaimCount()),
+                            "%members%", String.valueOf(territory.getMembers().size() + 1));
+                }
+            }
+            case "delete", "claim", "unclaim", "add", "remove" -> {
+                Territory territory = manager.getTerritoryOf(player.getUniqueId());
+                if (territory == null) {
+                    send(player, "territory.command.no_territory");
+                    return;
+                }
+                if (!territory.getLeader().equals(player.getUniqueId())) {
+                    send(player, "territory.command.not_leader");
+                    return;
+                }
+                leaderAction(player, territory, sub, args);
+            }
+            default -> send(player, "territory.command.usage");
+        }
+    }
+
+    private void leaderAction(Player player, Territory territory, String sub, String[] args) {
+        switch (sub) {
+            case "delete" -> {
+                manager.delete(territory);
+                send(player, "territory.delete.success", "%territory%", territory.getName());
+            }
+            case "claim", "unclaim" -> {
+                Chunk chunk = player.getLocation().getChunk();
+                TerritoryManager.Result result = sub.equals("claim")
+                        ? manager.claim(territory, player.getWorld(), chunk.getX(), chunk.getZ())
+                        : manager.unclaim(territory, player.getWorld(), chunk.getX(), chunk.getZ());
+                sendResult(player, result, sub, territory.getName());
+            }
+            case "add", "remove" -> {
+                if (args.length < 2) {
+                    send(player, "territory.command.usage");
+                    return;
+                }
+                OfflinePlayer target = Bukkit.getOfflinePlayerIfCached(args[1]);
+                if (target == null) {
+                    send(player, "territory.command.player_not_found", "%player%", args[1]);
+                    return;
+                }
+                TerritoryManager.Result result = sub.equals("add")
+                        ? manager.addMember(territory, target.getUniqueId())
+                        : manager.removeMember(territory, target.getUniqueId());
+                sendResult(player, result, sub, args[1]);
+            }
+            default -> send(player, "territory.command.usage");
+        }
+    }
+
+    private void sendResult(Player player, TerritoryManager.Result result, String action, String value) {
+        String key = result == TerritoryManager.Result.SUCCESS
+                ? "territory." + action + ".success"
+                : "territory.error." + result.name().toLowerCase(Locale.ROOT);
+        send(player, key, "%territory%", value, "%player%", value);
+    }
+
+    private void send(Player player, String key, String... placeholders) {
+        LanguageManager language = MidgardCore.getLanguageManager();
+        MessageUtils.send(player, language.getMessage(key, placeholders));
+    }
+
+    @Override
+    public List<String> tabComplete(CommandSender sender, String[] args) {
+        if (args.length == 1) {
+            return match(args[0], "create", "delete", "claim", "unclaim", "info", "add", "remove");
+        }
+        if (args.length == 2 && (args[0].equalsIgnoreCase("add") || args[0].equalsIgnoreCase("remove"))) {
+            return match(args[1], onlinePlayers());
+        }
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,64 @@
+package me.ray.midgard.modules.territory.integration;
+
+import me.ray.midgard.core.region.ChunkRegions;
+import me.ray.midgard.core.region.RegionProvider;
+import me.ray.midgard.modules.territory.Territory;
+import me.ray.midgard.modules.territory.TerritoryManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Expõe territórios pelo {@link me.ray.midgard.core.region.RegionManager}
+ * como regiões {@code territory:<nome>} que cobrem o chunk inteiro, somadas às
+ * do provedor que já estava instalado (ex: WorldGuard).
+ */
+public class TerritoryRegionProvider implements RegionProvider {
+
+    private final TerritoryManager manager;
+    private final RegionProvider delegate;
+
+    public TerritoryRegionProvider(TerritoryManager manager, RegionProvider delegate) {
+        this.manager = manager;
+        this.delegate = delegate;
+    }
+
+    public RegionProvider getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Set<String> getRegions(Location location) {
+        Set<String> regions = delegate.getRegions(location);
+        Territory territory = territoryAt(location);
+        if (territory == null) return regions;
+
+        Set<String> merged = new HashSet<>(regions);
+        merged.add(territory.getRegionId());
+        return merged;
+    }
+
+    @Override
+    public ChunkRegions getChunkRegions(World world, int chunkX, int chunkZ) {
+        ChunkRegions regions = delegate.getChunkRegions(world, chunkX, chunkZ);
+        // Sem suporte por chunk no provedor original o RegionManager usa getRegions
+        if (regions == null) return null;
+
+        Territory territory = manager.getTerritoryAt(world, chunkX, chunkZ);
+        return territory != null ? regions.withCovering(territory.getRegionId()) : regions;
+    }
+
+    @Override
+    public void setChangeListener(Consumer<World> listener) {
+        delegate.setChangeListener(listener);
+    }
+
+    private Territory territoryAt(Location location) {
+        World world = location.getWorld();
+        if (world == null) return null;
+        return manager.getTerritoryAt(world, location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+}
@@ -0,0 +1,133 @@
+package me.ray.midgard.modules.territory.listener;
+
+import me.ray.midgard.core.MidgardCore;
+import me.ray.midgard.modules.territory.Territory;
+import me.ray.midgard.modules.territory.TerritoryManager;
+import me.ray.midgard.modules.territory.claim.ClaimIndex;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Monster;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Protege chunks de territórios contra quem não é membro. Cada evento faz uma
+ * única consulta {@link TerritoryManager#getOwner}; chunks livres saem antes de
+ * qualquer checagem de permissão.
+ */
+public class TerritoryProtectionListener implements Listener {
+
+    private final TerritoryManager manager;
+    private final boolean protectBreak;
+    private final boolean protectPlace;
+    private final boolean protectInteract;
+    private final boolean protectEntities;
+    private final boolean pvp;
+
+    public TerritoryProtectionListener(TerritoryManager manager, ConfigurationSection config) {
+        this.manager = manager;
+        this.protectBreak = config == null || config.getBoolean("block-break", true);
+        this.protectPlace = config == null || config.getBoolean("block-place", true);
+        this.protectInteract = config == null || config.getBoolean("interact", true);
+        this.protectEntities = config == null || config.getBoolean("entity-damage", true);
+        this.pvp = config == null || config.getBoolean("pvp", true);
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onBreak(BlockBreakEvent event) {
+        if (protectBreak && denied(event.getPlayer(), event.getBlock())) {
+            event.setCancelled(true);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onPlace(BlockPlaceEvent event) {
+        if (protectPlace && denied(event.getPlayer(), event.getBlock())) {
+            event.setCancelled(true);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOW)
+    public void onInteract(PlayerInteractEvent event) {
+        if (!protectInteract) return;
+        Block block = event.getClickedBlock();
+        if (block == null) return;
+
+        if (event.getAction() == Action.PHYSICAL) {
+            // Pisotear plantações, placas de pressão; sem mensagem
+            if (!manager.canModify(event.getPlayer(), block.getWorld(), block.getX() >> 4, block.getZ() >> 4)) {
+                event.setCancelled(true);
+            }
+        } else if (event.getAction() == Action.RIGHT_CLICK_BLOCK
+                && event.useInteractedBlock() != Event.Result.DENY
+                && denied(event.getPlayer(), block)) {
+            // Bloqueia só o bloco; o item na mão continua utilizável
+            event.setUseInteractedBlock(Event.Result.DENY);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onDamage(EntityDamageByEntityEvent event) {
+        Player attacker = attacker(event.getDamager());
+        if (attacker == null) return;
+
+        Entity victim = event.getEntity();
+        if (victim instanceof Monster) return;
+
+        Location location = victim.getLocation();
+        World world = location.getWorld();
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+
+        if (victim instanceof Player) {
+            if (!pvp && manager.getOwner(world, chunkX, chunkZ) != ClaimIndex.UNCLAIMED) {
+                event.setCancelled(true);
+                notifyDenied(attacker, world, chunkX, chunkZ);
+            }
+        } else if (protectEntities && !manager.canModify(attacker, world, chunkX, chunkZ)) {
+            event.setCancelled(true);
+            notifyDenied(attacker, world, chunkX, chunkZ);
+        }
+    }
+
+    @EventHandler
+    public void onWorldUnload(WorldUnloadEvent event) {
+        manager.onWorldUnload(event.getWorld());
+    }
+
+    private boolean denied(Player player, Block block) {
+        World world = block.getWorld();
+        int chunkX = block.getX() >> 4;
+        int chunkZ = block.getZ() >> 4;
+        if (manager.canModify(player, world, chunkX, chunkZ)) return false;
+
+        notifyDenied(player, world, chunkX, chunkZ);
+        return true;
+    }
+
+    private void notifyDenied(Player player, World world, int chunkX, int chunkZ) {
+        Territory territory = manager.getTerritoryAt(world, chunkX, chunkZ);
+        if (territory == null) return;
+        player.sendActionBar(MidgardCore.getLanguageManager()
+                .getMessage("territory.protection.denied", "%territory%", territory.getName()));
+    }
+
+    private static Player attacker(Entity damager) {
+        if (damager instanceof Player player) return player;
+        if (damager instanceof Projectile projectile && projectile.getShooter() instanceof Player shooter) return shooter;
+        return null;
+    }
+}
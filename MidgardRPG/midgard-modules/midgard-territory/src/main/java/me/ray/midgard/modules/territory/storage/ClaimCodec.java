@@ -0,0 +1,53 @@
+package me.ray.midgard.modules.territory.storage;
+
+import me.ray.midgard.modules.territory.claim.ClaimIndex;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Formato binário de uma região de claims no banco.
+ * <p>
+ * Só os chunks com dono são gravados: versão (1 byte), quantidade (short) e,
+ * para cada claim, o índice do chunk na região (short) e o dono (int). Uma
+ * região com poucos claims ocupa poucos bytes em vez dos 4 KB do array cheio.
+ */
+final class ClaimCodec {
+
+    private static final byte VERSION = 1;
+
+    private ClaimCodec() {
+    }
+
+    static byte[] encode(int[] owners) {
+        int count = 0;
+        for (int owner : owners) {
+            if (owner != ClaimIndex.UNCLAIMED) count++;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(3 + count * 6);
+        buffer.put(VERSION);
+        buffer.putShort((short) count);
+        for (int i = 0; i < owners.length; i++) {
+            if (owners[i] == ClaimIndex.UNCLAIMED) continue;
+            buffer.putShort((short) i);
+            buffer.putInt(owners[i]);
+        }
+        return buffer.array();
+    }
+
+    static int[] decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Versão de região desconhecida: " + version);
+        }
+
+        int[] owners = new int[ClaimIndex.REGION_AREA];
+        int count = buffer.getShort() & 0xFFFF;
+        for (int n = 0; n < count; n++) {
+            int index = buffer.getShort() & 0xFFFF;
+            owners[index] = buffer.getInt();
+        }
+        return owners;
+    }
+}
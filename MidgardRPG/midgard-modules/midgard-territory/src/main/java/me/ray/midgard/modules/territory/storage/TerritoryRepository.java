@@ -0,0 +1,233 @@
+package me.ray.midgard.modules.territory.storage;
+
+import me.ray.midgard.core.database.DatabaseManager;
+import me.ray.midgard.core.debug.MidgardLogger;
+import me.ray.midgard.modules.territory.Territory;
+import me.ray.midgard.modules.territory.claim.ClaimIndex;
+import me.ray.midgard.modules.territory.claim.RegionSnapshot;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Persistência de territórios e claims.
+ * <p>
+ * Claims são gravados por região (32x32 chunks), uma linha por região com o
+ * conteúdo em {@link ClaimCodec}; só as regiões alteradas são reescritas e as
+ * que ficaram vazias são apagadas. As gravações são encadeadas para que um
+ * flush nunca ultrapasse o anterior.
+ */
+public class TerritoryRepository {
+
+    private final DatabaseManager databaseManager;
+    private final boolean sqlite;
+    private CompletableFuture<Void> writeChain = CompletableFuture.completedFuture(null);
+
+    public TerritoryRepository(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+        this.sqlite = "sqlite".equalsIgnoreCase(databaseManager.getDatabaseType());
+        initTables();
+    }
+
+    private void initTables() {
+        databaseManager.execute(conn -> {
+            try (PreparedStatement territories = conn.prepareStatement(
+                    "CREATE TABLE IF NOT EXISTS midgard_territories (" +
+                            "id INT PRIMARY KEY, " +
+                            "name VARCHAR(32), " +
+                            "leader VARCHAR(36), " +
+                            "members TEXT" +
+                            ")");
+                 PreparedStatement regions = conn.prepareStatement(
+                    "CREATE TABLE IF NOT EXISTS midgard_territory_regions (" +
+                            "world VARCHAR(36), " +
+                            "region BIGINT, " +
+                            "data BLOB, " +
+                            "PRIMARY KEY (world, region)" +
+                            ")")) {
+                territories.executeUpdate();
+                regions.executeUpdate();
+            } catch (SQLException e) {
+                MidgardLogger.error("Erro ao criar tabelas de territórios", e);
+            }
+        });
+    }
+
+    /**
+     * Carrega territórios e regiões de forma assíncrona. As regiões já chegam
+     * decodificadas, prontas para {@link ClaimIndex#load}.
+     */
+    public CompletableFuture<LoadedData> loadAll() {
+        return databaseManager.executeQuery(conn -> {
+            List<Territory> territories = new ArrayList<>();
+            Map<UUID, List<RegionSnapshot>> regions = new HashMap<>();
+
+            try (PreparedStatement ps = conn.prepareStatement("SELECT id, name, leader, members FROM midgard_territories");
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Territory territory = new Territory(rs.getInt("id"), rs.getString("name"),
+                            UUID.fromString(rs.getString("leader")));
+                    String members = rs.getString("members");
+                    if (members != null && !members.isEmpty()) {
+                        for (String member : members.split(",")) {
+                            territory.addMember(UUID.fromString(member));
+                        }
+                    }
+                    territories.add(territory);
+                }
+            } catch (SQLException | IllegalArgumentException e) {
+                MidgardLogger.error("Falha ao carregar territórios", e);
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement("SELECT world, region, data FROM midgard_territory_regions");
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long key = rs.getLong("region");
+                    try {
+                        UUID world = UUID.fromString(rs.getString("world"));
+                        int[] owners = ClaimCodec.decode(rs.getBytes("data"));
+                        regions.computeIfAbsent(world, id -> new ArrayList<>())
+                                .add(new RegionSnapshot((int) (key >> 32), (int) key, owners));
+                    } catch (RuntimeException e) {
+                        MidgardLogger.error("Região de claims corrompida ignorada: " + key, e);
+                    }
+                }
+            } catch (SQLException e) {
+                MidgardLogger.error("Falha ao carregar claims de territórios", e);
+            }
+
+            return new LoadedData(territories, regions);
+        });
+    }
+
+    /**
+     * Grava as regiões alteradas de um mundo (assíncrono, em lote).
+     */
+    public CompletableFuture<Void> saveRegions(UUID world, List<RegionSnapshot> snapshots) {
+        // Snapshots são cópias; a codificação roda junto com a gravação
+        return chain(conn -> writeRegions(conn, world, encode(snapshots)));
+    }
+
+    public CompletableFuture<Void> saveTerritory(Territory territory) {
+        int id = territory.getId();
+        String name = territory.getName();
+        String leader = territory.getLeader().toString();
+        StringBuilder members = new StringBuilder();
+        for (UUID member : territory.getMembers()) {
+            if (members.length() > 0) members.append(',');
+            members.append(member);
+        }
+        String memberList = members.toString();
+
+        String sql = sqlite
+                ? "INSERT INTO midgard_territories (id, name, leader, members) VALUES (?, ?, ?, ?) " +
+                  "ON CONFLICT(id) DO UPDATE SET name = excluded.name, leader = excluded.leader, members = excluded.members"
+                : "INSERT INTO midgard_territories (id, name, leader, members) VALUES (?, ?, ?, ?) " +
+                  "ON DUPLICATE KEY UPDATE name = VALUES(name), leader = VALUES(leader), members = VALUES(members)";
+
+        return chain(conn -> {
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setInt(1, id);
+                ps.setString(2, name);
+                ps.setString(3, leader);
+                ps.setString(4, memberList);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                MidgardLogger.error("Falha ao salvar território " + name, e);
+            }
+        });
+    }
+
+    public CompletableFuture<Void> deleteTerritory(int id) {
+        return chain(conn -> {
+            try (PreparedStatement ps = conn.prepareStatement("DELETE FROM midgard_territories WHERE id = ?")) {
+                ps.setInt(1, id);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                MidgardLogger.error("Falha ao apagar território " + id, e);
+            }
+        });
+    }
+
+    /**
+     * Aguarda as gravações pendentes e grava as regiões restantes na thread
+     * atual. Usado no desligamento, antes do pool de conexões fechar.
+     */
+    public void flushSync(Map<UUID, List<RegionSnapshot>> remaining) {
+        try {
+            writeChain.join();
+        } catch (Exception e) {
+            MidgardLogger.error("Falha em gravação pendente de territórios", e);
+        }
+
+        for (Map.Entry<UUID, List<RegionSnapshot>> entry : remaining.entrySet()) {
+            List<EncodedRegion> encoded = encode(entry.getValue());
+            databaseManager.execute(conn -> writeRegions(conn, entry.getKey(), encoded));
+        }
+    }
+
+    private CompletableFuture<Void> chain(Consumer<Connection> action) {
+        writeChain = writeChain
+                .exceptionally(e -> null)
+                .thenCompose(v -> databaseManager.executeAsync(action));
+        return writeChain;
+    }
+
+    private void writeRegions(Connection conn, UUID world, List<EncodedRegion> regions) {
+        String upsert = sqlite
+                ? "INSERT INTO midgard_territory_regions (world, region, data) VALUES (?, ?, ?) " +
+                  "ON CONFLICT(world, region) DO UPDATE SET data = excluded.data"
+                : "INSERT INTO midgard_territory_regions (world, region, data) VALUES (?, ?, ?) " +
+                  "ON DUPLICATE KEY UPDATE data = VALUES(data)";
+
+        try (PreparedStatement save = conn.prepareStatement(upsert);
+             PreparedStatement delete = conn.prepareStatement(
+                     "DELETE FROM midgard_territory_regions WHERE world = ? AND region = ?")) {
+            String worldId = world.toString();
+            int saves = 0;
+            int deletes = 0;
+            for (EncodedRegion region : regions) {
+                if (region.data() == null) {
+                    delete.setString(1, worldId);
+                    delete.setLong(2, region.key());
+                    delete.addBatch();
+                    deletes++;
+                } else {
+                    save.setString(1, worldId);
+                    save.setLong(2, region.key());
+                    save.setBytes(3, region.data());
+                    save.addBatch();
+                    saves++;
+                }
+            }
+            if (saves > 0) save.executeBatch();
+            if (deletes > 0) delete.executeBatch();
+        } catch (SQLException e) {
+            MidgardLogger.error("Falha ao salvar claims do mundo " + world, e);
+        }
+    }
+
+    private static List<EncodedRegion> encode(List<RegionSnapshot> snapshots) {
+        List<EncodedRegion> encoded = new ArrayList<>(snapshots.size());
+        for (RegionSnapshot snapshot : snapshots) {
+            long key = ClaimIndex.regionKey(snapshot.regionX(), snapshot.regionZ());
+            encoded.add(new EncodedRegion(key, snapshot.isEmpty() ? null : ClaimCodec.encode(snapshot.owners())));
+        }
+        return encoded;
+    }
+
+    private record EncodedRegion(long key, byte[] data) {
+    }
+
+    public record LoadedData(List<Territory> territories, Map<UUID, List<RegionSnapshot>> regions) {
+    }
+}